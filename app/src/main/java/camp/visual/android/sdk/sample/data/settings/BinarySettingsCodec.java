@@ -0,0 +1,166 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 설정 이진 형식.
+ * 헤더: magic(4) | version(2) | reserved(2) | payload 길이(4) | payload CRC32(4)
+ * payload(v1): 기능 플래그 비트(4) | float/long/int 값 | enum 이름(길이 1바이트 + ASCII) | OneEuroFilter double 값
+ * enum은 순서가 바뀌어도 안전하도록 이름으로 저장한다. 새 필드는 payload 끝에 붙이고 version을 올린다.
+ */
+public final class BinarySettingsCodec {
+
+    static final int MAGIC = 0x475A5354; // "GZST"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // 기능 플래그 비트
+    private static final int FLAG_SCROLL = 1;
+    private static final int FLAG_CLICK = 1 << 1;
+    private static final int FLAG_EDGE_SCROLL = 1 << 2;
+    private static final int FLAG_BLINK = 1 << 3;
+    private static final int FLAG_CURSOR_PREDICTION = 1 << 4;
+    private static final int FLAG_TARGET_SNAP = 1 << 5;
+    private static final int FLAG_AUTO_ONE_POINT = 1 << 6;
+
+    private static final int MAX_PAYLOAD = 4096;
+
+    private BinarySettingsCodec() {}
+
+    public static byte[] encode(UserSettings settings) {
+        ByteBuffer payload = ByteBuffer.allocate(MAX_PAYLOAD);
+        int flags = 0;
+        if (settings.isScrollEnabled()) flags |= FLAG_SCROLL;
+        if (settings.isClickEnabled()) flags |= FLAG_CLICK;
+        if (settings.isEdgeScrollEnabled()) flags |= FLAG_EDGE_SCROLL;
+        if (settings.isBlinkDetectionEnabled()) flags |= FLAG_BLINK;
+        if (settings.isCursorPredictionEnabled()) flags |= FLAG_CURSOR_PREDICTION;
+        if (settings.isTargetSnapEnabled()) flags |= FLAG_TARGET_SNAP;
+        if (settings.isAutoOnePointCalibrationEnabled()) flags |= FLAG_AUTO_ONE_POINT;
+        payload.putInt(flags);
+
+        payload.putFloat(settings.getFixationDurationMs());
+        payload.putFloat(settings.getAoiRadius());
+        payload.putFloat(settings.getEdgeMarginRatio());
+        payload.putLong(settings.getEdgeTriggerMs());
+        payload.putInt(settings.getContinuousScrollCount());
+        payload.putFloat(settings.getScrollFlingVelocity());
+        payload.putFloat(settings.getCursorOffsetX());
+        payload.putFloat(settings.getCursorOffsetY());
+
+        putName(payload, settings.getEdgeScrollMode().name());
+        putName(payload, settings.getGapPolicy().name());
+        putName(payload, settings.getGazeFilterType().name());
+        putName(payload, settings.getOneEuroFilterPreset().name());
+
+        payload.putDouble(settings.getOneEuroFreq());
+        payload.putDouble(settings.getOneEuroMinCutoff());
+        payload.putDouble(settings.getOneEuroBeta());
+        payload.putDouble(settings.getOneEuroDCutoff());
+
+        int length = payload.position();
+        CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, length);
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + length);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) 0);
+        out.putInt(length);
+        out.putInt((int) crc.getValue());
+        out.put(payload.array(), 0, length);
+        return out.array();
+    }
+
+    /**
+     * @param buffer 파일 전체 (position 0부터)
+     * @return 형식이 맞지 않거나 손상되었으면 null
+     */
+    public static UserSettings decode(ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                return null;
+            }
+            short version = buffer.getShort();
+            buffer.getShort(); // reserved
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (version < 1 || version > VERSION || length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            if (crc32(payload) != expectedCrc) {
+                return null;
+            }
+            return decodeV1(payload);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UserSettings decodeV1(ByteBuffer payload) {
+        int flags = payload.getInt();
+        UserSettings.Builder builder = new UserSettings.Builder()
+                .scrollEnabled((flags & FLAG_SCROLL) != 0)
+                .clickEnabled((flags & FLAG_CLICK) != 0)
+                .edgeScrollEnabled((flags & FLAG_EDGE_SCROLL) != 0)
+                .blinkDetectionEnabled((flags & FLAG_BLINK) != 0)
+                .cursorPredictionEnabled((flags & FLAG_CURSOR_PREDICTION) != 0)
+                .targetSnapEnabled((flags & FLAG_TARGET_SNAP) != 0)
+                .autoOnePointCalibrationEnabled((flags & FLAG_AUTO_ONE_POINT) != 0)
+                .fixationDurationMs(payload.getFloat())
+                .aoiRadius(payload.getFloat())
+                .edgeMarginRatio(payload.getFloat())
+                .edgeTriggerMs(payload.getLong())
+                .continuousScrollCount(payload.getInt())
+                .scrollFlingVelocity(payload.getFloat())
+                .cursorOffsetX(payload.getFloat())
+                .cursorOffsetY(payload.getFloat())
+                .edgeScrollMode(EdgeScrollMode.fromName(getName(payload)))
+                .gapPolicy(GapPolicy.fromName(getName(payload)))
+                .gazeFilterType(GazeFilterType.fromName(getName(payload)))
+                .oneEuroFilterPreset(OneEuroFilterPreset.fromName(getName(payload)));
+        return builder
+                .oneEuroFreq(payload.getDouble())
+                .oneEuroMinCutoff(payload.getDouble())
+                .oneEuroBeta(payload.getDouble())
+                .oneEuroDCutoff(payload.getDouble())
+                .build();
+    }
+
+    static int crc32(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[256];
+        ByteBuffer view = payload.duplicate();
+        while (view.hasRemaining()) {
+            int n = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, n);
+            crc.update(chunk, 0, n);
+        }
+        return (int) crc.getValue();
+    }
+
+    private static void putName(ByteBuffer buffer, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+        buffer.put((byte) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getName(ByteBuffer buffer) {
+        int length = buffer.get() & 0xFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,101 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 앱 설정 저장소 (프로세스당 하나, getInstance).
+ * BinarySettingsCodec 형식의 작은 파일을 메모리 매핑해 첫 getUserSettings에서만 읽는다.
+ * 파일이 없거나 손상되었으면 기존 SharedPreferences XML 키에서 옮겨 오고 이진 파일로 다시 기록한다 (XML은 그대로 둔다).
+ * 기록은 임시 파일에 쓰고 fsync한 뒤 이름을 바꿔 교체하므로, 도중에 프로세스가 죽어도 이전 파일이 남는다.
+ */
+public class BinarySettingsRepository extends WriteBehindSettingsRepository {
+    private static final String TAG = "BinarySettings";
+    static final String FILE_NAME = "settings.bin";
+
+    private static BinarySettingsRepository instance;
+
+    private final Context context;
+    private final File file;
+    private boolean migrated = false;
+
+    public static synchronized BinarySettingsRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new BinarySettingsRepository(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private BinarySettingsRepository(Context context) {
+        this.context = context;
+        this.file = new File(context.getFilesDir(), FILE_NAME);
+    }
+
+    @Override
+    protected UserSettings load() {
+        UserSettings settings = read(file);
+        if (settings != null) {
+            return settings;
+        }
+        Log.i(TAG, "이진 설정 없음/손상 - XML 설정에서 옮김");
+        migrated = true;
+        return new SharedPrefsSettingsRepository(context).load();
+    }
+
+    @Override
+    protected boolean needsRewriteAfterLoad() {
+        return migrated;
+    }
+
+    @Override
+    protected boolean write(UserSettings settings) {
+        try {
+            writeAtomically(file, BinarySettingsCodec.encode(settings));
+            return true;
+        } catch (IOException e) {
+            Log.e(TAG, "설정 파일 기록 실패: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return 파일이 없거나 형식이 맞지 않으면 null
+     */
+    static UserSettings read(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return BinarySettingsCodec.decode(buffer);
+        } catch (IOException e) {
+            Log.w(TAG, "설정 파일 읽기 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일에 쓰고 디스크에 내린 뒤 대상 파일로 이름을 바꾼다 (같은 디렉터리 안의 rename은 원자적)
+     */
+    static void writeAtomically(File target, byte[] data) throws IOException {
+        File temp = new File(target.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+        if (!temp.renameTo(target)) {
+            temp.delete();
+            throw new IOException("rename failed: " + temp + " -> " + target);
+        }
+    }
+}
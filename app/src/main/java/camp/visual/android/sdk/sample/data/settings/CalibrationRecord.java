@@ -0,0 +1,168 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 저장된 SDK 캘리브레이션 한 건 (화면 회전 방향별로 하나씩 저장).
+ * 헤더는 BinarySettingsCodec과 같은 모양이다: magic(4) | version(2) | reserved(2) | payload 길이(4) | payload CRC32(4)
+ * payload(v1): 회전(4) | 화면 너비/높이(4+4) | 저장 시각 ms(8) | 통합 오프셋 x/y(4+4)
+ *              | SDK 버전(길이 1바이트 + UTF-8) | 캘리브레이션 값 개수(4) | double 값
+ */
+public final class CalibrationRecord {
+
+    static final int MAGIC = 0x475A434C; // "GZCL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // 캘리브레이션 벡터 길이 상한 (손상된 길이 값으로 큰 배열을 만들지 않도록)
+    private static final int MAX_VALUES = 1024;
+
+    private final int rotation;
+    private final int screenWidth;
+    private final int screenHeight;
+    private final long savedAtMillis;
+    private final float offsetX;
+    private final float offsetY;
+    private final String sdkVersion;
+    private final double[] calibrationData;
+
+    public CalibrationRecord(int rotation, int screenWidth, int screenHeight, long savedAtMillis,
+                             float offsetX, float offsetY, String sdkVersion, double[] calibrationData) {
+        this.rotation = rotation;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.savedAtMillis = savedAtMillis;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.sdkVersion = sdkVersion != null ? sdkVersion : "";
+        this.calibrationData = calibrationData.clone();
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public float getOffsetX() {
+        return offsetX;
+    }
+
+    public float getOffsetY() {
+        return offsetY;
+    }
+
+    public String getSdkVersion() {
+        return sdkVersion;
+    }
+
+    public double[] getCalibrationData() {
+        return calibrationData.clone();
+    }
+
+    /**
+     * 지금 이 환경에서 그대로 복원해도 되는지 (회전/화면 크기/SDK 버전이 같고 maxAgeMillis 이내)
+     * 시계가 뒤로 간 경우(저장 시각이 미래)도 쓰지 않는다.
+     */
+    public boolean matches(int rotation, int screenWidth, int screenHeight, String sdkVersion,
+                           long nowMillis, long maxAgeMillis) {
+        long age = nowMillis - savedAtMillis;
+        return this.rotation == rotation
+                && this.screenWidth == screenWidth
+                && this.screenHeight == screenHeight
+                && this.sdkVersion.equals(sdkVersion != null ? sdkVersion : "")
+                && age >= 0 && age <= maxAgeMillis
+                && calibrationData.length > 0;
+    }
+
+    public byte[] encode() {
+        byte[] version = sdkVersion.getBytes(StandardCharsets.UTF_8);
+        int versionLength = Math.min(version.length, 255);
+        int length = 4 + 4 + 4 + 8 + 4 + 4 + 1 + versionLength + 4 + calibrationData.length * 8;
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        payload.putInt(rotation);
+        payload.putInt(screenWidth);
+        payload.putInt(screenHeight);
+        payload.putLong(savedAtMillis);
+        payload.putFloat(offsetX);
+        payload.putFloat(offsetY);
+        payload.put((byte) versionLength);
+        payload.put(version, 0, versionLength);
+        payload.putInt(calibrationData.length);
+        for (double value : calibrationData) {
+            payload.putDouble(value);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, length);
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + length);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) 0);
+        out.putInt(length);
+        out.putInt((int) crc.getValue());
+        out.put(payload.array(), 0, length);
+        return out.array();
+    }
+
+    /**
+     * @param buffer 파일 전체 (position 0부터)
+     * @return 형식이 맞지 않거나 손상되었으면 null
+     */
+    public static CalibrationRecord decode(ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                return null;
+            }
+            short version = buffer.getShort();
+            buffer.getShort(); // reserved
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (version < 1 || version > VERSION || length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            if (BinarySettingsCodec.crc32(payload) != expectedCrc) {
+                return null;
+            }
+
+            int rotation = payload.getInt();
+            int screenWidth = payload.getInt();
+            int screenHeight = payload.getInt();
+            long savedAtMillis = payload.getLong();
+            float offsetX = payload.getFloat();
+            float offsetY = payload.getFloat();
+            byte[] sdkVersion = new byte[payload.get() & 0xFF];
+            payload.get(sdkVersion);
+            int count = payload.getInt();
+            if (count < 0 || count > MAX_VALUES) {
+                return null;
+            }
+            double[] data = new double[count];
+            for (int i = 0; i < count; i++) {
+                data[i] = payload.getDouble();
+            }
+            return new CalibrationRecord(rotation, screenWidth, screenHeight, savedAtMillis,
+                    offsetX, offsetY, new String(sdkVersion, StandardCharsets.UTF_8), data);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+/**
+ * SDK 캘리브레이션 결과 저장소 (프로세스당 하나, getInstance).
+ * 화면 회전 방향마다 files/calibration_<회전>.bin 하나를 두고, 통합 오프셋과 함께 저장한다.
+ * 읽을 때 CRC, 회전/화면 크기/SDK 버전, 저장 후 경과 시간(MAX_AGE_MS)을 확인해 하나라도 맞지 않으면 버린다.
+ * 기록은 "CalibrationWriter" 스레드에서 BinarySettingsRepository와 같은 방식(임시 파일 → fsync → rename)으로 한다.
+ */
+public final class CalibrationStore {
+    private static final String TAG = "CalibrationStore";
+
+    // 이보다 오래된 캘리브레이션은 자세/조명이 달라졌을 가능성이 커서 새로 맞춘다
+    public static final long MAX_AGE_MS = 7L * 24 * 60 * 60 * 1000;
+
+    private static CalibrationStore instance;
+
+    private final File directory;
+    private Handler writer; // 첫 save에서 생성
+
+    public static synchronized CalibrationStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new CalibrationStore(context.getApplicationContext().getFilesDir());
+        }
+        return instance;
+    }
+
+    private CalibrationStore(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 지금 회전 방향에서 바로 복원할 수 있는 캘리브레이션 (호출한 스레드에서 읽음, 파일은 수백 바이트)
+     * @return 없거나 손상/만료되었거나 환경이 다르면 null
+     */
+    public CalibrationRecord load(int rotation, int screenWidth, int screenHeight, String sdkVersion) {
+        File file = fileFor(rotation);
+        if (!file.isFile()) {
+            return null;
+        }
+        CalibrationRecord record;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            byte[] bytes = new byte[(int) Math.min(raf.length(), 64 * 1024)];
+            raf.readFully(bytes);
+            record = CalibrationRecord.decode(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            Log.w(TAG, "캘리브레이션 파일 읽기 실패: " + e.getMessage());
+            return null;
+        }
+        if (record == null) {
+            Log.w(TAG, "캘리브레이션 파일 손상 - 무시 (회전 " + rotation + ")");
+            return null;
+        }
+        if (!record.matches(rotation, screenWidth, screenHeight, sdkVersion, System.currentTimeMillis(), MAX_AGE_MS)) {
+            Log.i(TAG, "저장된 캘리브레이션이 만료되었거나 환경이 다름 - 무시 (회전 " + rotation + ")");
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * 캘리브레이션 결과를 저장한다 (기록은 백그라운드 스레드, 같은 회전 방향의 이전 결과를 덮어씀)
+     */
+    public void save(int rotation, int screenWidth, int screenHeight, String sdkVersion,
+                     double[] calibrationData, float offsetX, float offsetY) {
+        if (calibrationData == null || calibrationData.length == 0) {
+            return;
+        }
+        CalibrationRecord record = new CalibrationRecord(rotation, screenWidth, screenHeight,
+                System.currentTimeMillis(), offsetX, offsetY, sdkVersion, calibrationData);
+        writer().post(() -> {
+            try {
+                BinarySettingsRepository.writeAtomically(fileFor(rotation), record.encode());
+                Log.d(TAG, "캘리브레이션 저장 완료 (회전 " + rotation + ", 오프셋 " + offsetX + ", " + offsetY + ")");
+            } catch (IOException e) {
+                Log.e(TAG, "캘리브레이션 저장 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    private File fileFor(int rotation) {
+        return new File(directory, "calibration_" + rotation + ".bin");
+    }
+
+    private synchronized Handler writer() {
+        if (writer == null) {
+            HandlerThread thread = new HandlerThread("CalibrationWriter");
+            thread.start();
+            writer = new Handler(thread.getLooper());
+        }
+        return writer;
+    }
+}
@@ -3,7 +3,33 @@ package camp.visual.android.sdk.sample.data.settings;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 
 public interface SettingsRepository {
+
+    /**
+     * 설정이 저장(메모리 반영)될 때마다 호출된다. 저장을 호출한 스레드에서 불린다.
+     */
+    interface ChangeListener {
+        void onSettingsChanged();
+    }
+
     UserSettings getUserSettings();
     void saveUserSettings(UserSettings settings);
     void setDefaultSettings();
-}
\ No newline at end of file
+
+    /**
+     * 통합 오프셋 저장 (캘리브레이션에서 사용)
+     */
+    void saveIntegratedCursorOffset(float offsetX, float offsetY);
+
+    /**
+     * 자동 조정된 OneEuroFilter 파라미터 저장 (자동 조정 프리셋에서 사용)
+     */
+    void saveTunedOneEuroParameters(double minCutoff, double beta);
+
+    /**
+     * 아직 기록되지 않은 변경을 곧바로 기록하도록 요청 (호출 스레드는 기다리지 않음)
+     */
+    void flush();
+
+    void registerChangeListener(ChangeListener listener);
+    void unregisterChangeListener(ChangeListener listener);
+}
@@ -0,0 +1,101 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import android.os.Handler;
+import android.util.Log;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import camp.visual.android.sdk.sample.domain.model.SettingsDiff;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 메모리에 들고 있는 최신 설정 스냅샷. 어느 스레드에서든 get()으로 바로 읽는다.
+ * 저장소에 저장이 일어나면 스냅샷을 다시 만들고, 이전 스냅샷과의 필드 차이를 리스너에 전달한다.
+ * 설정 화면이 한 번에 여러 키를 저장해도 리스너 스레드에서 한 번만 다시 읽는다.
+ */
+public class SettingsSnapshot implements SettingsRepository.ChangeListener {
+    private static final String TAG = "SettingsSnapshot";
+
+    public interface Listener {
+        /**
+         * 값이 실제로 바뀌었을 때만 호출 (리스너 스레드)
+         */
+        void onSettingsChanged(UserSettings previous, UserSettings current, SettingsDiff diff);
+    }
+
+    private final SettingsRepository repository;
+    private final AtomicReference<UserSettings> current;
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+
+    private Handler handler;
+    private Listener listener;
+
+    private final Runnable reloadRunnable = this::reload;
+
+    public SettingsSnapshot(SettingsRepository repository) {
+        this.repository = repository;
+        this.current = new AtomicReference<>(repository.getUserSettings());
+    }
+
+    /**
+     * 변경 감지 시작
+     * @param handler  다시 읽기와 리스너 호출을 실행할 스레드
+     */
+    public void start(Handler handler, Listener listener) {
+        this.handler = handler;
+        this.listener = listener;
+        repository.registerChangeListener(this);
+    }
+
+    public void stop() {
+        repository.unregisterChangeListener(this);
+        if (handler != null) {
+            handler.removeCallbacks(reloadRunnable);
+        }
+        listener = null;
+    }
+
+    public UserSettings get() {
+        return current.get();
+    }
+
+    /**
+     * 다시 읽기 예약. 이미 예약되어 있으면 합쳐진다.
+     */
+    public void requestReload() {
+        if (handler != null && reloadScheduled.compareAndSet(false, true)) {
+            handler.post(reloadRunnable);
+        }
+    }
+
+    /**
+     * 저장소에서 즉시 다시 읽어 스냅샷만 교체한다 (리스너 호출 없음, 초기화용)
+     */
+    public UserSettings reloadNow() {
+        UserSettings settings = repository.getUserSettings();
+        current.set(settings);
+        return settings;
+    }
+
+    @Override
+    public void onSettingsChanged() {
+        requestReload();
+    }
+
+    private void reload() {
+        // 먼저 풀어야 다시 읽는 도중 들어온 변경이 다음 읽기를 예약할 수 있다
+        reloadScheduled.set(false);
+        UserSettings next = repository.getUserSettings();
+        UserSettings previous = current.getAndSet(next);
+        SettingsDiff diff = SettingsDiff.between(previous, next);
+        if (diff.isEmpty()) {
+            return;
+        }
+        Log.d(TAG, "설정 변경: " + diff);
+        Listener l = listener;
+        if (l != null) {
+            l.onSettingsChanged(previous, next, diff);
+        }
+    }
+}
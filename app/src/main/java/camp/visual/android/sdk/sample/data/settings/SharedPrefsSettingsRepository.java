@@ -3,10 +3,18 @@ package camp.visual.android.sdk.sample.data.settings;
 import android.content.Context;
 import android.content.SharedPreferences;
 
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
 import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 
-public class SharedPrefsSettingsRepository implements SettingsRepository {
+/**
+ * SharedPreferences(XML) 기반 설정 저장소.
+ * 기록은 commit()으로 하며, commit은 백업 파일을 둔 채 새 파일로 교체하므로 기록 도중 프로세스가 죽어도 이전 설정이 남는다.
+ * 앱은 BinarySettingsRepository를 쓰며, 이 저장소는 기존 XML 키에서 설정을 옮겨 올 때 사용한다.
+ */
+public class SharedPrefsSettingsRepository extends WriteBehindSettingsRepository {
     private static final String PREFS_NAME = "eye_tracking_settings";
 
     // 설정 키
@@ -16,13 +24,21 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
     private static final String KEY_EDGE_MARGIN_RATIO = "edge_margin_ratio";
     private static final String KEY_EDGE_TRIGGER_MS = "edge_trigger_ms";
     private static final String KEY_CONTINUOUS_SCROLL_COUNT = "continuous_scroll_count";
+    private static final String KEY_SCROLL_FLING_VELOCITY = "scroll_fling_velocity";
+    private static final String KEY_EDGE_SCROLL_MODE = "edge_scroll_mode";
     private static final String KEY_CLICK_ENABLED = "click_enabled";
     private static final String KEY_EDGE_SCROLL_ENABLED = "edge_scroll_enabled";
     private static final String KEY_BLINK_DETECTION_ENABLED = "blink_detection_enabled";
+    private static final String KEY_CURSOR_PREDICTION_ENABLED = "cursor_prediction_enabled";
+    private static final String KEY_GAP_POLICY = "gap_policy";
+    private static final String KEY_TARGET_SNAP_ENABLED = "target_snap_enabled";
     private static final String KEY_AUTO_ONE_POINT_CALIBRATION = "auto_one_point_calibration";
     private static final String KEY_CURSOR_OFFSET_X = "cursor_offset_x";
     private static final String KEY_CURSOR_OFFSET_Y = "cursor_offset_y";
 
+    // 평활화 필터 종류 키
+    private static final String KEY_GAZE_FILTER_TYPE = "gaze_filter_type";
+
     // OneEuroFilter 관련 키
     private static final String KEY_ONE_EURO_PRESET = "one_euro_preset";
     private static final String KEY_ONE_EURO_FREQ = "one_euro_freq";
@@ -37,11 +53,14 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
     }
 
     @Override
-    public UserSettings getUserSettings() {
+    protected UserSettings load() {
         // OneEuroFilter 프리셋 로드
         String presetName = prefs.getString(KEY_ONE_EURO_PRESET, OneEuroFilterPreset.BALANCED.name());
         OneEuroFilterPreset preset = OneEuroFilterPreset.fromName(presetName);
 
+        GazeFilterType filterType = GazeFilterType.fromName(
+                prefs.getString(KEY_GAZE_FILTER_TYPE, GazeFilterType.ONE_EURO.name()));
+
         return new UserSettings.Builder()
                 .fixationDurationMs(prefs.getFloat(KEY_FIXATION_DURATION, 1000f))
                 .aoiRadius(prefs.getFloat(KEY_AOI_RADIUS, 40f))
@@ -49,12 +68,18 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
                 .edgeMarginRatio(prefs.getFloat(KEY_EDGE_MARGIN_RATIO, 0.01f))
                 .edgeTriggerMs(prefs.getLong(KEY_EDGE_TRIGGER_MS, 3000))
                 .continuousScrollCount(prefs.getInt(KEY_CONTINUOUS_SCROLL_COUNT, 2))
+                .scrollFlingVelocity(prefs.getFloat(KEY_SCROLL_FLING_VELOCITY, 600f))
+                .edgeScrollMode(EdgeScrollMode.fromName(prefs.getString(KEY_EDGE_SCROLL_MODE, EdgeScrollMode.DWELL.name())))
                 .clickEnabled(prefs.getBoolean(KEY_CLICK_ENABLED, true))
                 .edgeScrollEnabled(prefs.getBoolean(KEY_EDGE_SCROLL_ENABLED, true))
                 .blinkDetectionEnabled(prefs.getBoolean(KEY_BLINK_DETECTION_ENABLED, false))
+                .cursorPredictionEnabled(prefs.getBoolean(KEY_CURSOR_PREDICTION_ENABLED, false))
+                .targetSnapEnabled(prefs.getBoolean(KEY_TARGET_SNAP_ENABLED, true))
+                .gapPolicy(GapPolicy.fromName(prefs.getString(KEY_GAP_POLICY, GapPolicy.PAUSE.name())))
                 .autoOnePointCalibrationEnabled(prefs.getBoolean(KEY_AUTO_ONE_POINT_CALIBRATION, true))
                 .cursorOffsetX(prefs.getFloat(KEY_CURSOR_OFFSET_X, 0f))
                 .cursorOffsetY(prefs.getFloat(KEY_CURSOR_OFFSET_Y, 0f))
+                .gazeFilterType(filterType)
                 .oneEuroFilterPreset(preset)
                 .oneEuroFreq(prefs.getFloat(KEY_ONE_EURO_FREQ, 30.0f))
                 .oneEuroMinCutoff(prefs.getFloat(KEY_ONE_EURO_MIN_CUTOFF, 1.0f))
@@ -64,7 +89,7 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
     }
 
     @Override
-    public void saveUserSettings(UserSettings settings) {
+    protected boolean write(UserSettings settings) {
         SharedPreferences.Editor editor = prefs.edit();
         editor.putFloat(KEY_FIXATION_DURATION, settings.getFixationDurationMs());
         editor.putFloat(KEY_AOI_RADIUS, settings.getAoiRadius());
@@ -72,13 +97,20 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
         editor.putFloat(KEY_EDGE_MARGIN_RATIO, settings.getEdgeMarginRatio());
         editor.putLong(KEY_EDGE_TRIGGER_MS, settings.getEdgeTriggerMs());
         editor.putInt(KEY_CONTINUOUS_SCROLL_COUNT, settings.getContinuousScrollCount());
+        editor.putFloat(KEY_SCROLL_FLING_VELOCITY, settings.getScrollFlingVelocity());
+        editor.putString(KEY_EDGE_SCROLL_MODE, settings.getEdgeScrollMode().name());
         editor.putBoolean(KEY_CLICK_ENABLED, settings.isClickEnabled());
         editor.putBoolean(KEY_EDGE_SCROLL_ENABLED, settings.isEdgeScrollEnabled());
         editor.putBoolean(KEY_BLINK_DETECTION_ENABLED, settings.isBlinkDetectionEnabled());
+        editor.putBoolean(KEY_CURSOR_PREDICTION_ENABLED, settings.isCursorPredictionEnabled());
+        editor.putString(KEY_GAP_POLICY, settings.getGapPolicy().name());
+        editor.putBoolean(KEY_TARGET_SNAP_ENABLED, settings.isTargetSnapEnabled());
         editor.putBoolean(KEY_AUTO_ONE_POINT_CALIBRATION, settings.isAutoOnePointCalibrationEnabled());
         editor.putFloat(KEY_CURSOR_OFFSET_X, settings.getCursorOffsetX());
         editor.putFloat(KEY_CURSOR_OFFSET_Y, settings.getCursorOffsetY());
 
+        editor.putString(KEY_GAZE_FILTER_TYPE, settings.getGazeFilterType().name());
+
         // OneEuroFilter 설정 저장
         editor.putString(KEY_ONE_EURO_PRESET, settings.getOneEuroFilterPreset().name());
         editor.putFloat(KEY_ONE_EURO_FREQ, (float) settings.getOneEuroFreq());
@@ -86,21 +118,6 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
         editor.putFloat(KEY_ONE_EURO_BETA, (float) settings.getOneEuroBeta());
         editor.putFloat(KEY_ONE_EURO_D_CUTOFF, (float) settings.getOneEuroDCutoff());
 
-        editor.apply();
-    }
-
-    @Override
-    public void setDefaultSettings() {
-        saveUserSettings(new UserSettings.Builder().build());
-    }
-
-    /**
-     * 통합 오프셋을 저장하는 메서드 (캘리브레이션에서 사용)
-     */
-    public void saveIntegratedCursorOffset(float offsetX, float offsetY) {
-        SharedPreferences.Editor editor = prefs.edit();
-        editor.putFloat(KEY_CURSOR_OFFSET_X, offsetX);
-        editor.putFloat(KEY_CURSOR_OFFSET_Y, offsetY);
-        editor.apply();
+        return editor.commit();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+/**
+ * 저장 요청을 바로 쓰지 않고 모았다가 한 번에 기록하도록 예약한다.
+ * - 마지막 변경 후 IDLE_MS 동안 더 바뀌지 않으면 기록
+ * - 계속 바뀌더라도 첫 변경 후 MAX_DELAY_MS가 지나면 기록
+ * 기록 작업은 생성 시 받은 Handler(쓰기 전용 스레드)에서 실행된다.
+ */
+public class WriteBehindScheduler {
+
+    public static final long IDLE_MS = 500;
+    public static final long MAX_DELAY_MS = 3000;
+
+    private final Handler handler;
+    private final Runnable flusher;
+
+    // 아직 기록되지 않은 첫 변경 시각 (없으면 -1)
+    private long firstDirtyAt = -1;
+
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (WriteBehindScheduler.this) {
+                firstDirtyAt = -1;
+            }
+            flusher.run();
+        }
+    };
+
+    public WriteBehindScheduler(Handler handler, Runnable flusher) {
+        this.handler = handler;
+        this.flusher = flusher;
+    }
+
+    /**
+     * 변경이 생겼음을 알리고 기록 시점을 다시 잡는다 (어느 스레드에서든 호출 가능)
+     */
+    public synchronized void markDirty() {
+        long now = SystemClock.uptimeMillis();
+        if (firstDirtyAt < 0) {
+            firstDirtyAt = now;
+        }
+        handler.removeCallbacks(flushRunnable);
+        handler.postAtTime(flushRunnable, flushAt(firstDirtyAt, now));
+    }
+
+    /**
+     * 기다리지 않고 곧바로 기록하도록 당긴다 (화면 이탈, 서비스 종료 등). 호출 스레드는 막히지 않는다.
+     */
+    public synchronized void flushSoon() {
+        if (firstDirtyAt < 0) {
+            return;
+        }
+        handler.removeCallbacks(flushRunnable);
+        handler.post(flushRunnable);
+    }
+
+    /**
+     * 기록 시각 (uptime ms)
+     * @param firstDirtyMs 아직 기록되지 않은 첫 변경 시각
+     * @param lastChangeMs 마지막 변경 시각
+     */
+    static long flushAt(long firstDirtyMs, long lastChangeMs) {
+        return Math.min(lastChangeMs + IDLE_MS, firstDirtyMs + MAX_DELAY_MS);
+    }
+}
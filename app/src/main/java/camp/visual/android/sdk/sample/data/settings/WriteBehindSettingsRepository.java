@@ -0,0 +1,177 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import camp.visual.android.sdk.sample.domain.model.SettingsDiff;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 메모리의 설정 객체로 읽기/저장을 바로 처리하고, 파일 기록은 WriteBehindScheduler로 모아
+ * 쓰기 전용 스레드에서 하는 저장소의 공통 부분. 같은 값의 저장은 기록하지 않는다.
+ * 하위 클래스는 저장 형식의 읽기(load)와 쓰기(write)만 구현한다.
+ */
+public abstract class WriteBehindSettingsRepository implements SettingsRepository {
+    private static final String TAG = "SettingsRepository";
+
+    private final CopyOnWriteArrayList<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private WriteBehindScheduler writeBehind;
+
+    private final Object lock = new Object();
+    // lock으로 보호
+    private UserSettings current;
+    private UserSettings unwritten;
+    private long loadNanos = -1;
+
+    /**
+     * 저장된 설정을 읽는다 (첫 getUserSettings에서 한 번, 호출 스레드에서)
+     */
+    protected abstract UserSettings load();
+
+    /**
+     * 설정을 기록한다 (쓰기 스레드)
+     * @return 실패하면 false - 다시 예약된다
+     */
+    protected abstract boolean write(UserSettings settings);
+
+    /**
+     * load() 직후 호출. true면 읽은 설정을 현재 형식으로 다시 기록한다 (이전 형식에서 옮긴 경우 등)
+     */
+    protected boolean needsRewriteAfterLoad() {
+        return false;
+    }
+
+    @Override
+    public UserSettings getUserSettings() {
+        boolean rewrite = false;
+        UserSettings settings;
+        synchronized (lock) {
+            if (current == null) {
+                // 첫 읽기는 서비스 시작 경로에 있으므로 걸린 시간을 기록해 둔다
+                long start = System.nanoTime();
+                current = load();
+                loadNanos = System.nanoTime() - start;
+                Log.d(TAG, String.format(Locale.US, "설정 읽기 %.2fms (%s)", loadNanos / 1e6, getClass().getSimpleName()));
+                if (needsRewriteAfterLoad()) {
+                    unwritten = current;
+                    rewrite = true;
+                }
+            }
+            settings = current;
+        }
+        if (rewrite) {
+            scheduler().markDirty();
+        }
+        return settings;
+    }
+
+    /**
+     * 첫 설정 읽기에 걸린 시간 (ns, 아직 읽지 않았으면 -1)
+     */
+    public long getLoadNanos() {
+        synchronized (lock) {
+            return loadNanos;
+        }
+    }
+
+    @Override
+    public void saveUserSettings(UserSettings settings) {
+        update(previous -> settings);
+    }
+
+    @Override
+    public void setDefaultSettings() {
+        saveUserSettings(new UserSettings.Builder().build());
+    }
+
+    @Override
+    public void saveIntegratedCursorOffset(float offsetX, float offsetY) {
+        update(previous -> new UserSettings.Builder(previous)
+                .cursorOffsetX(offsetX)
+                .cursorOffsetY(offsetY)
+                .build());
+    }
+
+    @Override
+    public void saveTunedOneEuroParameters(double minCutoff, double beta) {
+        update(previous -> new UserSettings.Builder(previous)
+                .oneEuroMinCutoff(minCutoff)
+                .oneEuroBeta(beta)
+                .build());
+    }
+
+    /**
+     * 메모리의 설정을 바꾸고 기록을 예약한다. 값이 그대로면 아무것도 하지 않는다.
+     */
+    private void update(UnaryOperator<UserSettings> change) {
+        synchronized (lock) {
+            UserSettings previous = getUserSettings();
+            UserSettings next = change.apply(previous);
+            if (SettingsDiff.between(previous, next).isEmpty()) {
+                return;
+            }
+            current = next;
+            unwritten = next;
+        }
+        scheduler().markDirty();
+        for (ChangeListener listener : listeners) {
+            listener.onSettingsChanged();
+        }
+    }
+
+    /**
+     * 모아 둔 최신 설정을 기록 (쓰기 스레드)
+     */
+    private void writeUnwritten() {
+        UserSettings settings;
+        synchronized (lock) {
+            settings = unwritten;
+            unwritten = null;
+        }
+        if (settings == null) {
+            return;
+        }
+        if (!write(settings)) {
+            Log.e(TAG, "설정 기록 실패 - 다시 예약");
+            synchronized (lock) {
+                if (unwritten == null) {
+                    unwritten = settings;
+                }
+            }
+            scheduler().markDirty();
+        }
+    }
+
+    /**
+     * 쓰기 스레드는 처음 기록할 일이 생길 때 띄운다
+     */
+    private synchronized WriteBehindScheduler scheduler() {
+        if (writeBehind == null) {
+            HandlerThread writerThread = new HandlerThread("SettingsWriter", Process.THREAD_PRIORITY_BACKGROUND);
+            writerThread.start();
+            writeBehind = new WriteBehindScheduler(new Handler(writerThread.getLooper()), this::writeUnwritten);
+        }
+        return writeBehind;
+    }
+
+    @Override
+    public void flush() {
+        scheduler().flushSoon();
+    }
+
+    @Override
+    public void registerChangeListener(ChangeListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    @Override
+    public void unregisterChangeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+}
@@ -0,0 +1,78 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * Holt 이중 지수 평활. 채널마다 수준(level)과 추세(trend, px/ms)를 가진다.
+ * 추세를 시간 단위로 두어 샘플 간격이 불규칙해도 외삽 거리가 맞도록 한다.
+ */
+public final class DoubleExponentialGazeFilter implements GazeFilter {
+
+    public static final double DEFAULT_LEVEL_SMOOTHING = 0.35;
+    public static final double DEFAULT_TREND_SMOOTHING = 0.1;
+
+    // 샘플 간격이 이보다 크면 이전 상태를 버리고 다시 시작
+    private static final long MAX_SAMPLE_GAP_MS = 500;
+
+    private final int channels;
+    private final double levelSmoothing;
+    private final double trendSmoothing;
+
+    private final double[] level;
+    private final double[] trend;
+
+    private boolean initialized = false;
+    private long lastTimestampMs;
+
+    public DoubleExponentialGazeFilter(int channels) {
+        this(channels, DEFAULT_LEVEL_SMOOTHING, DEFAULT_TREND_SMOOTHING);
+    }
+
+    public DoubleExponentialGazeFilter(int channels, double levelSmoothing, double trendSmoothing) {
+        this.channels = channels;
+        this.levelSmoothing = levelSmoothing;
+        this.trendSmoothing = trendSmoothing;
+        level = new double[channels];
+        trend = new double[channels];
+    }
+
+    @Override
+    public void filter(long timestampMs, double[] values) {
+        long elapsedMs = timestampMs - lastTimestampMs;
+        if (!initialized || elapsedMs > MAX_SAMPLE_GAP_MS) {
+            for (int i = 0; i < channels; i++) {
+                level[i] = values[i];
+                trend[i] = 0.0;
+            }
+            lastTimestampMs = timestampMs;
+            initialized = true;
+            return;
+        }
+
+        // 같은 타임스탬프가 반복되면 추세는 그대로 두고 수준만 평활
+        double dt = Math.max(elapsedMs, 0);
+        if (elapsedMs > 0) {
+            lastTimestampMs = timestampMs;
+        }
+
+        for (int i = 0; i < channels; i++) {
+            double previousLevel = level[i];
+            double newLevel = levelSmoothing * values[i]
+                    + (1.0 - levelSmoothing) * (previousLevel + trend[i] * dt);
+            if (dt > 0) {
+                trend[i] = trendSmoothing * (newLevel - previousLevel) / dt
+                        + (1.0 - trendSmoothing) * trend[i];
+            }
+            level[i] = newLevel;
+            values[i] = newLevel;
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public int getChannelCount() {
+        return channels;
+    }
+}
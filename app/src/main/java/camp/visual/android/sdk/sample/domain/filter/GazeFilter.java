@@ -0,0 +1,22 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * 시선 좌표 평활화 필터.
+ * 구현체는 채널 수만큼의 원시 배열 상태만 가지며 filter() 호출 중 힙 할당이 없어야 한다.
+ * 단일 스레드(파이프라인 스레드)에서만 사용한다.
+ */
+public interface GazeFilter {
+
+    /**
+     * values의 각 채널을 필터링해 같은 배열에 덮어쓴다.
+     * @param timestampMs SDK 샘플 타임스탬프 (ms)
+     */
+    void filter(long timestampMs, double[] values);
+
+    /**
+     * 다음 샘플을 첫 샘플로 취급하도록 상태를 비운다.
+     */
+    void reset();
+
+    int getChannelCount();
+}
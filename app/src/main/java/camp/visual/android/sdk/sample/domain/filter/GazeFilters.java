@@ -0,0 +1,28 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
+
+/**
+ * 필터 종류별 기본 파라미터로 GazeFilter를 생성한다.
+ */
+public final class GazeFilters {
+
+    private GazeFilters() {}
+
+    public static GazeFilter create(GazeFilterType type, int channels) {
+        switch (type) {
+            case KALMAN:
+                return new KalmanGazeFilter(channels);
+            case DOUBLE_EXPONENTIAL:
+                return new DoubleExponentialGazeFilter(channels);
+            case MEDIAN:
+                return new SlidingMedianGazeFilter(channels);
+            case ONE_EURO:
+            default:
+                OneEuroFilterPreset preset = OneEuroFilterPreset.BALANCED;
+                return new OneEuroFilter(channels, preset.getFreq(), preset.getMinCutoff(),
+                        preset.getBeta(), preset.getDCutoff());
+        }
+    }
+}
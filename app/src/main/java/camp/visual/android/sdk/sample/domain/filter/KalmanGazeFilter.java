@@ -0,0 +1,106 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * 등속 모델 칼만 필터. 채널마다 [위치, 속도] 상태와 2x2 공분산을 원시 배열로 가진다.
+ * 프로세스 잡음은 백색 가속도 모델(스펙트럼 밀도 q), 측정 잡음은 표준편차 r(px)로 둔다.
+ */
+public final class KalmanGazeFilter implements GazeFilter {
+
+    public static final double DEFAULT_PROCESS_NOISE = 5.0e4;  // px²/s³
+    public static final double DEFAULT_MEASUREMENT_NOISE = 8.0; // px
+
+    // 샘플 간격이 이보다 크면 이전 상태를 버리고 다시 시작
+    private static final long MAX_SAMPLE_GAP_MS = 500;
+    // 처음 속도의 불확실성 (px/s)
+    private static final double INITIAL_VELOCITY_STD = 1000.0;
+
+    private final int channels;
+    private final double processNoise;
+    private final double measurementVariance;
+
+    private final double[] position;
+    private final double[] velocity;
+    private final double[] p00;
+    private final double[] p01;
+    private final double[] p11;
+
+    private boolean initialized = false;
+    private long lastTimestampMs;
+    private double lastDt = 1.0 / 30.0;
+
+    public KalmanGazeFilter(int channels) {
+        this(channels, DEFAULT_PROCESS_NOISE, DEFAULT_MEASUREMENT_NOISE);
+    }
+
+    public KalmanGazeFilter(int channels, double processNoise, double measurementStd) {
+        this.channels = channels;
+        this.processNoise = processNoise;
+        this.measurementVariance = measurementStd * measurementStd;
+        position = new double[channels];
+        velocity = new double[channels];
+        p00 = new double[channels];
+        p01 = new double[channels];
+        p11 = new double[channels];
+    }
+
+    @Override
+    public void filter(long timestampMs, double[] values) {
+        long elapsedMs = timestampMs - lastTimestampMs;
+        if (!initialized || elapsedMs > MAX_SAMPLE_GAP_MS) {
+            for (int i = 0; i < channels; i++) {
+                position[i] = values[i];
+                velocity[i] = 0.0;
+                p00[i] = measurementVariance;
+                p01[i] = 0.0;
+                p11[i] = INITIAL_VELOCITY_STD * INITIAL_VELOCITY_STD;
+            }
+            lastTimestampMs = timestampMs;
+            initialized = true;
+            return;
+        }
+
+        double dt;
+        if (elapsedMs > 0) {
+            dt = elapsedMs / 1000.0;
+            lastDt = dt;
+            lastTimestampMs = timestampMs;
+        } else {
+            dt = lastDt;
+        }
+        double q00 = processNoise * dt * dt * dt / 3.0;
+        double q01 = processNoise * dt * dt / 2.0;
+        double q11 = processNoise * dt;
+
+        for (int i = 0; i < channels; i++) {
+            // 예측
+            double pos = position[i] + velocity[i] * dt;
+            double a00 = p00[i] + 2.0 * dt * p01[i] + dt * dt * p11[i] + q00;
+            double a01 = p01[i] + dt * p11[i] + q01;
+            double a11 = p11[i] + q11;
+
+            // 갱신
+            double s = a00 + measurementVariance;
+            double k0 = a00 / s;
+            double k1 = a01 / s;
+            double innovation = values[i] - pos;
+
+            position[i] = pos + k0 * innovation;
+            velocity[i] = velocity[i] + k1 * innovation;
+            p00[i] = (1.0 - k0) * a00;
+            p01[i] = (1.0 - k0) * a01;
+            p11[i] = a11 - k1 * a01;
+
+            values[i] = position[i];
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public int getChannelCount() {
+        return channels;
+    }
+}
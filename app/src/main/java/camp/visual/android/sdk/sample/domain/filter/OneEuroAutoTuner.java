@@ -0,0 +1,197 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * 1€ 필터 파라미터 자동 조정기.
+ * 원시 시선 샘플을 스트리밍으로 받아 고정 응시 중 떨림(노이즈 분산)과 도약 속도를 추정하고,
+ * 그 값으로 minCutoff와 beta를 정해진 범위 안에서 계속 갱신한다.
+ * - minCutoff: 고정 응시 중 필터 출력 떨림이 TARGET_JITTER_PX가 되도록 선택
+ * - beta: 전형적인 도약 속도에서 차단 주파수가 TARGET_SACCADE_CUTOFF_HZ가 되도록 선택
+ * 단일 스레드(파이프라인 스레드)에서만 사용하며 샘플당 힙 할당이 없다.
+ */
+public final class OneEuroAutoTuner {
+
+    public static final double MIN_CUTOFF_LOWER = 0.1;
+    public static final double MIN_CUTOFF_UPPER = 3.0;
+    public static final double BETA_LOWER = 0.0;
+    public static final double BETA_UPPER = 0.05;
+
+    // 고정 응시 중 목표 출력 떨림 (px, 표준편차)
+    static final double TARGET_JITTER_PX = 1.5;
+    // 도약 속도에서의 목표 차단 주파수 (Hz)
+    static final double TARGET_SACCADE_CUTOFF_HZ = 8.0;
+
+    // 최근 WINDOW개 샘플의 분산 범위가 이 값 이하이면 고정 응시로 판단
+    private static final int WINDOW = 6;
+    private static final double FIXATION_DISPERSION_PX = 60.0;
+    // 이 속도 이상이면 도약으로 판단
+    private static final double SACCADE_SPEED_PX_PER_S = 1500.0;
+    // 샘플 간격이 이보다 크면 창을 비우고 다시 시작
+    private static final long MAX_SAMPLE_GAP_MS = 200;
+
+    // 지수 평활 계수
+    private static final double NOISE_SMOOTHING = 0.02;
+    private static final double SPEED_SMOOTHING = 0.1;
+    private static final double RATE_SMOOTHING = 0.1;
+
+    // 추정을 신뢰하기 위한 최소 표본 수와 파라미터 갱신 간격
+    private static final int MIN_FIXATION_SAMPLES = 30;
+    private static final int MIN_SACCADE_SAMPLES = 5;
+    private static final int UPDATE_INTERVAL_SAMPLES = 30;
+
+    private final double[] windowX = new double[WINDOW];
+    private final double[] windowY = new double[WINDOW];
+    private int windowCount = 0;
+    private int windowHead = 0;
+
+    private boolean hasPrevious = false;
+    private long prevTimestamp;
+    private double prevX;
+    private double prevY;
+
+    private double sampleRate;
+    private double noiseVariance = 0.0;
+    private int fixationSamples = 0;
+    private double saccadeSpeed = 0.0;
+    private int saccadeSamples = 0;
+    private int samplesSinceUpdate = 0;
+
+    private double minCutoff;
+    private double beta;
+
+    /**
+     * @param initialMinCutoff 추정이 충분해지기 전까지 사용할 minCutoff (저장된 값 또는 프리셋 값)
+     * @param initialBeta      추정이 충분해지기 전까지 사용할 beta
+     * @param initialRate      샘플링 주기 초기 추정값 (Hz)
+     */
+    public OneEuroAutoTuner(double initialMinCutoff, double initialBeta, double initialRate) {
+        this.minCutoff = clamp(initialMinCutoff, MIN_CUTOFF_LOWER, MIN_CUTOFF_UPPER);
+        this.beta = clamp(initialBeta, BETA_LOWER, BETA_UPPER);
+        this.sampleRate = initialRate;
+    }
+
+    /**
+     * 원시(필터 전) 샘플 하나를 반영한다.
+     * @return minCutoff/beta가 새로 계산되었으면 true
+     */
+    public boolean update(long timestampMs, double x, double y) {
+        long elapsed = timestampMs - prevTimestamp;
+        if (hasPrevious && (elapsed > MAX_SAMPLE_GAP_MS || elapsed < 0)) {
+            windowCount = 0;
+            hasPrevious = false;
+        }
+
+        if (hasPrevious && elapsed > 0) {
+            sampleRate += RATE_SMOOTHING * (1000.0 / elapsed - sampleRate);
+
+            double speed = Math.hypot(x - prevX, y - prevY) * 1000.0 / elapsed;
+            if (speed >= SACCADE_SPEED_PX_PER_S) {
+                saccadeSpeed = saccadeSamples == 0 ? speed : saccadeSpeed + SPEED_SMOOTHING * (speed - saccadeSpeed);
+                saccadeSamples++;
+            }
+        }
+        hasPrevious = true;
+        prevTimestamp = timestampMs;
+        prevX = x;
+        prevY = y;
+
+        pushWindow(x, y);
+        if (windowCount == WINDOW && isFixationWindow()) {
+            accumulateNoise(x, y);
+        }
+
+        if (++samplesSinceUpdate < UPDATE_INTERVAL_SAMPLES || fixationSamples < MIN_FIXATION_SAMPLES) {
+            return false;
+        }
+        samplesSinceUpdate = 0;
+        recompute();
+        return true;
+    }
+
+    private void pushWindow(double x, double y) {
+        windowX[windowHead] = x;
+        windowY[windowHead] = y;
+        windowHead = (windowHead + 1) % WINDOW;
+        if (windowCount < WINDOW) {
+            windowCount++;
+        }
+    }
+
+    private boolean isFixationWindow() {
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < WINDOW; i++) {
+            minX = Math.min(minX, windowX[i]);
+            maxX = Math.max(maxX, windowX[i]);
+            minY = Math.min(minY, windowY[i]);
+            maxY = Math.max(maxY, windowY[i]);
+        }
+        return (maxX - minX) + (maxY - minY) <= FIXATION_DISPERSION_PX;
+    }
+
+    private void accumulateNoise(double x, double y) {
+        double meanX = 0.0, meanY = 0.0;
+        for (int i = 0; i < WINDOW; i++) {
+            meanX += windowX[i];
+            meanY += windowY[i];
+        }
+        meanX /= WINDOW;
+        meanY /= WINDOW;
+
+        // 창 평균에 대한 편차의 분산은 σ²(1 - 1/N)이므로 보정, 두 축 평균
+        double dx = x - meanX;
+        double dy = y - meanY;
+        double variance = (dx * dx + dy * dy) / 2.0 * WINDOW / (WINDOW - 1);
+        noiseVariance = fixationSamples == 0 ? variance : noiseVariance + NOISE_SMOOTHING * (variance - noiseVariance);
+        fixationSamples++;
+    }
+
+    private void recompute() {
+        minCutoff = minCutoffForNoise(Math.sqrt(noiseVariance), sampleRate);
+        if (saccadeSamples >= MIN_SACCADE_SAMPLES) {
+            beta = clamp((TARGET_SACCADE_CUTOFF_HZ - minCutoff) / saccadeSpeed, BETA_LOWER, BETA_UPPER);
+        }
+    }
+
+    /**
+     * 1차 저역 통과 필터의 노이즈 감쇠(α / (2 - α))로 목표 떨림이 되는 차단 주파수를 구한다.
+     */
+    static double minCutoffForNoise(double noiseStdDev, double sampleRate) {
+        if (noiseStdDev <= TARGET_JITTER_PX) {
+            return MIN_CUTOFF_UPPER;
+        }
+        double ratio = (TARGET_JITTER_PX / noiseStdDev) * (TARGET_JITTER_PX / noiseStdDev);
+        double alpha = 2.0 * ratio / (1.0 + ratio);
+        double tau = (1.0 / alpha - 1.0) / sampleRate;
+        return clamp(1.0 / (2 * Math.PI * tau), MIN_CUTOFF_LOWER, MIN_CUTOFF_UPPER);
+    }
+
+    private static double clamp(double value, double lower, double upper) {
+        return Math.max(lower, Math.min(upper, value));
+    }
+
+    public double getMinCutoff() {
+        return minCutoff;
+    }
+
+    public double getBeta() {
+        return beta;
+    }
+
+    /**
+     * 고정 응시 중 원시 떨림 표준편차 추정값 (px)
+     */
+    public double getNoiseStdDev() {
+        return Math.sqrt(noiseVariance);
+    }
+
+    /**
+     * 전형적인 도약 속도 추정값 (px/s), 도약이 관측되지 않았으면 0
+     */
+    public double getSaccadeSpeed() {
+        return saccadeSpeed;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+}
@@ -0,0 +1,125 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * N채널 1€ 필터 (Casiez et al., CHI 2012), double 정밀도.
+ * 샘플 간격은 호출 측이 넘기는 타임스탬프(ms)로 계산하므로 실제 샘플링 주기를 따른다.
+ * 필터 연산 중에는 힙 할당이 없으며, 파라미터는 상태를 유지한 채 교체할 수 있다.
+ * 단일 스레드(파이프라인 스레드)에서만 사용한다.
+ */
+public final class OneEuroFilter implements GazeFilter {
+
+    // 추정 샘플링 주기(Hz)의 지수 평활 계수
+    private static final double RATE_SMOOTHING = 0.1;
+
+    private final int channels;
+    private final double[] prevRawValues;
+    private final double[] prevValues;
+    private final double[] prevDerivatives;
+
+    private double minCutoff;
+    private double beta;
+    private double dCutoff;
+
+    private boolean initialized = false;
+    private long lastTimestampMs;
+
+    // 타임스탬프 간격으로 추정한 샘플링 주기 (초기값은 설정 주기)
+    private double estimatedRate;
+
+    public OneEuroFilter(int channels, double freq, double minCutoff, double beta, double dCutoff) {
+        if (channels <= 0) {
+            throw new IllegalArgumentException("channels must be positive: " + channels);
+        }
+        this.channels = channels;
+        this.prevRawValues = new double[channels];
+        this.prevValues = new double[channels];
+        this.prevDerivatives = new double[channels];
+        setParameters(freq, minCutoff, beta, dCutoff);
+    }
+
+    /**
+     * 필터 파라미터를 교체한다. 필터 상태(직전 값/미분)는 유지된다.
+     * freq는 아직 샘플 간격을 추정하지 못했을 때만 사용된다.
+     */
+    public void setParameters(double freq, double minCutoff, double beta, double dCutoff) {
+        if (freq <= 0 || minCutoff <= 0 || dCutoff <= 0) {
+            throw new IllegalArgumentException("freq, minCutoff and dCutoff must be positive");
+        }
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+        this.dCutoff = dCutoff;
+        if (!initialized) {
+            this.estimatedRate = freq;
+        }
+    }
+
+    /**
+     * values의 각 채널을 필터링해 같은 배열에 덮어쓴다.
+     * 타임스탬프가 이전과 같거나 거꾸로 가면 추정 샘플링 주기를 사용한다.
+     */
+    @Override
+    public void filter(long timestampMs, double[] values) {
+        if (!initialized) {
+            for (int i = 0; i < channels; i++) {
+                prevRawValues[i] = values[i];
+                prevValues[i] = values[i];
+                prevDerivatives[i] = 0.0;
+            }
+            lastTimestampMs = timestampMs;
+            initialized = true;
+            return;
+        }
+
+        double rate;
+        long elapsedMs = timestampMs - lastTimestampMs;
+        if (elapsedMs > 0) {
+            rate = 1000.0 / elapsedMs;
+            estimatedRate += RATE_SMOOTHING * (rate - estimatedRate);
+            lastTimestampMs = timestampMs;
+        } else {
+            rate = estimatedRate;
+        }
+
+        double derivativeAlpha = alpha(rate, dCutoff);
+        for (int i = 0; i < channels; i++) {
+            double value = values[i];
+            // 참조 구현과 같이 미분은 직전 원시 값 기준
+            double derivative = (value - prevRawValues[i]) * rate;
+            double smoothedDerivative = derivativeAlpha * derivative + (1.0 - derivativeAlpha) * prevDerivatives[i];
+            double cutoff = minCutoff + beta * Math.abs(smoothedDerivative);
+            double valueAlpha = alpha(rate, cutoff);
+            double filtered = valueAlpha * value + (1.0 - valueAlpha) * prevValues[i];
+
+            prevRawValues[i] = value;
+            prevDerivatives[i] = smoothedDerivative;
+            prevValues[i] = filtered;
+            values[i] = filtered;
+        }
+    }
+
+    /**
+     * 다음 샘플을 첫 샘플로 취급하도록 상태를 비운다. 파라미터는 유지된다.
+     */
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public int getChannelCount() {
+        return channels;
+    }
+
+    /**
+     * 타임스탬프 간격으로 추정한 샘플링 주기 (Hz)
+     */
+    public double getEstimatedRate() {
+        return estimatedRate;
+    }
+
+    static double alpha(double rate, double cutoff) {
+        double te = 1.0 / rate;
+        double tau = 1.0 / (2 * Math.PI * cutoff);
+        return 1.0 / (1.0 + tau / te);
+    }
+}
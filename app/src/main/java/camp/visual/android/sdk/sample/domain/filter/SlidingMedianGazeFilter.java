@@ -0,0 +1,223 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+/**
+ * 슬라이딩 윈도 중앙값 필터.
+ * 채널마다 최대 힙(하위 절반)과 최소 힙(상위 절반)을 두고, 각 원소의 힙 위치를 추적해
+ * 가장 오래된 샘플을 O(log n)에 제거한다. 모든 상태는 원시 배열이다.
+ */
+public final class SlidingMedianGazeFilter implements GazeFilter {
+
+    public static final int DEFAULT_WINDOW = 5;
+
+    // 샘플 간격이 이보다 크면 윈도를 비우고 다시 시작
+    private static final long MAX_SAMPLE_GAP_MS = 500;
+
+    private final int channels;
+    private final SlidingMedian[] medians;
+
+    private boolean initialized = false;
+    private long lastTimestampMs;
+
+    public SlidingMedianGazeFilter(int channels) {
+        this(channels, DEFAULT_WINDOW);
+    }
+
+    public SlidingMedianGazeFilter(int channels, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        this.channels = channels;
+        medians = new SlidingMedian[channels];
+        for (int i = 0; i < channels; i++) {
+            medians[i] = new SlidingMedian(window);
+        }
+    }
+
+    @Override
+    public void filter(long timestampMs, double[] values) {
+        if (!initialized || timestampMs - lastTimestampMs > MAX_SAMPLE_GAP_MS) {
+            for (SlidingMedian median : medians) {
+                median.clear();
+            }
+            initialized = true;
+        }
+        lastTimestampMs = Math.max(lastTimestampMs, timestampMs);
+
+        for (int i = 0; i < channels; i++) {
+            medians[i].add(values[i]);
+            values[i] = medians[i].median();
+        }
+    }
+
+    @Override
+    public void reset() {
+        initialized = false;
+    }
+
+    @Override
+    public int getChannelCount() {
+        return channels;
+    }
+
+    /**
+     * 한 채널의 슬라이딩 중앙값. 윈도 슬롯 번호를 힙 원소로 저장한다.
+     */
+    static final class SlidingMedian {
+        private final int window;
+        private final double[] values;   // 슬롯별 값 (링 버퍼)
+        private final int[] low;         // 최대 힙: 하위 절반 슬롯
+        private final int[] high;        // 최소 힙: 상위 절반 슬롯
+        private final int[] heapIndex;   // 슬롯의 힙 내 위치
+        private final boolean[] inLow;   // 슬롯이 하위 힙에 있는지
+        private int lowSize;
+        private int highSize;
+        private int count;
+        private int next;                // 다음에 덮어쓸 슬롯
+
+        SlidingMedian(int window) {
+            this.window = window;
+            values = new double[window];
+            low = new int[window];
+            high = new int[window];
+            heapIndex = new int[window];
+            inLow = new boolean[window];
+        }
+
+        void clear() {
+            lowSize = 0;
+            highSize = 0;
+            count = 0;
+            next = 0;
+        }
+
+        void add(double value) {
+            int slot = next;
+            next = (next + 1) % window;
+            if (count == window) {
+                remove(slot);
+            } else {
+                count++;
+            }
+
+            values[slot] = value;
+            // 상위 힙 최솟값보다 작으면 하위 힙으로 (하위 힙이 비어 있어도 순서가 유지됨)
+            if (highSize == 0 || value < values[high[0]]) {
+                pushLow(slot);
+            } else {
+                pushHigh(slot);
+            }
+            rebalance();
+        }
+
+        double median() {
+            if (lowSize > highSize) {
+                return values[low[0]];
+            }
+            return (values[low[0]] + values[high[0]]) / 2.0;
+        }
+
+        private void remove(int slot) {
+            int index = heapIndex[slot];
+            if (inLow[slot]) {
+                int last = low[--lowSize];
+                if (index < lowSize) {
+                    setLow(index, last);
+                    siftLow(index);
+                }
+            } else {
+                int last = high[--highSize];
+                if (index < highSize) {
+                    setHigh(index, last);
+                    siftHigh(index);
+                }
+            }
+        }
+
+        // 하위 힙이 상위 힙과 같거나 하나 더 많도록 유지
+        private void rebalance() {
+            if (lowSize > highSize + 1) {
+                int top = low[0];
+                int last = low[--lowSize];
+                if (lowSize > 0) {
+                    setLow(0, last);
+                    siftLow(0);
+                }
+                pushHigh(top);
+            } else if (highSize > lowSize) {
+                int top = high[0];
+                int last = high[--highSize];
+                if (highSize > 0) {
+                    setHigh(0, last);
+                    siftHigh(0);
+                }
+                pushLow(top);
+            }
+        }
+
+        private void pushLow(int slot) {
+            inLow[slot] = true;
+            setLow(lowSize, slot);
+            lowSize++;
+            siftLow(lowSize - 1);
+        }
+
+        private void pushHigh(int slot) {
+            inLow[slot] = false;
+            setHigh(highSize, slot);
+            highSize++;
+            siftHigh(highSize - 1);
+        }
+
+        private void setLow(int index, int slot) {
+            low[index] = slot;
+            heapIndex[slot] = index;
+        }
+
+        private void setHigh(int index, int slot) {
+            high[index] = slot;
+            heapIndex[slot] = index;
+        }
+
+        // 최대 힙: 위/아래 중 필요한 쪽으로 이동
+        private void siftLow(int index) {
+            int slot = low[index];
+            double value = values[slot];
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (values[low[parent]] >= value) break;
+                setLow(index, low[parent]);
+                index = parent;
+            }
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= lowSize) break;
+                if (child + 1 < lowSize && values[low[child + 1]] > values[low[child]]) child++;
+                if (values[low[child]] <= value) break;
+                setLow(index, low[child]);
+                index = child;
+            }
+            setLow(index, slot);
+        }
+
+        // 최소 힙: 위/아래 중 필요한 쪽으로 이동
+        private void siftHigh(int index) {
+            int slot = high[index];
+            double value = values[slot];
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (values[high[parent]] <= value) break;
+                setHigh(index, high[parent]);
+                index = parent;
+            }
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= highSize) break;
+                if (child + 1 < highSize && values[high[child + 1]] < values[high[child]]) child++;
+                if (values[high[child]] >= value) break;
+                setHigh(index, high[child]);
+                index = child;
+            }
+            setHigh(index, slot);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 의도적인 눈 깜빡임으로 클릭을 확정하는 상태 기계.
+ * - 긴 깜빡임: LONG_BLINK_MIN_MS ~ LONG_BLINK_MAX_MS 동안 감았다 뜨면 클릭
+ * - 두 번 깜빡임: 짧은 깜빡임 뒤 DOUBLE_BLINK_WINDOW_MS 안에 다시 깜빡이면 클릭
+ * 한 번의 자연스러운 깜빡임, 한두 프레임짜리 감김(MIN_CLOSURE_MS 미만), 너무 오래 감은 경우는 무시한다.
+ * 클릭 위치는 눈을 감기 시작하기 직전(FREEZE_LOOKBACK_MS 이전) 커서 위치로 고정한다.
+ * 시간은 모두 샘플 타임스탬프(ms) 기준이며 파이프라인 스레드에서만 사용한다.
+ */
+public class BlinkClickDetector {
+
+    // 이보다 짧게 감긴 것은 추적 잡음으로 보고 무시
+    static final long MIN_CLOSURE_MS = 60;
+    // 이 이하가 짧은(자연스러운) 깜빡임
+    static final long SHORT_BLINK_MAX_MS = 300;
+    // 긴 깜빡임 범위 - 이보다 오래 감으면 눈을 쉬는 것으로 보고 클릭하지 않음
+    static final long LONG_BLINK_MIN_MS = 500;
+    static final long LONG_BLINK_MAX_MS = 1500;
+    // 첫 깜빡임 후 두 번째 깜빡임을 기다리는 시간
+    static final long DOUBLE_BLINK_WINDOW_MS = 500;
+    // 클릭 직후 다시 클릭하지 않는 시간
+    static final long REFRACTORY_MS = 600;
+    // 눈꺼풀이 내려오며 시선이 흔들리기 전 위치를 쓰기 위해 감기 시작 시점보다 이만큼 앞선 위치를 고정
+    static final long FREEZE_LOOKBACK_MS = 50;
+
+    private static final int HISTORY_SIZE = 8;
+
+    private enum State {
+        OPEN, CLOSED, WAIT_SECOND, CLOSED_SECOND
+    }
+
+    private UserSettings settings;
+
+    private State state = State.OPEN;
+    private long closeStartMs;
+    private long firstReopenMs;
+    private long refractoryUntilMs = Long.MIN_VALUE;
+
+    // 눈을 뜨고 있던 최근 위치 (링 버퍼)
+    private final long[] historyTimes = new long[HISTORY_SIZE];
+    private final float[] historyX = new float[HISTORY_SIZE];
+    private final float[] historyY = new float[HISTORY_SIZE];
+    private int historyHead = 0;
+    private int historyCount = 0;
+
+    private float frozenX = -1;
+    private float frozenY = -1;
+
+    public BlinkClickDetector(UserSettings settings) {
+        this.settings = settings;
+    }
+
+    public void updateSettings(UserSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 샘플 하나를 반영한다.
+     * @param eyesClosed 두 눈이 감겨 있는지
+     * @return 이번 샘플로 깜빡임 클릭이 확정되었으면 true (위치는 getFrozenX/Y)
+     */
+    public boolean update(long timestampMs, boolean eyesClosed, float x, float y) {
+        if (!settings.isBlinkDetectionEnabled()) {
+            return false;
+        }
+
+        switch (state) {
+            case OPEN:
+                if (!eyesClosed) {
+                    record(timestampMs, x, y);
+                } else if (timestampMs >= refractoryUntilMs && historyCount > 0) {
+                    closeStartMs = timestampMs;
+                    freeze();
+                    state = State.CLOSED;
+                }
+                return false;
+
+            case CLOSED: {
+                if (eyesClosed) {
+                    return false;
+                }
+                long closure = timestampMs - closeStartMs;
+                if (closure >= LONG_BLINK_MIN_MS && closure <= LONG_BLINK_MAX_MS) {
+                    return confirm(timestampMs);
+                }
+                if (closure >= MIN_CLOSURE_MS && closure <= SHORT_BLINK_MAX_MS) {
+                    firstReopenMs = timestampMs;
+                    state = State.WAIT_SECOND;
+                } else {
+                    state = State.OPEN; // 잡음이거나 애매한 길이
+                    record(timestampMs, x, y);
+                }
+                return false;
+            }
+
+            case WAIT_SECOND:
+                if (timestampMs - firstReopenMs > DOUBLE_BLINK_WINDOW_MS) {
+                    state = State.OPEN; // 한 번의 자연스러운 깜빡임
+                    return update(timestampMs, eyesClosed, x, y);
+                }
+                if (eyesClosed) {
+                    closeStartMs = timestampMs; // 고정 위치는 첫 깜빡임 직전 값 유지
+                    state = State.CLOSED_SECOND;
+                }
+                return false;
+
+            case CLOSED_SECOND: {
+                if (eyesClosed) {
+                    return false;
+                }
+                long closure = timestampMs - closeStartMs;
+                if (closure < MIN_CLOSURE_MS) {
+                    state = State.WAIT_SECOND; // 한 프레임 잡음은 두 번째 깜빡임으로 치지 않음
+                    return false;
+                }
+                if (closure <= LONG_BLINK_MAX_MS) {
+                    return confirm(timestampMs);
+                }
+                state = State.OPEN;
+                record(timestampMs, x, y);
+                return false;
+            }
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 눈을 감고 있어 커서를 고정해야 하는 상태인지
+     */
+    public boolean isHolding() {
+        return state == State.CLOSED || state == State.CLOSED_SECOND;
+    }
+
+    public float getFrozenX() {
+        return frozenX;
+    }
+
+    public float getFrozenY() {
+        return frozenY;
+    }
+
+    public void reset() {
+        state = State.OPEN;
+        historyHead = 0;
+        historyCount = 0;
+        refractoryUntilMs = Long.MIN_VALUE;
+    }
+
+    private boolean confirm(long timestampMs) {
+        state = State.OPEN;
+        refractoryUntilMs = timestampMs + REFRACTORY_MS;
+        historyHead = 0;
+        historyCount = 0;
+        return true;
+    }
+
+    private void record(long timestampMs, float x, float y) {
+        historyTimes[historyHead] = timestampMs;
+        historyX[historyHead] = x;
+        historyY[historyHead] = y;
+        historyHead = (historyHead + 1) % HISTORY_SIZE;
+        if (historyCount < HISTORY_SIZE) {
+            historyCount++;
+        }
+    }
+
+    // 감기 시작 FREEZE_LOOKBACK_MS 전 이전의 가장 최근 위치, 없으면 가장 오래된 위치
+    private void freeze() {
+        long limit = closeStartMs - FREEZE_LOOKBACK_MS;
+        int index = (historyHead - 1 + HISTORY_SIZE) % HISTORY_SIZE;
+        int oldest = index;
+        for (int i = 0; i < historyCount; i++) {
+            oldest = index;
+            if (historyTimes[index] <= limit) {
+                break;
+            }
+            index = (index - 1 + HISTORY_SIZE) % HISTORY_SIZE;
+        }
+        frozenX = historyX[oldest];
+        frozenY = historyY[oldest];
+    }
+}
@@ -1,65 +1,130 @@
 package camp.visual.android.sdk.sample.domain.interaction;
 
-import android.util.Log;
-
-import camp.visual.android.sdk.sample.domain.model.GazeData;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 
-public class ClickDetector {
-    private static final String TAG = "ClickDetector";
-
-    private final UserSettings settings;
+/**
+ * 고정 응시 클릭 감지기.
+ * FixationClassifier의 고정 응시 이벤트를 받아, 한 고정 응시가 설정 시간 이상 이어지면 클릭으로 판단한다.
+ * 응시 중심은 첫 샘플이 아니라 최근 샘플의 평균이므로 첫 샘플의 떨림에 흔들리지 않는다.
+ * 응시 시간은 SampleClock(샘플 타임스탬프)으로 재며, 끊긴 구간은 시계의 GapPolicy에 따라 처리된다.
+ * 클릭은 분류기가 고정 응시에 포함한 샘플에서만 확정하고, 위치는 그 샘플이 아니라 응시 중심이다
+ * (분류기가 한 번 무시하는 튄 샘플은 도약의 첫 샘플일 수 있으므로 거기서 클릭하지 않는다).
+ */
+public class ClickDetector implements FixationClassifier.Listener {
+    // I-VT 모드에서 도약으로 보는 속도 (px/s)
+    public static final float VELOCITY_THRESHOLD_PX_PER_S = 1000f;
+    // 응시 중심 계산에 쓰는 최근 샘플 수 (30Hz 기준 약 2초)
+    private static final int FIXATION_WINDOW = 60;
+
+    private UserSettings settings;
+    private final SampleClock clock;
+    private final FixationClassifier classifier;
+    private final DwellTimer dwellTimer;
 
     private float fixationCenterX = -1;
     private float fixationCenterY = -1;
-    private long fixationStartTime = 0;
     private boolean isFixating = false;
+    private long currentTimestampMs;
+    // 이번 샘플이 고정 응시에 포함되었는지 (분류기 이벤트에서 설정)
+    private boolean sampleAccepted = false;
+    // 마지막으로 확정된 클릭 위치 (응시 중심)
+    private float clickX = -1;
+    private float clickY = -1;
 
     public ClickDetector(UserSettings settings) {
+        this(settings, new SampleClock(settings.getGapPolicy()));
+    }
+
+    public ClickDetector(UserSettings settings, SampleClock clock) {
+        this(settings, clock, FixationClassifier.Mode.DISPERSION);
+    }
+
+    /**
+     * @param mode DISPERSION이면 AOI 반경, VELOCITY면 VELOCITY_THRESHOLD_PX_PER_S로 도약을 판단
+     */
+    public ClickDetector(UserSettings settings, SampleClock clock, FixationClassifier.Mode mode) {
         this.settings = settings;
+        this.clock = clock;
+        this.dwellTimer = new DwellTimer(clock);
+        float threshold = mode == FixationClassifier.Mode.DISPERSION
+                ? settings.getAoiRadius() : VELOCITY_THRESHOLD_PX_PER_S;
+        // 샘플 간격은 시계의 정책으로 처리하므로 분류기 자체의 간격 종료는 끈다
+        this.classifier = new FixationClassifier(mode, threshold, FIXATION_WINDOW, Long.MAX_VALUE, this);
+    }
+
+    /**
+     * 응시 시간/AOI 반경을 진행 중인 응시를 유지한 채 바꾼다 (파이프라인 스레드)
+     */
+    public void updateSettings(UserSettings settings) {
+        this.settings = settings;
+        if (classifier.getMode() == FixationClassifier.Mode.DISPERSION) {
+            classifier.setThreshold(settings.getAoiRadius());
+        }
     }
 
     public float getProgress() {
-        if (!isFixating || fixationStartTime == 0) {
+        if (!isFixating) {
             return 0f;
         }
-
-        long duration = System.currentTimeMillis() - fixationStartTime;
-        return Math.min((float) duration / settings.getFixationDurationMs(), 1.0f);
+        return Math.min(dwellTimer.elapsedMs() / settings.getFixationDurationMs(), 1.0f);
     }
 
-    public boolean update(float x, float y) {
+    /**
+     * 샘플 하나를 반영한다.
+     * @param timestampMs SDK 샘플 타임스탬프 (ms)
+     * @return 이번 샘플로 클릭이 확정되었으면 true
+     */
+    public boolean update(long timestampMs, float x, float y) {
         if (!settings.isClickEnabled()) {
             return false;
         }
 
-        // 관심 영역(AOI) 내에 있는지 확인
-        boolean insideAOI = (fixationCenterX >= 0 && fixationCenterY >= 0) &&
-                (Math.abs(x - fixationCenterX) < settings.getAoiRadius()) &&
-                (Math.abs(y - fixationCenterY) < settings.getAoiRadius());
-
-        // 처음 시작이거나 AOI 밖으로 나갔을 경우
-        if (fixationCenterX < 0 || fixationCenterY < 0 || !insideAOI) {
-            fixationCenterX = x;
-            fixationCenterY = y;
-            fixationStartTime = System.currentTimeMillis();
-            isFixating = true;
+        clock.advance(timestampMs);
+        currentTimestampMs = timestampMs;
+        sampleAccepted = false;
+        classifier.update(timestampMs, x, y);
+        if (!isFixating || !sampleAccepted) {
             return false;
         }
 
-        // AOI 내에서 계속 응시 중인 경우
-        long duration = System.currentTimeMillis() - fixationStartTime;
+        // RESET 정책으로 타이머가 멈췄으면 지금부터 다시 잰다
+        if (!dwellTimer.isRunning()) {
+            dwellTimer.start();
+        }
 
-        // 응시 시간이 충분하면 클릭 신호 반환
-        if (duration >= settings.getFixationDurationMs()) {
-            Log.d(TAG, "클릭 감지: (" + x + ", " + y + ")");
-            reset(); // 클릭 후 상태 리셋
+        // 응시 시간이 충분하면 클릭 신호 반환 (로그는 호출 측에서 남김 - 매 샘플 경로에서 문자열 생성 방지)
+        if (dwellTimer.elapsedMs() >= settings.getFixationDurationMs()) {
+            clickX = fixationCenterX;
+            clickY = fixationCenterY;
+            reset(); // 클릭 후 새 고정 응시부터 다시 판단
             return true;
         }
-
         return false;
     }
 
+    @Override
+    public void onFixationStart(long timestampMs, float centerX, float centerY) {
+        isFixating = true;
+        sampleAccepted = true;
+        fixationCenterX = centerX;
+        fixationCenterY = centerY;
+        // 고정 응시는 판단에 쓰인 첫 샘플부터 시작된 것으로 본다
+        dwellTimer.startAt(currentTimestampMs - timestampMs);
+    }
+
+    @Override
+    public void onFixationUpdate(long timestampMs, float centerX, float centerY, long durationMs) {
+        sampleAccepted = true;
+        fixationCenterX = centerX;
+        fixationCenterY = centerY;
+    }
+
+    @Override
+    public void onFixationEnd(long timestampMs, long durationMs) {
+        isFixating = false;
+        dwellTimer.stop();
+    }
+
     public float getFixationX() {
         return fixationCenterX;
     }
@@ -68,10 +133,22 @@ public class ClickDetector {
         return fixationCenterY;
     }
 
+    /**
+     * update()가 true를 반환한 샘플에서 클릭할 위치 (그 고정 응시의 중심)
+     */
+    public float getClickX() {
+        return clickX;
+    }
+
+    public float getClickY() {
+        return clickY;
+    }
+
     public void reset() {
+        classifier.reset();
         fixationCenterX = -1;
         fixationCenterY = -1;
-        fixationStartTime = 0;
+        dwellTimer.stop();
         isFixating = false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,275 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import java.util.Arrays;
+
+/**
+ * 클릭 가능한 대상(화면 좌표 사각형)의 균일 격자 공간 색인.
+ * 만들어진 색인은 바뀌지 않으므로 노드 트리 캐시 스레드에서 만들고 파이프라인 스레드에서 잠금 없이 읽는다.
+ * 조회는 반경이 덮는 격자 칸만 훑으므로 대상 수와 무관하게 칸당 대상 수에 비례한다.
+ * 변경은 Builder에 창/영역 단위로 반영한 뒤 build()로 새 색인을 만든다.
+ * 대상마다 만든 쪽이 정한 정수 태그(노드 핸들 등)를 함께 둘 수 있어, 좌표로 원래 노드를 찾는 데도 쓴다.
+ */
+public final class ClickTargetIndex {
+
+    public static final ClickTargetIndex EMPTY = new Builder().build();
+
+    // 태그 없이 추가한 대상의 태그
+    public static final int NO_TAG = -1;
+
+    // 격자 한 칸 크기 (px) - 일반적인 버튼 크기 정도
+    static final float CELL_SIZE = 128f;
+
+    private final int count;
+    private final int[] tags;
+    private final float[] lefts;
+    private final float[] tops;
+    private final float[] rights;
+    private final float[] bottoms;
+
+    // 격자: cellStart[c] ~ cellStart[c + 1] 구간의 cellItems가 칸 c에 걸친 대상 번호
+    private final float originX;
+    private final float originY;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellItems;
+
+    private ClickTargetIndex(Builder builder) {
+        count = builder.size;
+        tags = Arrays.copyOf(builder.tags, count);
+        lefts = Arrays.copyOf(builder.lefts, count);
+        tops = Arrays.copyOf(builder.tops, count);
+        rights = Arrays.copyOf(builder.rights, count);
+        bottoms = Arrays.copyOf(builder.bottoms, count);
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, lefts[i]);
+            minY = Math.min(minY, tops[i]);
+            maxX = Math.max(maxX, rights[i]);
+            maxY = Math.max(maxY, bottoms[i]);
+        }
+        if (count == 0) {
+            minX = minY = maxX = maxY = 0f;
+        }
+        originX = minX;
+        originY = minY;
+        columns = Math.max(1, (int) Math.ceil((maxX - minX) / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil((maxY - minY) / CELL_SIZE));
+
+        // 칸별 개수 → 시작 위치 → 채우기 (CSR 형태)
+        cellStart = new int[columns * rows + 1];
+        for (int i = 0; i < count; i++) {
+            for (int r = row(tops[i]); r <= row(bottoms[i]); r++) {
+                for (int c = column(lefts[i]); c <= column(rights[i]); c++) {
+                    cellStart[r * columns + c + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellItems = new int[cellStart[columns * rows]];
+        int[] fill = Arrays.copyOf(cellStart, columns * rows);
+        for (int i = 0; i < count; i++) {
+            for (int r = row(tops[i]); r <= row(bottoms[i]); r++) {
+                for (int c = column(lefts[i]); c <= column(rights[i]); c++) {
+                    cellItems[fill[r * columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) ((x - originX) / CELL_SIZE)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / CELL_SIZE)));
+    }
+
+    /**
+     * 점에서 radius 이내에 있는 가장 가까운 대상. 점을 포함하는 대상이 여럿이면 가장 작은 대상.
+     * @return 대상 번호, 없으면 -1
+     */
+    public int nearest(float x, float y, float radius) {
+        if (count == 0) {
+            return -1;
+        }
+        int best = -1;
+        float bestDistance = radius;
+        float bestArea = Float.MAX_VALUE;
+        int c0 = column(x - radius), c1 = column(x + radius);
+        int r0 = row(y - radius), r1 = row(y + radius);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = cellItems[k];
+                    float d = distance(i, x, y);
+                    if (d > bestDistance) continue;
+                    float area = (rights[i] - lefts[i]) * (bottoms[i] - tops[i]);
+                    if (d < bestDistance || area < bestArea) {
+                        best = i;
+                        bestDistance = d;
+                        bestArea = area;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 점을 포함하는 대상 번호를 out에 채운다 (점이 걸친 격자 칸 하나만 훑음)
+     * @return 채운 개수 (out 길이를 넘는 대상은 버림)
+     */
+    public int containing(float x, float y, int[] out) {
+        if (count == 0) {
+            return 0;
+        }
+        int found = 0;
+        int cell = row(y) * columns + column(x);
+        for (int k = cellStart[cell]; k < cellStart[cell + 1] && found < out.length; k++) {
+            int i = cellItems[k];
+            if (x >= lefts[i] && x <= rights[i] && y >= tops[i] && y <= bottoms[i]) {
+                out[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 점에서 대상 사각형까지 거리 (안에 있으면 0)
+     */
+    public float distance(int index, float x, float y) {
+        return rectDistance(lefts[index], tops[index], rights[index], bottoms[index], x, y);
+    }
+
+    public static float rectDistance(float left, float top, float right, float bottom, float x, float y) {
+        float dx = Math.max(Math.max(left - x, 0f), x - right);
+        float dy = Math.max(Math.max(top - y, 0f), y - bottom);
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 추가할 때 준 태그 (없으면 NO_TAG)
+     */
+    public int getTag(int index) {
+        return tags[index];
+    }
+
+    public float getLeft(int index) {
+        return lefts[index];
+    }
+
+    public float getTop(int index) {
+        return tops[index];
+    }
+
+    public float getRight(int index) {
+        return rights[index];
+    }
+
+    public float getBottom(int index) {
+        return bottoms[index];
+    }
+
+    /**
+     * 창별 대상 목록. 접근성 이벤트가 올 때마다 바뀐 창/영역만 지우고 다시 채운 뒤 build()한다.
+     * 한 스레드(노드 트리 캐시 스레드)에서만 사용한다.
+     */
+    public static final class Builder {
+        private int size = 0;
+        private int[] windowIds = new int[32];
+        private int[] tags = new int[32];
+        private float[] lefts = new float[32];
+        private float[] tops = new float[32];
+        private float[] rights = new float[32];
+        private float[] bottoms = new float[32];
+
+        public Builder add(int windowId, float left, float top, float right, float bottom) {
+            return add(windowId, NO_TAG, left, top, right, bottom);
+        }
+
+        /**
+         * @param tag 조회 결과에서 getTag()로 돌려받을 값 (노드 핸들 등)
+         */
+        public Builder add(int windowId, int tag, float left, float top, float right, float bottom) {
+            if (right <= left || bottom <= top) {
+                return this;
+            }
+            if (size == windowIds.length) {
+                int capacity = size * 2;
+                windowIds = Arrays.copyOf(windowIds, capacity);
+                tags = Arrays.copyOf(tags, capacity);
+                lefts = Arrays.copyOf(lefts, capacity);
+                tops = Arrays.copyOf(tops, capacity);
+                rights = Arrays.copyOf(rights, capacity);
+                bottoms = Arrays.copyOf(bottoms, capacity);
+            }
+            windowIds[size] = windowId;
+            tags[size] = tag;
+            lefts[size] = left;
+            tops[size] = top;
+            rights[size] = right;
+            bottoms[size] = bottom;
+            size++;
+            return this;
+        }
+
+        /**
+         * 해당 창에서 주어진 영역 안에 완전히 들어가는 대상을 지운다 (바뀐 하위 트리를 다시 훑기 전)
+         */
+        public Builder removeWithin(int windowId, float left, float top, float right, float bottom) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                boolean inside = windowIds[i] == windowId
+                        && lefts[i] >= left && tops[i] >= top && rights[i] <= right && bottoms[i] <= bottom;
+                if (!inside) {
+                    move(i, kept++);
+                }
+            }
+            size = kept;
+            return this;
+        }
+
+        public Builder removeWindow(int windowId) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (windowIds[i] != windowId) {
+                    move(i, kept++);
+                }
+            }
+            size = kept;
+            return this;
+        }
+
+        public Builder clear() {
+            size = 0;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void move(int from, int to) {
+            if (from == to) return;
+            windowIds[to] = windowIds[from];
+            tags[to] = tags[from];
+            lefts[to] = lefts[from];
+            tops[to] = tops[from];
+            rights[to] = rights[from];
+            bottoms[to] = bottoms[from];
+        }
+
+        public ClickTargetIndex build() {
+            return new ClickTargetIndex(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * SampleClock 위에서 동작하는 응시 타이머.
+ * 시계에 등록하지 않고 시작 시점의 값만 기억하므로, 파이프라인이 재구성되어 감지기가 바뀌어도 시계를 공유할 수 있다.
+ * - PAUSE: 시계가 간격을 건너뛰므로 그대로 이어서 진행
+ * - DECAY: 시작 이후 되돌린 시간만큼 경과 시간에서 뺌 (0 아래로는 내려가지 않음)
+ * - RESET: 시작 이후 간격이 있었으면 멈춘 상태가 됨
+ */
+public final class DwellTimer {
+
+    private final SampleClock clock;
+
+    private boolean running = false;
+    private long startMs;
+    private long decayMark;
+    private int resetMark;
+
+    public DwellTimer(SampleClock clock) {
+        this.clock = clock;
+    }
+
+    public void start() {
+        startAt(0);
+    }
+
+    /**
+     * @param alreadyElapsedMs 이미 지난 것으로 칠 시간 (시작 판단에 샘플 몇 개가 필요한 경우)
+     */
+    public void startAt(long alreadyElapsedMs) {
+        running = true;
+        startMs = clock.now() - Math.max(0, alreadyElapsedMs);
+        decayMark = clock.getDecayedMs();
+        resetMark = clock.getResetCount();
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        if (running && clock.getResetCount() != resetMark) {
+            running = false;
+        }
+        return running;
+    }
+
+    public long elapsedMs() {
+        if (!isRunning()) {
+            return 0;
+        }
+        long elapsed = clock.now() - startMs - (clock.getDecayedMs() - decayMark);
+        if (elapsed < 0) {
+            // 되돌린 시간이 진행도보다 크면 0에서 다시 쌓는다
+            startAt(0);
+            return 0;
+        }
+        return elapsed;
+    }
+}
@@ -1,208 +1,122 @@
 package camp.visual.android.sdk.sample.domain.interaction;
 
-import android.content.Context;
-import android.os.Vibrator;
-import android.util.Log;
-
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 
+/**
+ * 화면 가장자리 응시로 스크롤을 트리거한다.
+ * 영역 판정과 응시 단계는 GazeZoneEngine이 영역 표(zones)로 처리하고, 여기서는 알림 진동과 커서 모양만 정한다.
+ * 샘플마다 불리는 경로이므로 로그 문자열을 만들지 않는다 (단계 진행은 진동과 커서 모양으로 드러남).
+ */
 public class EdgeScrollDetector {
-    private static final String TAG = "EdgeScrollDetector";
 
-    private final UserSettings settings;
-    private final Vibrator vibrator;
+    // 이탈 판정용 여유 폭 (화면 비율) - 경계에서 시선이 흔들려도 타이머가 초기화되지 않게 함
+    static final float EXIT_MARGIN_RATIO = 0.03f;
 
-    public enum Edge {
-        TOP, BOTTOM, NONE
-    }
+    private UserSettings settings;
+    private final HapticScheduler haptics;
+    private final GazeZoneEngine engine;
+    // 기본 영역 표를 쓰면 가장자리 폭 설정이 바뀔 때 표를 다시 만든다
+    private final boolean defaultTable;
 
     public enum ScrollAction {
         SCROLL_UP, SCROLL_DOWN, NONE
     }
 
-    // 상단 응시 관련 변수
-    private int topGazeConsecutiveFrames = 0;
-    private long topGazeStartTime = 0;
-    private boolean topGazeVibrated1s = false;
-    private boolean topGazeVibrated2s = false;
-    private boolean topGazeTriggered = false;
+    public EdgeScrollDetector(UserSettings settings, HapticScheduler haptics, SampleClock clock) {
+        this(settings, haptics, clock, defaultZones(settings.getEdgeMarginRatio()), true);
+    }
 
-    // 하단 응시 관련 변수
-    private int bottomGazeConsecutiveFrames = 0;
-    private long bottomGazeStartTime = 0;
-    private boolean bottomGazeVibrated1s = false;
-    private boolean bottomGazeVibrated2s = false;
-    private boolean bottomGazeTriggered = false;
+    public EdgeScrollDetector(UserSettings settings, HapticScheduler haptics, SampleClock clock, GazeZone[] zones) {
+        this(settings, haptics, clock, zones, false);
+    }
 
-    // 현재 감지된 엣지
-    private Edge currentEdge = Edge.NONE;
+    private EdgeScrollDetector(UserSettings settings, HapticScheduler haptics, SampleClock clock, GazeZone[] zones,
+                               boolean defaultTable) {
+        this.settings = settings;
+        this.defaultTable = defaultTable;
+        this.haptics = haptics;
+        this.engine = new GazeZoneEngine(zones, clock, settings.getEdgeTriggerMs());
+    }
 
-    private static final int EDGE_THRESHOLD_FRAMES = 5; // 연속 5프레임 이상
+    /**
+     * 기본 영역 표: 상단 응시는 아래로, 하단 응시는 위로 스크롤
+     */
+    public static GazeZone[] defaultZones(float edgeMarginRatio) {
+        return new GazeZone[] {
+                GazeZone.edge(GazeZone.Side.TOP, edgeMarginRatio, EXIT_MARGIN_RATIO,
+                        ScrollAction.SCROLL_DOWN, CursorGlyph.ARROW_UP),
+                GazeZone.edge(GazeZone.Side.BOTTOM, edgeMarginRatio, EXIT_MARGIN_RATIO,
+                        ScrollAction.SCROLL_UP, CursorGlyph.ARROW_DOWN)
+        };
+    }
 
-    public EdgeScrollDetector(UserSettings settings, Context context) {
+    /**
+     * 응시 시간/가장자리 폭을 진행 중인 응시를 유지한 채 바꾼다 (파이프라인 스레드)
+     */
+    public void updateSettings(UserSettings settings) {
+        if (defaultTable && settings.getEdgeMarginRatio() != this.settings.getEdgeMarginRatio()) {
+            engine.setZones(defaultZones(settings.getEdgeMarginRatio()));
+        }
+        engine.setTriggerMs(settings.getEdgeTriggerMs());
         this.settings = settings;
-        this.vibrator = (Vibrator) context.getSystemService(Context.VIBRATOR_SERVICE);
     }
 
-    public Edge update(float y, float screenHeight) {
+    /**
+     * @param timestampMs SDK 샘플 타임스탬프 (ms) - 엣지 응시 시간은 이 값으로 잰다
+     * @return 응시 시간이 다 찬 샘플에서만 해당 영역의 동작, 그 외에는 NONE
+     */
+    public ScrollAction update(long timestampMs, float x, float y, float screenWidth, float screenHeight) {
         if (!settings.isEdgeScrollEnabled() || !settings.isScrollEnabled()) {
-            return Edge.NONE;
+            return ScrollAction.NONE;
         }
 
-        float topMargin = screenHeight * settings.getEdgeMarginRatio();
-        float bottomMargin = screenHeight * (1 - settings.getEdgeMarginRatio());
-
-        boolean isInTopEdge = y < topMargin;
-        boolean isInBottomEdge = y > bottomMargin;
-
-        // 엣지 영역이 바뀌면 모든 상태 초기화
-        if (isInTopEdge && currentEdge != Edge.TOP) {
-            resetBottom();
-            currentEdge = Edge.TOP;
-        } else if (isInBottomEdge && currentEdge != Edge.BOTTOM) {
-            resetTop();
-            currentEdge = Edge.BOTTOM;
-        } else if (!isInTopEdge && !isInBottomEdge) {
-            resetAll();
-            currentEdge = Edge.NONE;
-            return Edge.NONE;
+        int event = engine.update(timestampMs, x, y, screenWidth, screenHeight);
+        if (event == GazeZoneEngine.EVENT_NONE) {
+            return ScrollAction.NONE;
         }
 
-        // 현재 감지된 엣지 반환
-        return currentEdge;
-    }
-
-    public ScrollAction processTopEdge() {
-        // 상단 연속 프레임 카운팅
-        topGazeConsecutiveFrames++;
-
-        if (topGazeConsecutiveFrames >= EDGE_THRESHOLD_FRAMES) {
-            if (topGazeStartTime == 0) {
-                topGazeStartTime = System.currentTimeMillis();
-                topGazeVibrated1s = false;
-                topGazeVibrated2s = false;
-                topGazeTriggered = false;
-                Log.d(TAG, "상단 응시 감지 - 타이머 시작");
-                vibrator.vibrate(50); // 시작 알림 진동
+        GazeZone zone = engine.getZone(engine.getActiveZone());
+        switch (event) {
+            case GazeZoneEngine.EVENT_CONFIRMED:
+                haptics.post(HapticScheduler.Pulse.START); // 시작 알림 진동
                 return ScrollAction.NONE;
-            } else {
-                long duration = System.currentTimeMillis() - topGazeStartTime;
-
-                // 1초 경과 - 진동 추가
-                if (duration > 1000 && !topGazeVibrated1s) {
-                    vibrator.vibrate(100); // 1초 알림 진동
-                    topGazeVibrated1s = true;
-                    Log.d(TAG, "상단 응시 1초 경과");
-                    return ScrollAction.NONE;
-                }
-                // 2초 경과 - 진동 추가
-                else if (duration > 2000 && !topGazeVibrated2s) {
-                    vibrator.vibrate(100); // 2초 알림 진동
-                    topGazeVibrated2s = true;
-                    Log.d(TAG, "상단 응시 2초 경과");
-                    return ScrollAction.NONE;
-                }
-
-                // 설정된 시간(기본 3초) 이상 응시하면 스크롤 다운
-                if (duration >= settings.getEdgeTriggerMs() && !topGazeTriggered) {
-                    Log.d(TAG, "상단 응시 " + (settings.getEdgeTriggerMs()/1000) + "초 완료 - 하단 스크롤 실행");
-                    topGazeTriggered = true;
-                    vibrator.vibrate(300); // 스크롤 실행 알림 진동
-                    return ScrollAction.SCROLL_DOWN;
-                }
-            }
-        }
-
-        return ScrollAction.NONE;
-    }
-
-    public ScrollAction processBottomEdge() {
-        // 하단 연속 프레임 카운팅
-        bottomGazeConsecutiveFrames++;
-
-        if (bottomGazeConsecutiveFrames >= EDGE_THRESHOLD_FRAMES) {
-            if (bottomGazeStartTime == 0) {
-                bottomGazeStartTime = System.currentTimeMillis();
-                bottomGazeVibrated1s = false;
-                bottomGazeVibrated2s = false;
-                bottomGazeTriggered = false;
-                Log.d(TAG, "하단 응시 감지 - 타이머 시작");
-                vibrator.vibrate(50); // 시작 알림 진동
+            case GazeZoneEngine.EVENT_MILESTONE:
+                haptics.post(HapticScheduler.Pulse.MILESTONE); // 1초/2초 알림 진동
                 return ScrollAction.NONE;
-            } else {
-                long duration = System.currentTimeMillis() - bottomGazeStartTime;
-
-                // 1초 경과 - 진동 추가
-                if (duration > 1000 && !bottomGazeVibrated1s) {
-                    vibrator.vibrate(100); // 1초 알림 진동
-                    bottomGazeVibrated1s = true;
-                    Log.d(TAG, "하단 응시 1초 경과");
-                    return ScrollAction.NONE;
-                }
-                // 2초 경과 - 진동 추가
-                else if (duration > 2000 && !bottomGazeVibrated2s) {
-                    vibrator.vibrate(100); // 2초 알림 진동
-                    bottomGazeVibrated2s = true;
-                    Log.d(TAG, "하단 응시 2초 경과");
-                    return ScrollAction.NONE;
-                }
-
-                // 설정된 시간(기본 3초) 이상 응시하면 스크롤 업
-                if (duration >= settings.getEdgeTriggerMs() && !bottomGazeTriggered) {
-                    Log.d(TAG, "하단 응시 " + (settings.getEdgeTriggerMs()/1000) + "초 완료 - 상단 스크롤 실행");
-                    bottomGazeTriggered = true;
-                    vibrator.vibrate(300); // 스크롤 실행 알림 진동
-                    return ScrollAction.SCROLL_UP;
-                }
-            }
+            case GazeZoneEngine.EVENT_TRIGGERED:
+            default:
+                haptics.post(HapticScheduler.Pulse.TRIGGER); // 스크롤 실행 알림 진동
+                return zone.getAction();
         }
-
-        return ScrollAction.NONE;
-    }
-
-    public String getEdgeStateText() {
-        if (currentEdge == Edge.TOP) {
-            if (topGazeStartTime == 0) return "▲";
-
-            long duration = System.currentTimeMillis() - topGazeStartTime;
-            if (duration > 2000) return "②";
-            if (duration > 1000) return "①";
-            return "▲";
-        } else if (currentEdge == Edge.BOTTOM) {
-            if (bottomGazeStartTime == 0) return "▼";
-
-            long duration = System.currentTimeMillis() - bottomGazeStartTime;
-            if (duration > 2000) return "②";
-            if (duration > 1000) return "①";
-            return "▼";
-        }
-
-        return "●";
     }
 
-    private void resetTop() {
-        topGazeConsecutiveFrames = 0;
-        topGazeStartTime = 0;
-        topGazeVibrated1s = false;
-        topGazeVibrated2s = false;
-        topGazeTriggered = false;
+    /**
+     * 활성 영역의 진행 상태 커서 (비활성이면 NONE)
+     */
+    public CursorGlyph getEdgeStateGlyph() {
+        int active = engine.getActiveZone();
+        if (active < 0) return CursorGlyph.NONE;
+
+        int passed = engine.getMilestonesPassed();
+        if (passed >= 2) return CursorGlyph.COUNT_2;
+        if (passed == 1) return CursorGlyph.COUNT_1;
+        return engine.getZone(active).getGlyph();
     }
 
-    private void resetBottom() {
-        bottomGazeConsecutiveFrames = 0;
-        bottomGazeStartTime = 0;
-        bottomGazeVibrated1s = false;
-        bottomGazeVibrated2s = false;
-        bottomGazeTriggered = false;
+    /**
+     * 진행 표시 텍스트를 커서 위쪽에 둘지 (하단 영역)
+     */
+    public boolean isTextAbove() {
+        int active = engine.getActiveZone();
+        return active >= 0 && engine.getZone(active).isTextAbove();
     }
 
     public void resetAll() {
-        resetTop();
-        resetBottom();
-        currentEdge = Edge.NONE;
+        engine.reset();
     }
 
     public boolean isActive() {
-        return currentEdge != Edge.NONE;
+        return engine.getActiveZone() >= 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 눈 개폐 정도(0 = 감음, 1 = 뜸)로 "눈을 감고 있는 상태"를 판정한다.
+ * SDK의 깜빡임 플래그는 깜빡임이 감지된 한 프레임에만 켜지므로 감은 시간을 잴 수 없어,
+ * BlinkClickDetector에는 이 상태를 넘긴다.
+ * 두 눈이 모두 CLOSE_THRESHOLD 아래로 내려가면 감음, 한쪽이라도 OPEN_THRESHOLD 위로 올라오면 뜸으로 바꾼다
+ * (두 기준 사이에서는 이전 상태를 유지해 경계에서 깜빡거리지 않게 함).
+ * 한 스레드(SDK 콜백 스레드)에서만 사용한다.
+ */
+public final class EyeClosureDetector {
+
+    static final float CLOSE_THRESHOLD = 0.2f;
+    static final float OPEN_THRESHOLD = 0.35f;
+
+    private boolean closed = false;
+
+    /**
+     * @return 이번 샘플에서 눈을 감고 있으면 true
+     */
+    public boolean update(float leftOpenness, float rightOpenness) {
+        float openness = Math.max(leftOpenness, rightOpenness);
+        if (closed) {
+            if (openness > OPEN_THRESHOLD) {
+                closed = false;
+            }
+        } else if (openness < CLOSE_THRESHOLD) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void reset() {
+        closed = false;
+    }
+}
@@ -0,0 +1,205 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 스트리밍 고정 응시/도약 분류기.
+ * - VELOCITY (I-VT): 직전 샘플 대비 속도가 임계값(px/s)을 넘으면 도약
+ * - DISPERSION (I-DT): 현재 고정 응시 중심을 둘러싼 정사각형 AOI(반폭 = 임계값 px) 밖이면 도약
+ *   (기존 ClickDetector의 AOI 판정과 같은 모양이라 aoiRadius 설정의 의미가 그대로 유지된다)
+ * 고정 응시 중심과 분산은 최근 샘플 링 버퍼의 누적 합으로 O(1)에 갱신한다.
+ * 한 샘플만 튀는 경우는 고정 응시를 끝내지 않고 무시한다 (연속 MAX_OUTLIERS개까지).
+ * 단일 스레드(파이프라인 스레드)에서만 사용하며 샘플당 힙 할당이 없다.
+ */
+public class FixationClassifier {
+
+    public enum Mode {
+        VELOCITY, DISPERSION
+    }
+
+    /**
+     * 고정 응시 이벤트. 모든 시각은 샘플 타임스탬프(ms) 기준이다.
+     */
+    public interface Listener {
+        void onFixationStart(long timestampMs, float centerX, float centerY);
+
+        void onFixationUpdate(long timestampMs, float centerX, float centerY, long durationMs);
+
+        void onFixationEnd(long timestampMs, long durationMs);
+    }
+
+    // 고정 응시 시작에 필요한 최소 샘플 수
+    private static final int MIN_FIXATION_SAMPLES = 3;
+    // 이만큼 연속으로 벗어나야 고정 응시가 끝난 것으로 판단
+    private static final int MAX_OUTLIERS = 1;
+    // 샘플 간격이 이보다 크면 고정 응시를 끝냄 (기본값)
+    public static final long DEFAULT_MAX_SAMPLE_GAP_MS = 200;
+
+    private final Mode mode;
+    private float threshold;
+    private final long maxSampleGapMs;
+    private final Listener listener;
+
+    // 최근 고정 응시 샘플 링 버퍼와 누적 합
+    private final float[] ringX;
+    private final float[] ringY;
+    private int ringHead = 0;
+    private int ringCount = 0;
+    private double sumX;
+    private double sumY;
+    private double sumSquares;
+
+    private boolean fixating = false;
+    private long candidateStartMs;
+    private int outliers = 0;
+
+    private boolean hasPrevious = false;
+    private long prevTimestampMs;
+    private float prevX;
+    private float prevY;
+
+    /**
+     * @param threshold VELOCITY 모드는 px/s, DISPERSION 모드는 중심을 둘러싼 정사각형 AOI의 반폭(px)
+     * @param window    중심 계산에 쓰는 최근 샘플 수
+     */
+    public FixationClassifier(Mode mode, float threshold, int window, Listener listener) {
+        this(mode, threshold, window, DEFAULT_MAX_SAMPLE_GAP_MS, listener);
+    }
+
+    /**
+     * 도약 판단 기준만 바꾼다 (진행 중인 고정 응시는 유지)
+     */
+    public void setThreshold(float threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param maxSampleGapMs 이보다 긴 샘플 간격은 고정 응시를 끝냄.
+     *                       간격 처리를 SampleClock 정책에 맡길 때는 Long.MAX_VALUE
+     */
+    public FixationClassifier(Mode mode, float threshold, int window, long maxSampleGapMs, Listener listener) {
+        if (window < MIN_FIXATION_SAMPLES) {
+            throw new IllegalArgumentException("window must be at least " + MIN_FIXATION_SAMPLES);
+        }
+        this.mode = mode;
+        this.threshold = threshold;
+        this.maxSampleGapMs = maxSampleGapMs;
+        this.listener = listener;
+        ringX = new float[window];
+        ringY = new float[window];
+    }
+
+    public void update(long timestampMs, float x, float y) {
+        if (hasPrevious && timestampMs - prevTimestampMs > maxSampleGapMs) {
+            endFixation(prevTimestampMs);
+            clearWindow();
+        }
+
+        boolean breaks = ringCount > 0 && breaksFixation(timestampMs, x, y);
+        if (breaks && ++outliers <= MAX_OUTLIERS) {
+            return; // 한 번 튄 샘플은 무시 (속도 기준점도 바꾸지 않음)
+        }
+        hasPrevious = true;
+        prevTimestampMs = timestampMs;
+        prevX = x;
+        prevY = y;
+
+        if (breaks) {
+            endFixation(timestampMs);
+            clearWindow();
+        }
+        outliers = 0;
+
+        if (ringCount == 0) {
+            candidateStartMs = timestampMs;
+        }
+        push(x, y);
+
+        if (!fixating) {
+            if (ringCount >= MIN_FIXATION_SAMPLES) {
+                fixating = true;
+                listener.onFixationStart(candidateStartMs, getCenterX(), getCenterY());
+            }
+        } else {
+            listener.onFixationUpdate(timestampMs, getCenterX(), getCenterY(), timestampMs - candidateStartMs);
+        }
+    }
+
+    private boolean breaksFixation(long timestampMs, float x, float y) {
+        if (mode == Mode.VELOCITY) {
+            long elapsed = timestampMs - prevTimestampMs;
+            if (elapsed <= 0) return false;
+            double speed = Math.hypot(x - prevX, y - prevY) * 1000.0 / elapsed;
+            return speed > threshold;
+        }
+        return Math.abs(x - getCenterX()) >= threshold || Math.abs(y - getCenterY()) >= threshold;
+    }
+
+    private void push(float x, float y) {
+        if (ringCount == ringX.length) {
+            float oldX = ringX[ringHead];
+            float oldY = ringY[ringHead];
+            sumX -= oldX;
+            sumY -= oldY;
+            sumSquares -= (double) oldX * oldX + (double) oldY * oldY;
+        } else {
+            ringCount++;
+        }
+        ringX[ringHead] = x;
+        ringY[ringHead] = y;
+        ringHead = (ringHead + 1) % ringX.length;
+        sumX += x;
+        sumY += y;
+        sumSquares += (double) x * x + (double) y * y;
+    }
+
+    private void endFixation(long timestampMs) {
+        if (fixating) {
+            fixating = false;
+            listener.onFixationEnd(timestampMs, timestampMs - candidateStartMs);
+        }
+    }
+
+    private void clearWindow() {
+        ringHead = 0;
+        ringCount = 0;
+        sumX = 0;
+        sumY = 0;
+        sumSquares = 0;
+        outliers = 0;
+    }
+
+    /**
+     * 진행 중인 고정 응시를 이벤트 없이 버리고 처음부터 다시 판단한다.
+     */
+    public void reset() {
+        fixating = false;
+        hasPrevious = false;
+        clearWindow();
+    }
+
+    public boolean isFixating() {
+        return fixating;
+    }
+
+    public float getCenterX() {
+        return ringCount == 0 ? -1 : (float) (sumX / ringCount);
+    }
+
+    public float getCenterY() {
+        return ringCount == 0 ? -1 : (float) (sumY / ringCount);
+    }
+
+    /**
+     * 최근 샘플의 중심으로부터 RMS 거리 (px)
+     */
+    public float getDispersion() {
+        if (ringCount == 0) return 0f;
+        double meanX = sumX / ringCount;
+        double meanY = sumY / ringCount;
+        double variance = sumSquares / ringCount - meanX * meanX - meanY * meanY;
+        return (float) Math.sqrt(Math.max(0.0, variance));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+}
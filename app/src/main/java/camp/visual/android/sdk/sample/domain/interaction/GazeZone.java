@@ -0,0 +1,100 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+
+/**
+ * 응시 영역 하나의 정의 (화면 크기 비율 좌표).
+ * 진입은 사각형 안에 들어왔을 때, 이탈은 사각형을 exitMargin만큼 넓힌 영역 밖으로 나갔을 때로 판정한다.
+ */
+public final class GazeZone {
+
+    public enum Side {
+        TOP, BOTTOM, LEFT, RIGHT
+    }
+
+    final String name;
+    final float left;
+    final float top;
+    final float right;
+    final float bottom;
+    final float exitMargin;
+    final EdgeScrollDetector.ScrollAction action;
+    final CursorGlyph glyph;
+    final boolean textAbove;
+
+    /**
+     * @param left       진입 사각형 (0 ~ 1, 화면 너비/높이 비율)
+     * @param exitMargin 이탈 판정 시 사각형을 넓히는 폭 (화면 비율, 가로는 너비·세로는 높이 기준)
+     * @param action     응시 시간이 다 찼을 때 실행할 동작
+     * @param glyph      영역 안에서 보여줄 커서 모양
+     * @param textAbove  진행 표시 텍스트를 커서 위쪽에 둘지
+     */
+    public GazeZone(String name, float left, float top, float right, float bottom, float exitMargin,
+                    EdgeScrollDetector.ScrollAction action, CursorGlyph glyph, boolean textAbove) {
+        this.name = name;
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+        this.exitMargin = exitMargin;
+        this.action = action;
+        this.glyph = glyph;
+        this.textAbove = textAbove;
+    }
+
+    /**
+     * 화면 한 변을 따라 붙은 띠 영역
+     * @param thickness 띠 두께 (화면 비율)
+     */
+    public static GazeZone edge(Side side, float thickness, float exitMargin,
+                                EdgeScrollDetector.ScrollAction action, CursorGlyph glyph) {
+        switch (side) {
+            case TOP:
+                return new GazeZone("top", 0f, 0f, 1f, thickness, exitMargin, action, glyph, false);
+            case BOTTOM:
+                return new GazeZone("bottom", 0f, 1f - thickness, 1f, 1f, exitMargin, action, glyph, true);
+            case LEFT:
+                return new GazeZone("left", 0f, 0f, thickness, 1f, exitMargin, action, glyph, false);
+            case RIGHT:
+            default:
+                return new GazeZone("right", 1f - thickness, 0f, 1f, 1f, exitMargin, action, glyph, false);
+        }
+    }
+
+    /**
+     * 화면 모서리의 정사각형 영역 (가로세로 모두 size 비율)
+     */
+    public static GazeZone corner(Side vertical, Side horizontal, float size, float exitMargin,
+                                  EdgeScrollDetector.ScrollAction action, CursorGlyph glyph) {
+        float top = vertical == Side.TOP ? 0f : 1f - size;
+        float left = horizontal == Side.LEFT ? 0f : 1f - size;
+        String name = vertical.name().toLowerCase() + "-" + horizontal.name().toLowerCase();
+        return new GazeZone(name, left, top, left + size, top + size, exitMargin, action, glyph,
+                vertical == Side.BOTTOM);
+    }
+
+    boolean containsForEnter(float nx, float ny) {
+        return nx >= left && nx <= right && ny >= top && ny <= bottom;
+    }
+
+    boolean containsForExit(float nx, float ny) {
+        return nx >= left - exitMargin && nx <= right + exitMargin
+                && ny >= top - exitMargin && ny <= bottom + exitMargin;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EdgeScrollDetector.ScrollAction getAction() {
+        return action;
+    }
+
+    public CursorGlyph getGlyph() {
+        return glyph;
+    }
+
+    public boolean isTextAbove() {
+        return textAbove;
+    }
+}
@@ -0,0 +1,172 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 설정 표(GazeZone 배열)로 정의한 여러 응시 영역의 진입/이탈과 응시 단계를 관리한다.
+ * - 한 번에 하나의 영역만 활성화된다 (표 앞쪽이 우선이므로 모서리는 변보다 앞에 둔다)
+ * - 이탈은 넓힌 이탈 영역 밖에 EXIT_GRACE_MS 넘게 머물렀을 때만 인정해 경계의 떨림으로 타이머가 초기화되지 않게 한다
+ * - 응시 시간은 SampleClock 기반 타이머로 재고, 단계(확인 → 1초 → 2초 → 실행)는 영역별 상태 배열에 둔다
+ * DECAY 정책으로 경과 시간이 줄어들면 단계도 되돌아가 지난 알림을 다시 낼 수 있다 (실행 후에는 그대로).
+ */
+public final class GazeZoneEngine {
+
+    // 진입 후 이 시간 동안 머물러야 영역 응시로 확인 (예전 연속 5프레임에 해당)
+    static final long CONFIRM_MS = 150;
+    // 이탈 영역 밖에 이 시간 넘게 있어야 이탈로 판정
+    static final long EXIT_GRACE_MS = 120;
+    // 확인 이후 중간 알림 시점
+    private static final long[] MILESTONES_MS = {1000, 2000};
+
+    public static final int EVENT_NONE = 0;
+    public static final int EVENT_CONFIRMED = 1;
+    public static final int EVENT_MILESTONE = 2;
+    public static final int EVENT_TRIGGERED = 3;
+
+    // 단계: 0 진입, 1 확인, 2.. 중간 알림, TRIGGERED_STAGE 실행
+    private static final int TRIGGERED_STAGE = MILESTONES_MS.length + 2;
+
+    private GazeZone[] zones;
+    private final SampleClock clock;
+    private long triggerMs;
+
+    // 영역별 상태
+    private final DwellTimer[] timers;
+    private final int[] stages;
+    private final long[] lastInsideMs;
+
+    private int active = -1;
+
+    public GazeZoneEngine(GazeZone[] zones, SampleClock clock, long triggerMs) {
+        this.zones = zones.clone();
+        this.clock = clock;
+        this.triggerMs = triggerMs;
+        this.timers = new DwellTimer[zones.length];
+        this.stages = new int[zones.length];
+        this.lastInsideMs = new long[zones.length];
+        for (int i = 0; i < zones.length; i++) {
+            timers[i] = new DwellTimer(clock);
+        }
+    }
+
+    /**
+     * @param timestampMs SDK 샘플 타임스탬프 (ms)
+     * @return 이번 샘플에서 일어난 사건 (EVENT_*)
+     */
+    public int update(long timestampMs, float x, float y, float screenWidth, float screenHeight) {
+        clock.advance(timestampMs);
+        long now = clock.now();
+        float nx = x / screenWidth;
+        float ny = y / screenHeight;
+
+        if (active >= 0) {
+            if (zones[active].containsForExit(nx, ny)) {
+                lastInsideMs[active] = now;
+            } else if (now - lastInsideMs[active] > EXIT_GRACE_MS) {
+                deactivate();
+            }
+        }
+        if (active < 0) {
+            for (int i = 0; i < zones.length; i++) {
+                if (zones[i].containsForEnter(nx, ny)) {
+                    activate(i, now);
+                    break;
+                }
+            }
+        }
+        if (active < 0) {
+            return EVENT_NONE;
+        }
+        return advanceStage();
+    }
+
+    private void activate(int zone, long now) {
+        active = zone;
+        stages[zone] = 0;
+        lastInsideMs[zone] = now;
+        timers[zone].start();
+    }
+
+    private void deactivate() {
+        timers[active].stop();
+        stages[active] = 0;
+        active = -1;
+    }
+
+    private int advanceStage() {
+        DwellTimer timer = timers[active];
+        if (!timer.isRunning()) {
+            // RESET 정책으로 끊긴 경우 처음부터
+            timer.start();
+            stages[active] = 0;
+        }
+        long elapsed = timer.elapsedMs();
+        int stage = stages[active];
+        int reached = stageAt(elapsed);
+
+        if (reached < stage && stage < TRIGGERED_STAGE) {
+            stages[active] = reached; // DECAY로 되돌아감 - 알림 다시 가능
+            return EVENT_NONE;
+        }
+        if (reached > stage) {
+            // 한 샘플에 한 단계씩만 올려 알림이 겹치지 않게 함
+            stages[active] = stage + 1;
+            if (stage + 1 == 1) return EVENT_CONFIRMED;
+            if (stage + 1 == TRIGGERED_STAGE) return EVENT_TRIGGERED;
+            return EVENT_MILESTONE;
+        }
+        return EVENT_NONE;
+    }
+
+    private int stageAt(long elapsed) {
+        if (elapsed < CONFIRM_MS) return 0;
+        long sinceConfirm = elapsed - CONFIRM_MS;
+        if (sinceConfirm >= triggerMs) return TRIGGERED_STAGE;
+        int stage = 1;
+        for (long milestone : MILESTONES_MS) {
+            if (sinceConfirm > milestone) stage++;
+        }
+        return stage;
+    }
+
+    /**
+     * 활성 영역 번호, 없으면 -1
+     */
+    public int getActiveZone() {
+        return active;
+    }
+
+    public GazeZone getZone(int index) {
+        return zones[index];
+    }
+
+    /**
+     * 활성 영역에서 확인 이후 지난 중간 알림 수 (확인 전 또는 비활성이면 -1)
+     */
+    public int getMilestonesPassed() {
+        if (active < 0 || stages[active] == 0) return -1;
+        return Math.min(stages[active] - 1, MILESTONES_MS.length);
+    }
+
+    public boolean isTriggered() {
+        return active >= 0 && stages[active] == TRIGGERED_STAGE;
+    }
+
+    /**
+     * 영역 위치/크기만 바꾼다 (같은 순서, 같은 개수). 진행 중인 응시 단계는 유지한다.
+     */
+    public void setZones(GazeZone[] zones) {
+        if (zones.length != this.zones.length) {
+            throw new IllegalArgumentException("zone count changed: " + this.zones.length + " -> " + zones.length);
+        }
+        this.zones = zones.clone();
+    }
+
+    public void setTriggerMs(long triggerMs) {
+        this.triggerMs = triggerMs;
+    }
+
+    public void reset() {
+        if (active >= 0) {
+            deactivate();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import java.util.ArrayList;
+
+/**
+ * 제스처 실행 대기열. 앞선 제스처가 끝나기 전에 들어온 요청을 버리지 않고 순서대로 실행한다.
+ * - 클릭은 대기 중인 스크롤보다 먼저 실행한다 (클릭끼리는 들어온 순서)
+ * - 같은 방향 스크롤이 연달아 들어오면 하나의 긴 스트로크로 합친다 (MAX_SCROLL_AMOUNT까지)
+ * - 한 스트로크보다 긴 스크롤은 잘라 버리지 않고 MAX_SCROLL_AMOUNT 단위의 연이은 스트로크로 나눈다
+ * - 가득 차면 가장 오래된 스크롤부터 버리고, 스크롤이 없을 때만 가장 오래된 클릭을 버린다
+ * 한 스레드(접근성 서비스의 메인 스레드)에서만 사용한다.
+ */
+public class GestureQueue {
+
+    public enum Type {
+        CLICK, SCROLL_UP, SCROLL_DOWN
+    }
+
+    public static final int DEFAULT_CAPACITY = 8;
+
+    // 스트로크 하나의 최대 길이 (화면 높이 비율).
+    // ScrollStrokePlan이 놓기 구간에 MAX_TRAVEL의 절반까지 쓰므로 나머지 절반이면 끌기 길이가 줄지 않는다
+    public static final float MAX_SCROLL_AMOUNT = ScrollStrokePlan.MAX_TRAVEL / 2f;
+
+    public static final class Request {
+        private final Type type;
+        private final float x;
+        private final float y;
+        private float amount;
+        private final long requestedNanos;
+
+        Request(Type type, float x, float y, float amount, long requestedNanos) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.amount = amount;
+            this.requestedNanos = requestedNanos;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        /**
+         * 스크롤 길이 (화면 높이 비율)
+         */
+        public float getAmount() {
+            return amount;
+        }
+
+        /**
+         * 요청 시각 (System.nanoTime). 합쳐진 스크롤은 가장 먼저 들어온 요청의 시각.
+         */
+        public long getRequestedNanos() {
+            return requestedNanos;
+        }
+
+        boolean isScroll() {
+            return type != Type.CLICK;
+        }
+    }
+
+    private final int capacity;
+    private final ArrayList<Request> queue;
+
+    private int maxDepth = 0;
+    private long droppedCount = 0;
+    private long mergedCount = 0;
+
+    public GestureQueue(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.queue = new ArrayList<>(this.capacity);
+    }
+
+    /**
+     * 클릭 요청 추가. 대기 중인 클릭 뒤, 스크롤 앞에 넣는다.
+     */
+    public void offerClick(float x, float y, long requestedNanos) {
+        if (queue.size() == capacity) {
+            dropOldest();
+        }
+        int position = 0;
+        while (position < queue.size() && !queue.get(position).isScroll()) {
+            position++;
+        }
+        queue.add(position, new Request(Type.CLICK, x, y, 0f, requestedNanos));
+        maxDepth = Math.max(maxDepth, queue.size());
+    }
+
+    /**
+     * 스크롤 요청 추가. 마지막 대기 스크롤과 방향이 같으면 MAX_SCROLL_AMOUNT까지 합치고,
+     * 남은 길이는 같은 방향의 스트로크로 이어 붙인다 (전체 길이는 그대로 유지).
+     * @param direction SCROLL_UP 또는 SCROLL_DOWN
+     * @param amount    스크롤 길이 (화면 높이 비율)
+     */
+    public void offerScroll(Type direction, float amount, long requestedNanos) {
+        if (direction == Type.CLICK) {
+            throw new IllegalArgumentException("scroll direction expected: " + direction);
+        }
+        Request last = queue.isEmpty() ? null : queue.get(queue.size() - 1);
+        if (last != null && last.type == direction && last.amount < MAX_SCROLL_AMOUNT) {
+            float merged = Math.min(MAX_SCROLL_AMOUNT - last.amount, amount);
+            last.amount += merged;
+            amount -= merged;
+            mergedCount++;
+        }
+        // 부동소수점 오차로 남는 아주 짧은 조각은 스트로크로 만들지 않는다
+        while (amount > 1e-4f) {
+            float chunk = Math.min(MAX_SCROLL_AMOUNT, amount);
+            if (queue.size() == capacity) {
+                dropOldest();
+            }
+            queue.add(new Request(direction, 0f, 0f, chunk, requestedNanos));
+            maxDepth = Math.max(maxDepth, queue.size());
+            amount -= chunk;
+        }
+    }
+
+    /**
+     * 다음에 실행할 요청을 꺼낸다
+     * @return 없으면 null
+     */
+    public Request poll() {
+        return queue.isEmpty() ? null : queue.remove(0);
+    }
+
+    /**
+     * 다음에 실행할 요청을 꺼내지 않고 본다 (스트로크가 다음 스트로크로 이어지는지 판단용)
+     * @return 없으면 null
+     */
+    public Request peek() {
+        return queue.isEmpty() ? null : queue.get(0);
+    }
+
+    private void dropOldest() {
+        for (int i = 0; i < queue.size(); i++) {
+            if (queue.get(i).isScroll()) {
+                queue.remove(i);
+                droppedCount++;
+                return;
+            }
+        }
+        queue.remove(0);
+        droppedCount++;
+    }
+
+    public void clear() {
+        queue.clear();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    public void resetStats() {
+        maxDepth = queue.size();
+        droppedCount = 0;
+        mergedCount = 0;
+    }
+}
@@ -0,0 +1,204 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.os.VibrationEffect;
+import android.os.Vibrator;
+import android.os.VibratorManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 진동 알림 스케줄러. 시선 파이프라인/메인 스레드는 post()로 알림 종류만 넣고 바로 돌아가며,
+ * 실제 Vibrator 호출(바인더)은 전용 스레드에서 미리 만들어 둔 VibrationEffect로 한다.
+ * - 대기열은 여러 생산자/단일 소비자용 lock-free 링 (슬롯별 순번), 가득 차면 새 알림을 버린다
+ * - 한 번에 꺼낸 알림 중 가장 강한 것 하나만 울리고, 직전 알림 뒤 COALESCE_MS 안에 온 같거나 약한 알림은 버린다
+ */
+public class HapticScheduler {
+
+    /**
+     * 알림 종류 (선언 순서가 세기 순서)
+     */
+    public enum Pulse {
+        START(50),      // 응시 시작
+        MILESTONE(100), // 1초/2초 경과
+        CLICK(100),     // 클릭 실행
+        TRIGGER(300);   // 스크롤 실행
+
+        private final long durationMs;
+
+        Pulse(long durationMs) {
+            this.durationMs = durationMs;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+    }
+
+    public interface Player {
+        void play(Pulse pulse);
+    }
+
+    static final long COALESCE_MS = 120;
+    private static final int CAPACITY = 16; // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+    private static final Pulse[] PULSES = Pulse.values();
+
+    private final Player player;
+    private final Handler handler;
+    private final HandlerThread thread;
+
+    // slot i의 순번: pos와 같으면 비어서 쓸 수 있음, pos + 1이면 채워져서 읽을 수 있음
+    private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final int[] slots = new int[CAPACITY];
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // 소비자 스레드 전용
+    private long head = 0;
+    private Pulse lastPlayed = null;
+    private long lastPlayedAt = 0;
+    private long playedCount = 0;
+    private long coalescedCount = 0;
+
+    private final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            // 먼저 풀어야 꺼내는 도중 들어온 알림이 다음 실행을 예약할 수 있다
+            drainScheduled.set(false);
+            drain(SystemClock.uptimeMillis());
+        }
+    };
+
+    /**
+     * @param handler 재생 스레드. null이면 예약하지 않으며 호출 측이 drain()을 직접 부른다 (테스트용)
+     */
+    HapticScheduler(Player player, Handler handler, HandlerThread thread) {
+        this.player = player;
+        this.handler = handler;
+        this.thread = thread;
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 기기 진동기로 울리는 스케줄러. 전용 스레드를 띄우므로 다 쓰면 release()를 호출한다.
+     */
+    public static HapticScheduler create(Context context) {
+        Vibrator vibrator = defaultVibrator(context);
+        VibrationEffect[] effects = new VibrationEffect[PULSES.length];
+        for (Pulse pulse : PULSES) {
+            effects[pulse.ordinal()] = VibrationEffect.createOneShot(pulse.getDurationMs(), VibrationEffect.DEFAULT_AMPLITUDE);
+        }
+        HandlerThread thread = new HandlerThread("Haptics");
+        thread.start();
+        Player player = pulse -> {
+            if (vibrator != null && vibrator.hasVibrator()) {
+                vibrator.vibrate(effects[pulse.ordinal()]);
+            }
+        };
+        return new HapticScheduler(player, new Handler(thread.getLooper()), thread);
+    }
+
+    // API 31부터는 VibratorManager의 기본 진동기, 그 전에는 Vibrator 서비스
+    private static Vibrator defaultVibrator(Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            VibratorManager manager = (VibratorManager) context.getSystemService(Context.VIBRATOR_MANAGER_SERVICE);
+            return manager != null ? manager.getDefaultVibrator() : null;
+        }
+        return legacyVibrator(context);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Vibrator legacyVibrator(Context context) {
+        return (Vibrator) context.getSystemService(Context.VIBRATOR_SERVICE);
+    }
+
+    /**
+     * 알림 요청 (어느 스레드에서든 호출 가능, 막히지 않음)
+     * @return 대기열이 가득 차서 버렸으면 false
+     */
+    public boolean post(Pulse pulse) {
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = (int) (pos & MASK);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+                pos = tail.get();
+            } else if (diff < 0) {
+                droppedCount.incrementAndGet();
+                return false;
+            } else {
+                pos = tail.get(); // 다른 생산자가 먼저 가져감
+            }
+        }
+        slots[index] = pulse.ordinal();
+        sequences.lazySet(index, pos + 1);
+
+        if (handler != null && drainScheduled.compareAndSet(false, true)) {
+            handler.post(drainRunnable);
+        }
+        return true;
+    }
+
+    /**
+     * 쌓인 알림을 꺼내 하나로 합쳐 울린다 (소비자 스레드)
+     * @return 울렸으면 true
+     */
+    boolean drain(long nowMs) {
+        Pulse strongest = null;
+        int count = 0;
+        while (true) {
+            int index = (int) (head & MASK);
+            if (sequences.get(index) != head + 1) break;
+            Pulse pulse = PULSES[slots[index]];
+            sequences.lazySet(index, head + CAPACITY);
+            head++;
+            count++;
+            if (strongest == null || pulse.ordinal() > strongest.ordinal()) {
+                strongest = pulse;
+            }
+        }
+        if (strongest == null) {
+            return false;
+        }
+        if (lastPlayed != null && nowMs - lastPlayedAt < COALESCE_MS && strongest.ordinal() <= lastPlayed.ordinal()) {
+            coalescedCount += count;
+            return false;
+        }
+        coalescedCount += count - 1;
+        playedCount++;
+        lastPlayed = strongest;
+        lastPlayedAt = nowMs;
+        player.play(strongest);
+        return true;
+    }
+
+    public long getPlayedCount() {
+        return playedCount;
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public void release() {
+        if (thread != null) {
+            thread.quitSafely();
+        }
+    }
+}
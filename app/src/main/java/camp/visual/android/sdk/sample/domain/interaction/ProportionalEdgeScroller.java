@@ -0,0 +1,100 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+
+/**
+ * 비례 엣지 스크롤: 상/하단 띠 안에서의 깊이와 머문 시간으로 스크롤 속도를 정한다.
+ * - 띠에 들어온 뒤 ONSET_MS 동안은 속도 0 (띠를 스쳐 지나가는 시선 무시)
+ * - 이후 RAMP_MS에 걸쳐 최대치까지 올라가고, 깊이(띠 안쪽 경계 0 ~ 화면 끝 1)의 제곱에 비례
+ * - 띠를 벗어나면 바로 0
+ * 속도 단위는 초당 화면 높이이며, 양수는 하단 띠(손가락을 위로 올리는 방향, 아래 내용이 보임)다.
+ * 머문 시간은 SampleClock으로 재므로 끊김 처리 정책(GapPolicy)을 따른다.
+ */
+public class ProportionalEdgeScroller {
+
+    // 스크롤 띠 높이 (화면 높이 비율)
+    public static final float BAND_RATIO = 0.15f;
+    static final long ONSET_MS = 250;
+    static final long RAMP_MS = 1000;
+    // 화면 끝을 보고 있을 때의 최대 속도 (초당 화면 높이)
+    public static final float MAX_RATE = 1.2f;
+    // 이보다 느린 속도는 0으로 취급 (띠 안쪽 경계 근처의 떨림)
+    static final float MIN_RATE = 0.03f;
+
+    private final SampleClock clock;
+    private final DwellTimer bandTimer;
+    private int band = 0; // -1 상단, 1 하단, 0 밖
+    private float rate = 0f;
+
+    public ProportionalEdgeScroller(SampleClock clock) {
+        this.clock = clock;
+        this.bandTimer = new DwellTimer(clock);
+    }
+
+    /**
+     * @param timestampMs SDK 샘플 타임스탬프 (ms)
+     * @return 스크롤 속도 (초당 화면 높이, 하단 띠는 양수, 상단 띠는 음수, 띠 밖은 0)
+     */
+    public float update(long timestampMs, float y, float screenHeight) {
+        clock.advance(timestampMs);
+
+        float bandHeight = screenHeight * BAND_RATIO;
+        int newBand;
+        float depth;
+        if (y < bandHeight) {
+            newBand = -1;
+            depth = 1f - Math.max(0f, y) / bandHeight;
+        } else if (y > screenHeight - bandHeight) {
+            newBand = 1;
+            depth = 1f - Math.max(0f, screenHeight - y) / bandHeight;
+        } else {
+            newBand = 0;
+            depth = 0f;
+        }
+
+        if (newBand != band) {
+            band = newBand;
+            if (band != 0) {
+                bandTimer.start();
+            } else {
+                bandTimer.stop();
+            }
+        }
+        if (band == 0) {
+            rate = 0f;
+            return rate;
+        }
+        if (!bandTimer.isRunning()) {
+            // RESET 정책으로 끊긴 경우 다시 처음부터
+            bandTimer.start();
+        }
+
+        float ramp = Math.max(0f, Math.min(1f, (bandTimer.elapsedMs() - ONSET_MS) / (float) RAMP_MS));
+        float magnitude = MAX_RATE * depth * depth * ramp;
+        rate = magnitude < MIN_RATE ? 0f : band * magnitude;
+        return rate;
+    }
+
+    /**
+     * 띠 안에 있는지 (속도가 아직 0이어도 true)
+     */
+    public boolean isInBand() {
+        return band != 0;
+    }
+
+    public float getRate() {
+        return rate;
+    }
+
+    public CursorGlyph getGlyph() {
+        if (band < 0) return CursorGlyph.ARROW_UP;
+        if (band > 0) return CursorGlyph.ARROW_DOWN;
+        return CursorGlyph.NONE;
+    }
+
+    public void reset() {
+        band = 0;
+        rate = 0f;
+        bandTimer.stop();
+    }
+}
@@ -0,0 +1,127 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+
+/**
+ * 샘플 타임스탬프로 진행하는 응시 타이머용 시계.
+ * 벽시계 대신 SDK 샘플 타임스탬프를 따라가므로, 파이프라인이 밀리거나 프레임이 드롭돼도
+ * 그 시간이 응시 시간으로 잘못 쌓이지 않고 테스트에서는 실제 시간보다 빠르게 재생할 수 있다.
+ * 간격(드롭 보고 또는 MAX_SAMPLE_GAP_MS 초과)은 한 샘플 간격만큼만 진행하고 나머지는 GapPolicy에 따라 처리한다.
+ * advance()는 파이프라인 스레드, onDrop()은 SDK 콜백 스레드에서 호출된다.
+ */
+public final class SampleClock {
+
+    // 샘플 간격이 이보다 크면 간격(끊김)으로 처리
+    public static final long MAX_SAMPLE_GAP_MS = 150;
+    // 샘플 간격 추정 초기값 (30Hz)
+    private static final double DEFAULT_INTERVAL_MS = 1000.0 / 30.0;
+    private static final double INTERVAL_SMOOTHING = 0.1;
+
+    private volatile GapPolicy policy;
+    private volatile long lastDropTimestampMs = Long.MIN_VALUE;
+
+    private boolean started = false;
+    private long lastTimestampMs;
+    private double intervalMs = DEFAULT_INTERVAL_MS;
+
+    private long nowMs = 0;
+    private long decayedMs = 0;
+    private int resetCount = 0;
+    private int gapCount = 0;
+
+    public SampleClock() {
+        this(GapPolicy.PAUSE);
+    }
+
+    public SampleClock(GapPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * 새 샘플 타임스탬프로 시계를 진행한다. 같은 타임스탬프로 여러 번 불러도 한 번만 진행한다.
+     */
+    public void advance(long timestampMs) {
+        if (!started) {
+            started = true;
+            lastTimestampMs = timestampMs;
+            return;
+        }
+        long elapsed = timestampMs - lastTimestampMs;
+        if (elapsed <= 0) {
+            return;
+        }
+        boolean dropped = lastDropTimestampMs > lastTimestampMs;
+        lastTimestampMs = timestampMs;
+
+        if (!dropped && elapsed <= MAX_SAMPLE_GAP_MS) {
+            intervalMs += INTERVAL_SMOOTHING * (elapsed - intervalMs);
+            nowMs += elapsed;
+            return;
+        }
+
+        // 간격: 한 샘플 간격만 진행하고 나머지는 정책대로
+        long step = Math.min(elapsed, Math.round(intervalMs));
+        nowMs += step;
+        gapCount++;
+        switch (policy) {
+            case DECAY:
+                decayedMs += elapsed - step;
+                break;
+            case RESET:
+                resetCount++;
+                break;
+            case PAUSE:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * SDK가 보고한 프레임 드롭. 다음 샘플까지의 구간을 간격으로 처리한다. (SDK 콜백 스레드)
+     */
+    public void onDrop(long timestampMs) {
+        lastDropTimestampMs = timestampMs;
+    }
+
+    public void setPolicy(GapPolicy policy) {
+        this.policy = policy;
+    }
+
+    public GapPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 간격을 뺀 누적 시간 (ms)
+     */
+    public long now() {
+        return nowMs;
+    }
+
+    /**
+     * DECAY 정책으로 되돌려야 할 누적 시간 (ms)
+     */
+    public long getDecayedMs() {
+        return decayedMs;
+    }
+
+    /**
+     * RESET 정책으로 처리된 간격 수
+     */
+    public int getResetCount() {
+        return resetCount;
+    }
+
+    public int getGapCount() {
+        return gapCount;
+    }
+
+    public double getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void reset() {
+        started = false;
+        intervalMs = DEFAULT_INTERVAL_MS;
+    }
+}
@@ -0,0 +1,85 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 손가락을 떼지 않고 이어 그리는 스크롤 스트로크의 구간 계획.
+ * - 스크롤 길이를 SEGMENT_FRACTION 단위의 끌기 구간으로 나누고
+ * - 마지막에 flingVelocity로 움직이는 놓기 구간을 붙인다 (0이면 제자리에 멈춰 관성 없이 정확히 멈춤)
+ * 전체 이동은 화면 중앙을 기준으로 MAX_TRAVEL 안에 들어가도록 끌기 길이를 줄인다.
+ * y 좌표만 계산하며 x는 호출하는 쪽이 고정한다.
+ */
+public final class ScrollStrokePlan {
+
+    // 끌기 구간 하나의 길이 (화면 높이 비율)와 시간
+    public static final float SEGMENT_FRACTION = 0.2f;
+    public static final long SEGMENT_MS = 120;
+    // 놓기 구간 시간 - 안드로이드 속도 추정 창(약 100ms)의 절반 정도
+    public static final long RELEASE_MS = 50;
+    // 스트로크 전체 이동 한계 (화면 높이 비율)
+    public static final float MAX_TRAVEL = 0.8f;
+
+    private final float startY;
+    private final float[] endYs;
+    private final long[] durations;
+
+    private ScrollStrokePlan(float startY, float[] endYs, long[] durations) {
+        this.startY = startY;
+        this.endYs = endYs;
+        this.durations = durations;
+    }
+
+    /**
+     * @param screenHeight           화면 높이 (px)
+     * @param amount                 끌어서 움직일 길이 (화면 높이 비율)
+     * @param up                     손가락을 위로 올리는 방향이면 true
+     * @param flingVelocityPxPerSec  손을 뗄 때 속도 (px/s, 0 이상)
+     */
+    public static ScrollStrokePlan create(float screenHeight, float amount, boolean up, float flingVelocityPxPerSec) {
+        float fling = Math.max(0f, flingVelocityPxPerSec) * RELEASE_MS / 1000f;
+        float maxTravel = screenHeight * MAX_TRAVEL;
+        fling = Math.min(fling, maxTravel / 2f);
+        float drag = Math.max(0f, Math.min(amount * screenHeight, maxTravel - fling));
+
+        int dragSegments = Math.max(1, (int) Math.ceil(drag / (SEGMENT_FRACTION * screenHeight) - 1e-4f));
+        float[] endYs = new float[dragSegments + 1];
+        long[] durations = new long[dragSegments + 1];
+
+        float sign = up ? -1f : 1f;
+        float startY = screenHeight / 2f - sign * (drag + fling) / 2f;
+        float step = drag / dragSegments;
+        for (int i = 0; i < dragSegments; i++) {
+            endYs[i] = startY + sign * step * (i + 1);
+            durations[i] = SEGMENT_MS;
+        }
+        // 놓기 구간 (속도 0이면 같은 자리에서 잠시 멈춘 뒤 뗌)
+        endYs[dragSegments] = endYs[dragSegments - 1] + sign * fling;
+        durations[dragSegments] = RELEASE_MS;
+        return new ScrollStrokePlan(startY, endYs, durations);
+    }
+
+    public int getSegmentCount() {
+        return endYs.length;
+    }
+
+    public float getStartY() {
+        return startY;
+    }
+
+    /**
+     * 구간 시작 y (첫 구간은 스트로크 시작점, 이후는 앞 구간의 끝점)
+     */
+    public float getSegmentStartY(int index) {
+        return index == 0 ? startY : endYs[index - 1];
+    }
+
+    public float getSegmentEndY(int index) {
+        return endYs[index];
+    }
+
+    public long getSegmentDuration(int index) {
+        return durations[index];
+    }
+
+    public boolean isLastSegment(int index) {
+        return index == endYs.length - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package camp.visual.android.sdk.sample.domain.metrics;
+
+import java.io.PrintWriter;
+
+/**
+ * 클릭/스크롤 실행 경로별 지연 시간을 집계한다 (요청 → 실행 완료).
+ * 제스처는 대기열 대기(요청 → 실행 시작)와 실행(dispatchGesture → 완료 콜백)도 따로 기록한다.
+ * 노드 동작 경로는 노드 트리 캐시 스레드에서, 제스처 경로는 메인 스레드에서만 기록하므로
+ * 각 히스토그램의 기록 스레드는 하나다.
+ */
+public class ActionLatencyTracer {
+
+    public enum Path {
+        NODE_CLICK("node click"),
+        GESTURE_CLICK("gesture click"),
+        NODE_SCROLL("node scroll"),
+        GESTURE_SCROLL("gesture scroll"),
+        QUEUE_WAIT("gesture queue wait"),
+        GESTURE_DISPATCH("gesture dispatch→done");
+
+        private final String label;
+
+        Path(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Path[] PATHS = Path.values();
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PATHS.length];
+
+    public ActionLatencyTracer() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public void record(Path path, long requestedNanos, long completedNanos) {
+        histograms[path.ordinal()].recordNanos(completedNanos - requestedNanos);
+    }
+
+    public LatencyHistogram getHistogram(Path path) {
+        return histograms[path.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    public void dump(PrintWriter writer) {
+        for (Path path : PATHS) {
+            writer.print(String.format("%-22s ", path.getLabel()));
+            writer.println(histograms[path.ordinal()].formatSummary());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package camp.visual.android.sdk.sample.domain.metrics;
+
+import java.util.Locale;
+
+/**
+ * HDR 방식의 로그-선형 지연 시간 히스토그램 (마이크로초 단위).
+ * 2의 거듭제곱 구간마다 16개의 하위 버킷을 두어 약 6% 이내의 상대 오차로 백분위수를 구한다.
+ * 기록은 단일 스레드에서만 하고, 다른 스레드의 조회는 진단용 근사치로 취급한다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;    // 0~31us는 1us 단위
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_MSB = 26;                                // 약 67초까지 구분
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MSB - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long sumMicros = 0;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros = 0;
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1000);
+    }
+
+    public void recordMicros(long micros) {
+        if (micros < 0) {
+            micros = 0;
+        }
+        counts[bucketIndex(micros)]++;
+        totalCount++;
+        sumMicros += micros;
+        if (micros < minMicros) minMicros = micros;
+        if (micros > maxMicros) maxMicros = micros;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMinMicros() {
+        return totalCount == 0 ? 0 : minMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public double getMeanMicros() {
+        return totalCount == 0 ? 0 : sumMicros / (double) totalCount;
+    }
+
+    /**
+     * 백분위수 값을 반환한다 (해당 버킷의 상한, 최대값을 넘지 않음)
+     * @param percentile 0 ~ 100
+     */
+    public long getPercentileMicros(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(percentile / 100.0 * totalCount);
+        if (target < 1) target = 1;
+
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(bucketUpperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = 0;
+        }
+        totalCount = 0;
+        sumMicros = 0;
+        minMicros = Long.MAX_VALUE;
+        maxMicros = 0;
+    }
+
+    /**
+     * 한 줄 요약 (덤프/파일 출력용)
+     */
+    public String formatSummary() {
+        return String.format(Locale.US, "n=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms mean=%.2fms",
+                totalCount,
+                getPercentileMicros(50) / 1000.0,
+                getPercentileMicros(95) / 1000.0,
+                getPercentileMicros(99) / 1000.0,
+                getMaxMicros() / 1000.0,
+                getMeanMicros() / 1000.0);
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        if (msb > MAX_MSB) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = msb - (SUB_BUCKET_BITS - 1);
+        int top = (int) (micros >> shift); // 16 ~ 31
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (top - SUB_BUCKET_HALF);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int k = index - SUB_BUCKET_COUNT;
+        int shift = k / SUB_BUCKET_HALF + 1;
+        long top = k % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((top + 1) << shift) - 1;
+    }
+}
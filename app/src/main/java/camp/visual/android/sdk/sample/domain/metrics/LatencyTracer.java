@@ -0,0 +1,99 @@
+package camp.visual.android.sdk.sample.domain.metrics;
+
+import java.io.PrintWriter;
+
+/**
+ * 시선 샘플의 구간별 지연 시간을 집계한다.
+ * SDK 타임스탬프 → 파이프라인 진입 → 필터 완료 → 감지기 완료 → 커서 프레임 게시 → 화면 그리기
+ *
+ * 파이프라인 구간은 파이프라인 스레드에서, 그리기 구간은 UI 스레드에서만 기록하므로
+ * 각 히스토그램의 기록 스레드는 하나다.
+ */
+public class LatencyTracer {
+
+    public enum Hop {
+        SDK_TO_ENTRY("sdk→entry"),
+        ENTRY_TO_FILTER("entry→filter"),
+        FILTER_TO_DETECTOR("filter→detector"),
+        DETECTOR_TO_PUBLISH("detector→publish"),
+        PUBLISH_TO_DRAW("publish→draw"),
+        SDK_TO_DRAW("sdk→draw (end-to-end)");
+
+        private final String label;
+
+        Hop(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // SDK 타임스탬프(벽시계 ms)와 현재 시각 차이가 이 범위를 벗어나면 시계 기준이 다른 것으로 보고 무시
+    private static final long MAX_SDK_AGE_MS = 10_000;
+
+    private static final Hop[] HOPS = Hop.values();
+    private final LatencyHistogram[] histograms = new LatencyHistogram[HOPS.length];
+
+    public LatencyTracer() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * SDK 샘플 타임스탬프(ms)를 nanoTime 기준으로 환산한다.
+     * @return 환산할 수 없으면 0
+     */
+    public static long sdkTimestampToNanos(long sdkTimestampMs, long nowWallMs, long nowNanos) {
+        long ageMs = nowWallMs - sdkTimestampMs;
+        if (ageMs < 0 || ageMs > MAX_SDK_AGE_MS) {
+            return 0;
+        }
+        return nowNanos - ageMs * 1_000_000L;
+    }
+
+    /**
+     * 파이프라인 구간 기록 (파이프라인 스레드). 시각이 0인 구간은 건너뛴다.
+     */
+    public void recordPipeline(long sdkNanos, long entryNanos, long filterNanos,
+                               long detectorNanos, long publishNanos) {
+        record(Hop.SDK_TO_ENTRY, sdkNanos, entryNanos);
+        record(Hop.ENTRY_TO_FILTER, entryNanos, filterNanos);
+        record(Hop.FILTER_TO_DETECTOR, filterNanos, detectorNanos);
+        record(Hop.DETECTOR_TO_PUBLISH, detectorNanos != 0 ? detectorNanos : filterNanos, publishNanos);
+    }
+
+    /**
+     * 그리기 구간 기록 (UI 스레드)
+     */
+    public void recordDraw(long sdkNanos, long publishNanos, long drawNanos) {
+        record(Hop.PUBLISH_TO_DRAW, publishNanos, drawNanos);
+        record(Hop.SDK_TO_DRAW, sdkNanos, drawNanos);
+    }
+
+    private void record(Hop hop, long fromNanos, long toNanos) {
+        if (fromNanos == 0 || toNanos == 0) {
+            return;
+        }
+        histograms[hop.ordinal()].recordNanos(toNanos - fromNanos);
+    }
+
+    public LatencyHistogram getHistogram(Hop hop) {
+        return histograms[hop.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    public void dump(PrintWriter writer) {
+        for (Hop hop : HOPS) {
+            writer.print(String.format("%-22s ", hop.getLabel()));
+            writer.println(histograms[hop.ordinal()].formatSummary());
+        }
+    }
+}
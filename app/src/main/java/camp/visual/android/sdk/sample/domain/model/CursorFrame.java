@@ -0,0 +1,65 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+/**
+ * 한 시선 샘플에 대한 커서 렌더링 상태.
+ * 인스턴스는 CursorFrameSlot이 재사용하며, 생산자가 소유한 동안에만 set()으로 채워진다.
+ * 게시된 이후 소비자가 보는 동안에는 변경되지 않는다.
+ */
+public final class CursorFrame {
+    private float x;
+    private float y;
+    private float progress;
+    private CursorGlyph glyph = CursorGlyph.NONE;
+    private boolean textAbove;
+    private long timestamp;
+
+    // 지연 시간 추적용 (System.nanoTime 기준, 알 수 없으면 0)
+    private long sdkNanos;
+    private long publishNanos;
+
+    public void set(float x, float y, float progress, CursorGlyph glyph, boolean textAbove, long timestamp) {
+        this.x = x;
+        this.y = y;
+        this.progress = progress;
+        this.glyph = glyph;
+        this.textAbove = textAbove;
+        this.timestamp = timestamp;
+    }
+
+    public void setTrace(long sdkNanos, long publishNanos) {
+        this.sdkNanos = sdkNanos;
+        this.publishNanos = publishNanos;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    public CursorGlyph getGlyph() {
+        return glyph;
+    }
+
+    public boolean isTextAbove() {
+        return textAbove;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getSdkNanos() {
+        return sdkNanos;
+    }
+
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+}
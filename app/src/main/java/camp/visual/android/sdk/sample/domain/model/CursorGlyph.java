@@ -0,0 +1,24 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+/**
+ * 커서 옆에 표시되는 상태 기호.
+ * NONE은 기본 커서(원만 표시)이며, 나머지는 엣지 스크롤 진행 상태를 나타낸다.
+ */
+public enum CursorGlyph {
+    NONE("●"),
+    ARROW_UP("▲"),
+    ARROW_DOWN("▼"),
+    COUNT_1("①"),
+    COUNT_2("②"),
+    COUNT_3("③");
+
+    private final String symbol;
+
+    CursorGlyph(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+}
@@ -0,0 +1,34 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+/**
+ * 화면 가장자리 응시로 스크롤하는 방식.
+ */
+public enum EdgeScrollMode {
+    DWELL("고정 응시", "가장자리를 정해진 시간 동안 보면 정해진 횟수만큼 스크롤"),
+    PROPORTIONAL("비례", "가장자리 띠 안쪽 깊이와 머문 시간에 비례한 속도로 계속 스크롤");
+
+    private final String displayName;
+    private final String description;
+
+    EdgeScrollMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static EdgeScrollMode fromName(String name) {
+        for (EdgeScrollMode mode : values()) {
+            if (mode.name().equals(name)) {
+                return mode;
+            }
+        }
+        return DWELL; // 기본값
+    }
+}
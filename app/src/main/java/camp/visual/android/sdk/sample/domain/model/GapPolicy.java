@@ -0,0 +1,35 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+/**
+ * 프레임 드롭이나 샘플 간격이 크게 벌어졌을 때 응시 타이머를 어떻게 다룰지.
+ */
+public enum GapPolicy {
+    PAUSE("일시정지", "끊긴 동안 타이머를 멈추고 이어서 진행"),
+    DECAY("감소", "끊긴 시간만큼 진행도를 되돌림"),
+    RESET("초기화", "끊기면 응시 타이머를 처음부터 다시 시작");
+
+    private final String displayName;
+    private final String description;
+
+    GapPolicy(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static GapPolicy fromName(String name) {
+        for (GapPolicy policy : values()) {
+            if (policy.name().equals(name)) {
+                return policy;
+            }
+        }
+        return PAUSE; // 기본값
+    }
+}
@@ -0,0 +1,33 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+public enum GazeFilterType {
+    ONE_EURO("1€ 필터", "속도에 따라 평활 정도를 조절 (프리셋 사용)"),
+    KALMAN("칼만 필터", "등속 모델로 추정, 이동 중 지연이 적음"),
+    DOUBLE_EXPONENTIAL("이중 지수 평활", "수준과 추세를 함께 평활, 계산이 가벼움"),
+    MEDIAN("중앙값 필터", "튀는 값 제거에 강함, 윈도 절반만큼 지연");
+
+    private final String displayName;
+    private final String description;
+
+    GazeFilterType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static GazeFilterType fromName(String name) {
+        for (GazeFilterType type : values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return ONE_EURO; // 기본값
+    }
+}
@@ -6,6 +6,7 @@ public enum OneEuroFilterPreset {
     BALANCED("균형 (권장)", "안정성과 반응성의 균형", 30.0, 1.0, 0.007, 1.0),
     BALANCED_RESPONSIVE("균형-반응성", "반응성을 조금 더 중시", 30.0, 1.25, 0.01, 1.0),
     RESPONSIVE("반응성 우선", "빠른 반응, 약간의 떨림 허용", 30.0, 1.5, 0.015, 1.0),
+    ADAPTIVE("자동 조정", "고정 응시 떨림과 도약 속도를 측정해 자동으로 조정", 30.0, 1.0, 0.007, 1.0),
     CUSTOM("커스텀", "사용자 직접 설정", 30.0, 1.0, 0.007, 1.0);
 
     private final String displayName;
@@ -0,0 +1,109 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 두 설정 스냅샷 사이에서 바뀐 필드 목록.
+ * 파이프라인 단계 구성(어떤 단계가 들어가는지)을 바꾸는 필드만 재구성이 필요하고,
+ * 나머지는 각 구성 요소가 상태를 유지한 채 값만 바꿔 반영한다.
+ */
+public final class SettingsDiff {
+
+    public enum Field {
+        FIXATION_DURATION(UserSettings::getFixationDurationMs, false),
+        AOI_RADIUS(UserSettings::getAoiRadius, false),
+        SCROLL_ENABLED(UserSettings::isScrollEnabled, true),
+        EDGE_MARGIN_RATIO(UserSettings::getEdgeMarginRatio, false),
+        EDGE_TRIGGER_MS(UserSettings::getEdgeTriggerMs, false),
+        CONTINUOUS_SCROLL_COUNT(UserSettings::getContinuousScrollCount, false),
+        SCROLL_FLING_VELOCITY(UserSettings::getScrollFlingVelocity, false),
+        EDGE_SCROLL_MODE(UserSettings::getEdgeScrollMode, true),
+        CLICK_ENABLED(UserSettings::isClickEnabled, true),
+        EDGE_SCROLL_ENABLED(UserSettings::isEdgeScrollEnabled, true),
+        BLINK_DETECTION_ENABLED(UserSettings::isBlinkDetectionEnabled, true),
+        CURSOR_PREDICTION_ENABLED(UserSettings::isCursorPredictionEnabled, true),
+        TARGET_SNAP_ENABLED(UserSettings::isTargetSnapEnabled, true),
+        GAP_POLICY(UserSettings::getGapPolicy, false),
+        AUTO_ONE_POINT_CALIBRATION(UserSettings::isAutoOnePointCalibrationEnabled, false),
+        CURSOR_OFFSET_X(UserSettings::getCursorOffsetX, false),
+        CURSOR_OFFSET_Y(UserSettings::getCursorOffsetY, false),
+        GAZE_FILTER_TYPE(UserSettings::getGazeFilterType, true),
+        ONE_EURO_PRESET(UserSettings::getOneEuroFilterPreset, false),
+        ONE_EURO_FREQ(UserSettings::getOneEuroFreq, false),
+        ONE_EURO_MIN_CUTOFF(UserSettings::getOneEuroMinCutoff, false),
+        ONE_EURO_BETA(UserSettings::getOneEuroBeta, false),
+        ONE_EURO_D_CUTOFF(UserSettings::getOneEuroDCutoff, false);
+
+        private final Function<UserSettings, Object> getter;
+        private final boolean structural;
+
+        Field(Function<UserSettings, Object> getter, boolean structural) {
+            this.getter = getter;
+            this.structural = structural;
+        }
+
+        /**
+         * 파이프라인 단계 구성을 바꾸는 필드인지
+         */
+        public boolean isStructural() {
+            return structural;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    private final Set<Field> changed;
+
+    private SettingsDiff(Set<Field> changed) {
+        this.changed = changed;
+    }
+
+    /**
+     * @param before 이전 스냅샷 (null이면 모든 필드가 바뀐 것으로 본다)
+     */
+    public static SettingsDiff between(UserSettings before, UserSettings after) {
+        if (before == null) {
+            return new SettingsDiff(EnumSet.allOf(Field.class));
+        }
+        EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+        for (Field field : FIELDS) {
+            if (!Objects.equals(field.getter.apply(before), field.getter.apply(after))) {
+                changed.add(field);
+            }
+        }
+        return new SettingsDiff(changed);
+    }
+
+    public boolean isEmpty() {
+        return changed.isEmpty();
+    }
+
+    public boolean contains(Field field) {
+        return changed.contains(field);
+    }
+
+    public boolean containsAny(Field... fields) {
+        for (Field field : fields) {
+            if (changed.contains(field)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 파이프라인을 다시 구성해야 하는지 (단계가 추가/제거되는 변경이 있을 때만)
+     */
+    public boolean requiresRebuild() {
+        for (Field field : changed) {
+            if (field.structural) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return changed.toString();
+    }
+}
@@ -10,11 +10,19 @@ public class UserSettings {
     private final float edgeMarginRatio;
     private final long edgeTriggerMs;
     private final int continuousScrollCount;
+    // 제스처 스크롤을 끝낼 때의 관성 속도 (dp/s, 0이면 관성 없이 멈춤)
+    private final float scrollFlingVelocity;
+    private final EdgeScrollMode edgeScrollMode;
 
     // 기능 활성화 설정
     private final boolean clickEnabled;
     private final boolean edgeScrollEnabled;
     private final boolean blinkDetectionEnabled;
+    private final boolean cursorPredictionEnabled;
+    private final boolean targetSnapEnabled;
+
+    // 프레임 드롭 등 샘플 간격이 벌어졌을 때 응시 타이머 처리
+    private final GapPolicy gapPolicy;
 
     // 캘리브레이션 설정
     private final boolean autoOnePointCalibrationEnabled;
@@ -23,6 +31,9 @@ public class UserSettings {
     private final float cursorOffsetX;
     private final float cursorOffsetY;
 
+    // 평활화 필터 종류
+    private final GazeFilterType gazeFilterType;
+
     // OneEuroFilter 설정 - 프리셋 방식
     private final OneEuroFilterPreset oneEuroFilterPreset;
     private final double oneEuroFreq;
@@ -37,16 +48,23 @@ public class UserSettings {
         this.edgeMarginRatio = builder.edgeMarginRatio;
         this.edgeTriggerMs = builder.edgeTriggerMs;
         this.continuousScrollCount = builder.continuousScrollCount;
+        this.scrollFlingVelocity = builder.scrollFlingVelocity;
+        this.edgeScrollMode = builder.edgeScrollMode;
         this.clickEnabled = builder.clickEnabled;
         this.edgeScrollEnabled = builder.edgeScrollEnabled;
         this.blinkDetectionEnabled = builder.blinkDetectionEnabled;
+        this.cursorPredictionEnabled = builder.cursorPredictionEnabled;
+        this.targetSnapEnabled = builder.targetSnapEnabled;
+        this.gapPolicy = builder.gapPolicy;
         this.autoOnePointCalibrationEnabled = builder.autoOnePointCalibrationEnabled;
         this.cursorOffsetX = builder.cursorOffsetX;
         this.cursorOffsetY = builder.cursorOffsetY;
+        this.gazeFilterType = builder.gazeFilterType;
         this.oneEuroFilterPreset = builder.oneEuroFilterPreset;
 
-        // 프리셋이 커스텀인 경우 사용자 설정값 사용, 아니면 프리셋값 사용
-        if (this.oneEuroFilterPreset == OneEuroFilterPreset.CUSTOM) {
+        // 커스텀/자동 조정인 경우 저장된 값 사용, 아니면 프리셋값 사용
+        if (this.oneEuroFilterPreset == OneEuroFilterPreset.CUSTOM
+                || this.oneEuroFilterPreset == OneEuroFilterPreset.ADAPTIVE) {
             this.oneEuroFreq = builder.oneEuroFreq;
             this.oneEuroMinCutoff = builder.oneEuroMinCutoff;
             this.oneEuroBeta = builder.oneEuroBeta;
@@ -84,6 +102,14 @@ public class UserSettings {
         return continuousScrollCount;
     }
 
+    public float getScrollFlingVelocity() {
+        return scrollFlingVelocity;
+    }
+
+    public EdgeScrollMode getEdgeScrollMode() {
+        return edgeScrollMode;
+    }
+
     public boolean isClickEnabled() {
         return clickEnabled;
     }
@@ -96,6 +122,10 @@ public class UserSettings {
         return blinkDetectionEnabled;
     }
 
+    public boolean isCursorPredictionEnabled() {
+        return cursorPredictionEnabled;
+    }
+
     public boolean isAutoOnePointCalibrationEnabled() {
         return autoOnePointCalibrationEnabled;
     }
@@ -108,6 +138,18 @@ public class UserSettings {
         return cursorOffsetY;
     }
 
+    public boolean isTargetSnapEnabled() {
+        return targetSnapEnabled;
+    }
+
+    public GapPolicy getGapPolicy() {
+        return gapPolicy;
+    }
+
+    public GazeFilterType getGazeFilterType() {
+        return gazeFilterType;
+    }
+
     public OneEuroFilterPreset getOneEuroFilterPreset() {
         return oneEuroFilterPreset;
     }
@@ -137,13 +179,20 @@ public class UserSettings {
         private float edgeMarginRatio = 0.01f;
         private long edgeTriggerMs = 3000;
         private int continuousScrollCount = 2;
+        private float scrollFlingVelocity = 600f;
+        private EdgeScrollMode edgeScrollMode = EdgeScrollMode.DWELL;
         private boolean clickEnabled = true;
         private boolean edgeScrollEnabled = true;
         private boolean blinkDetectionEnabled = false;
+        private boolean cursorPredictionEnabled = false;
+        private boolean targetSnapEnabled = true;
+        private GapPolicy gapPolicy = GapPolicy.PAUSE;
         private boolean autoOnePointCalibrationEnabled = true;
         private float cursorOffsetX = 0f;
         private float cursorOffsetY = 0f;
 
+        private GazeFilterType gazeFilterType = GazeFilterType.ONE_EURO;
+
         // OneEuroFilter 기본값 - 균형 프리셋 (사진의 기본값과 일치)
         private OneEuroFilterPreset oneEuroFilterPreset = OneEuroFilterPreset.BALANCED;
         private double oneEuroFreq = 30.0;
@@ -153,6 +202,35 @@ public class UserSettings {
 
         public Builder() {}
 
+        /**
+         * 기존 설정에서 일부 값만 바꿀 때 사용
+         */
+        public Builder(UserSettings source) {
+            fixationDurationMs = source.fixationDurationMs;
+            aoiRadius = source.aoiRadius;
+            scrollEnabled = source.scrollEnabled;
+            edgeMarginRatio = source.edgeMarginRatio;
+            edgeTriggerMs = source.edgeTriggerMs;
+            continuousScrollCount = source.continuousScrollCount;
+            scrollFlingVelocity = source.scrollFlingVelocity;
+            edgeScrollMode = source.edgeScrollMode;
+            clickEnabled = source.clickEnabled;
+            edgeScrollEnabled = source.edgeScrollEnabled;
+            blinkDetectionEnabled = source.blinkDetectionEnabled;
+            cursorPredictionEnabled = source.cursorPredictionEnabled;
+            targetSnapEnabled = source.targetSnapEnabled;
+            gapPolicy = source.gapPolicy;
+            autoOnePointCalibrationEnabled = source.autoOnePointCalibrationEnabled;
+            cursorOffsetX = source.cursorOffsetX;
+            cursorOffsetY = source.cursorOffsetY;
+            gazeFilterType = source.gazeFilterType;
+            oneEuroFilterPreset = source.oneEuroFilterPreset;
+            oneEuroFreq = source.oneEuroFreq;
+            oneEuroMinCutoff = source.oneEuroMinCutoff;
+            oneEuroBeta = source.oneEuroBeta;
+            oneEuroDCutoff = source.oneEuroDCutoff;
+        }
+
         public Builder fixationDurationMs(float val) {
             fixationDurationMs = val;
             return this;
@@ -183,6 +261,16 @@ public class UserSettings {
             return this;
         }
 
+        public Builder scrollFlingVelocity(float val) {
+            scrollFlingVelocity = val;
+            return this;
+        }
+
+        public Builder edgeScrollMode(EdgeScrollMode val) {
+            edgeScrollMode = val;
+            return this;
+        }
+
         public Builder clickEnabled(boolean val) {
             clickEnabled = val;
             return this;
@@ -198,6 +286,11 @@ public class UserSettings {
             return this;
         }
 
+        public Builder cursorPredictionEnabled(boolean val) {
+            cursorPredictionEnabled = val;
+            return this;
+        }
+
         public Builder autoOnePointCalibrationEnabled(boolean val) {
             autoOnePointCalibrationEnabled = val;
             return this;
@@ -213,6 +306,21 @@ public class UserSettings {
             return this;
         }
 
+        public Builder targetSnapEnabled(boolean val) {
+            targetSnapEnabled = val;
+            return this;
+        }
+
+        public Builder gapPolicy(GapPolicy val) {
+            gapPolicy = val;
+            return this;
+        }
+
+        public Builder gazeFilterType(GazeFilterType val) {
+            gazeFilterType = val;
+            return this;
+        }
+
         public Builder oneEuroFilterPreset(OneEuroFilterPreset val) {
             oneEuroFilterPreset = val;
             return this;
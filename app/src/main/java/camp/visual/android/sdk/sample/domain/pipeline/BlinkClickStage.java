@@ -0,0 +1,52 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.interaction.BlinkClickDetector;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 인터랙션 단계: 의도적인 눈 깜빡임(길게 한 번 또는 두 번)으로 클릭을 확정한다.
+ * 눈을 감고 있는 동안에는 커서를 감기 직전 위치에 고정하고, 뒤따르는 인터랙션 단계를 건너뛴다.
+ */
+public class BlinkClickStage implements GazeStage {
+
+    private final BlinkClickDetector detector;
+    private final Runnable onClick;
+
+    /**
+     * @param onClick 깜빡임 클릭 직후 호출 (같은 응시로 고정 클릭이 한 번 더 나가지 않게 초기화하는 용도)
+     */
+    public BlinkClickStage(BlinkClickDetector detector, Runnable onClick) {
+        this.detector = detector;
+        this.onClick = onClick;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (sample.isInteractionHandled()) {
+            return true;
+        }
+
+        boolean clicked = detector.update(sample.getTimestamp(), sample.isEyesClosed(), sample.getX(), sample.getY());
+        if (clicked) {
+            sample.setPosition(detector.getFrozenX(), detector.getFrozenY());
+            sample.setAction(GazeSample.Action.CLICK);
+            sample.setProgress(0f);
+            sample.markInteractionHandled();
+            onClick.run();
+        } else if (detector.isHolding()) {
+            sample.setPosition(detector.getFrozenX(), detector.getFrozenY());
+            sample.markInteractionHandled();
+        }
+        return true;
+    }
+
+    @Override
+    public void updateSettings(UserSettings settings) {
+        detector.updateSettings(settings);
+    }
+
+    @Override
+    public void reset() {
+        detector.reset();
+    }
+}
@@ -0,0 +1,36 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.metrics.LatencyTracer;
+import camp.visual.android.sdk.sample.domain.model.CursorFrame;
+
+/**
+ * 싱크 단계: 샘플의 커서 상태를 프레임 슬롯에 게시하고, 슬롯이 비어 있었으면 소비자에게 알린다.
+ */
+public class CursorFrameSink implements GazeStage {
+
+    private final CursorFrameSlot slot;
+    private final Runnable onFramePublished;
+
+    public CursorFrameSink(CursorFrameSlot slot, Runnable onFramePublished) {
+        this.slot = slot;
+        this.onFramePublished = onFramePublished;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        long sdkNanos = LatencyTracer.sdkTimestampToNanos(
+                sample.getTimestamp(), sample.getEntryWallMillis(), sample.getEntryNanos());
+        long publishNanos = System.nanoTime();
+
+        CursorFrame frame = slot.beginWrite();
+        frame.set(sample.getX(), sample.getY(), sample.getProgress(),
+                sample.getGlyph(), sample.isTextAbove(), sample.getTimestamp());
+        frame.setTrace(sdkNanos, publishNanos);
+        sample.setPublishNanos(publishNanos);
+
+        if (slot.publish()) {
+            onFramePublished.run();
+        }
+        return true;
+    }
+}
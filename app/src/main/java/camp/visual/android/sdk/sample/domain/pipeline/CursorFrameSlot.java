@@ -0,0 +1,53 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import camp.visual.android.sdk.sample.domain.model.CursorFrame;
+
+/**
+ * 파이프라인 스레드(단일 생산자)와 UI 스레드(단일 소비자) 사이의 lock-free 커서 프레임 슬롯.
+ * 미리 할당한 3개의 프레임을 돌려 쓰는 트리플 버퍼로, 항상 최신 프레임 하나만 전달하고
+ * 소비되지 않은 이전 프레임은 덮어쓴다. 정상 상태에서 힙 할당이 없다.
+ */
+public class CursorFrameSlot {
+
+    private static final int INDEX_MASK = 0x3;
+    private static final int FRESH = 0x4;
+
+    private final CursorFrame[] frames = {new CursorFrame(), new CursorFrame(), new CursorFrame()};
+
+    // 생산자와 소비자가 교환하는 중간 버퍼 인덱스 + 새 프레임 여부
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int backIndex = 0;  // 생산자 전용
+    private int frontIndex = 2; // 소비자 전용
+
+    /**
+     * 생산자가 채울 프레임을 반환한다. publish() 전까지 소비자에게 보이지 않는다.
+     */
+    public CursorFrame beginWrite() {
+        return frames[backIndex];
+    }
+
+    /**
+     * beginWrite()로 채운 프레임을 게시한다.
+     * @return 슬롯이 비어 있었으면 true (소비자에게 새로 알려야 함)
+     */
+    public boolean publish() {
+        int prev = middle.getAndSet(backIndex | FRESH);
+        backIndex = prev & INDEX_MASK;
+        return (prev & FRESH) == 0;
+    }
+
+    /**
+     * 가장 최근에 게시된 프레임을 가져온다. 새 프레임이 없으면 null.
+     * 반환된 프레임은 다음 poll() 호출 전까지 유효하다.
+     */
+    public CursorFrame poll() {
+        if ((middle.get() & FRESH) == 0) {
+            return null;
+        }
+        int prev = middle.getAndSet(frontIndex);
+        frontIndex = prev & INDEX_MASK;
+        return frames[frontIndex];
+    }
+}
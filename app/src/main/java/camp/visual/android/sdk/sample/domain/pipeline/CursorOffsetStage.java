@@ -0,0 +1,28 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 보정 단계: 사용자 설정의 통합 커서 오프셋을 더한다.
+ */
+public class CursorOffsetStage implements GazeStage {
+
+    private float offsetX;
+    private float offsetY;
+
+    public CursorOffsetStage(UserSettings settings) {
+        updateSettings(settings);
+    }
+
+    @Override
+    public void updateSettings(UserSettings settings) {
+        this.offsetX = settings.getCursorOffsetX();
+        this.offsetY = settings.getCursorOffsetY();
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        sample.setPosition(sample.getX() + offsetX, sample.getY() + offsetY);
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+/**
+ * 예측 단계: 필터된 좌표를 등속 모델로 외삽해 지연 시간만큼 앞선 위치에 커서를 둔다.
+ * 예측 시간은 SDK 타임스탬프 기준 샘플 나이 + 다음 vsync까지의 프레임 간격이다.
+ * 고정 응시(저속) 중에는 예측하지 않으므로 고정 클릭의 응시 판정은 흔들리지 않는다.
+ */
+public class CursorPredictionStage implements GazeStage {
+
+    // 이 속도(px/s) 이하이면 고정 응시로 보고 예측하지 않음
+    static final float FIXATION_SPEED_PX_PER_S = 200f;
+    // 이 속도(px/s) 이상이면 예측을 전부 적용 (사이에서는 선형으로 섞음)
+    static final float FULL_PREDICTION_SPEED_PX_PER_S = 800f;
+    // 예측 시간 상한 (오버슈트 방지)
+    static final float MAX_HORIZON_MS = 80f;
+    // 샘플 간격이 이보다 크면 속도 추정을 새로 시작
+    private static final long MAX_SAMPLE_GAP_MS = 100;
+    // 속도 지수 평활 계수 (1이면 평활 없음)
+    private static final float VELOCITY_SMOOTHING = 0.5f;
+
+    private final float frameIntervalMs;
+
+    private boolean hasPrevious = false;
+    private long prevTimestamp;
+    private float prevX;
+    private float prevY;
+
+    // 평활된 속도 (px/ms)
+    private float velocityX;
+    private float velocityY;
+
+    /**
+     * @param frameIntervalMs 디스플레이 프레임 간격 (예: 120Hz → 8.3ms)
+     */
+    public CursorPredictionStage(float frameIntervalMs) {
+        this.frameIntervalMs = frameIntervalMs;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        long timestamp = sample.getTimestamp();
+        float x = sample.getX();
+        float y = sample.getY();
+        long dt = timestamp - prevTimestamp;
+
+        if (!hasPrevious || dt > MAX_SAMPLE_GAP_MS || dt < 0) {
+            velocityX = 0f;
+            velocityY = 0f;
+        } else if (dt > 0) {
+            velocityX += VELOCITY_SMOOTHING * ((x - prevX) / dt - velocityX);
+            velocityY += VELOCITY_SMOOTHING * ((y - prevY) / dt - velocityY);
+        }
+        if (dt != 0 || !hasPrevious) {
+            hasPrevious = true;
+            prevTimestamp = timestamp;
+            prevX = x;
+            prevY = y;
+        }
+
+        float speed = (float) Math.hypot(velocityX, velocityY) * 1000f;
+        float weight = predictionWeight(speed);
+        if (weight == 0f) {
+            return true; // 고정 응시: 필터된 위치 그대로
+        }
+
+        float horizon = horizonMs(sample) * weight;
+        sample.setPosition(x + velocityX * horizon, y + velocityY * horizon);
+        return true;
+    }
+
+    /**
+     * 속도에 따른 예측 적용 비율 (0~1).
+     */
+    static float predictionWeight(float speedPxPerSecond) {
+        if (speedPxPerSecond <= FIXATION_SPEED_PX_PER_S) return 0f;
+        if (speedPxPerSecond >= FULL_PREDICTION_SPEED_PX_PER_S) return 1f;
+        return (speedPxPerSecond - FIXATION_SPEED_PX_PER_S)
+                / (FULL_PREDICTION_SPEED_PX_PER_S - FIXATION_SPEED_PX_PER_S);
+    }
+
+    private float horizonMs(GazeSample sample) {
+        // SDK 시각과 벽시계가 어긋나 있으면 샘플 나이는 무시하고 프레임 간격만 사용
+        long age = sample.getEntryWallMillis() - sample.getTimestamp();
+        if (age < 0 || age > MAX_HORIZON_MS) {
+            age = 0;
+        }
+        return Math.min(age + frameIntervalMs, MAX_HORIZON_MS);
+    }
+
+    @Override
+    public void reset() {
+        hasPrevious = false;
+        velocityX = 0f;
+        velocityY = 0f;
+    }
+}
@@ -0,0 +1,48 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 인터랙션 단계: AOI 안에서 일정 시간 응시하면 클릭을 트리거한다.
+ * 앞선 단계(엣지 스크롤, 깜빡임)가 샘플을 가져가면 응시가 끊긴 것으로 보고 처음부터 다시 잰다
+ * (분류기가 보지 못한 샘플 동안 응시 시간이 쌓여 돌아온 첫 샘플에서 클릭되지 않도록).
+ */
+public class DwellClickStage implements GazeStage {
+
+    private final ClickDetector detector;
+
+    public DwellClickStage(ClickDetector detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (sample.isInteractionHandled()) {
+            detector.reset();
+            return true;
+        }
+
+        boolean clicked = detector.update(sample.getTimestamp(), sample.getX(), sample.getY());
+        sample.setProgress(detector.getProgress());
+        sample.setGlyph(CursorGlyph.NONE);
+
+        if (clicked) {
+            sample.setPosition(detector.getClickX(), detector.getClickY());
+            sample.setAction(GazeSample.Action.CLICK);
+        }
+        sample.markInteractionHandled();
+        return true;
+    }
+
+    @Override
+    public void updateSettings(UserSettings settings) {
+        detector.updateSettings(settings);
+    }
+
+    @Override
+    public void reset() {
+        detector.reset();
+    }
+}
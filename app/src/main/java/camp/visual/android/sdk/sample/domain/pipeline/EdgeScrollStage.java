@@ -0,0 +1,55 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 인터랙션 단계: 가장자리 영역 응시로 스크롤을 트리거한다.
+ * 영역 안에 있는 동안은 뒤따르는 인터랙션 단계(고정 클릭)가 실행되지 않는다.
+ */
+public class EdgeScrollStage implements GazeStage {
+
+    private final EdgeScrollDetector detector;
+
+    public EdgeScrollStage(EdgeScrollDetector detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (sample.isInteractionHandled()) {
+            return true;
+        }
+
+        EdgeScrollDetector.ScrollAction action = detector.update(sample.getTimestamp(),
+                sample.getX(), sample.getY(), sample.getScreenWidth(), sample.getScreenHeight());
+
+        if (!detector.isActive()) {
+            sample.setGlyph(CursorGlyph.NONE); // 영역을 벗어나면 기본 커서로 복귀
+            return true;
+        }
+
+        sample.setTextAbove(detector.isTextAbove());
+        sample.setGlyph(detector.getEdgeStateGlyph());
+        if (action == EdgeScrollDetector.ScrollAction.SCROLL_DOWN) {
+            sample.setGlyph(CursorGlyph.COUNT_3);
+            sample.setAction(GazeSample.Action.SCROLL_DOWN);
+        } else if (action == EdgeScrollDetector.ScrollAction.SCROLL_UP) {
+            sample.setGlyph(CursorGlyph.COUNT_3);
+            sample.setAction(GazeSample.Action.SCROLL_UP);
+        }
+        sample.markInteractionHandled();
+        return true;
+    }
+
+    @Override
+    public void updateSettings(UserSettings settings) {
+        detector.updateSettings(settings);
+    }
+
+    @Override
+    public void reset() {
+        detector.resetAll();
+    }
+}
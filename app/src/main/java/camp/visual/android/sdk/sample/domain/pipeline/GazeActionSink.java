@@ -0,0 +1,41 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+/**
+ * 싱크 단계: 인터랙션 단계가 결정한 동작(클릭/스크롤)을 리스너에 전달한다.
+ * 연속 스크롤 속도는 0이 아닌 동안 매 샘플, 0이 되면 한 번 전달한다.
+ */
+public class GazeActionSink implements GazeStage {
+
+    public interface Listener {
+        /**
+         * 동작이 결정되었을 때 호출 (파이프라인 스레드)
+         */
+        void onGazeAction(GazeSample.Action action, float x, float y);
+
+        /**
+         * 연속 스크롤 속도 갱신 (파이프라인 스레드)
+         * @param rate 초당 화면 높이, 0이면 멈춤
+         */
+        default void onScrollRate(float rate) {}
+    }
+
+    private final Listener listener;
+    private float lastScrollRate = 0f;
+
+    public GazeActionSink(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (sample.getAction() != GazeSample.Action.NONE) {
+            listener.onGazeAction(sample.getAction(), sample.getX(), sample.getY());
+        }
+        float rate = sample.getScrollRate();
+        if (rate != 0f || lastScrollRate != 0f) {
+            listener.onScrollRate(rate);
+            lastScrollRate = rate;
+        }
+        return true;
+    }
+}
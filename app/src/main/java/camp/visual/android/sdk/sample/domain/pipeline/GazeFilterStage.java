@@ -0,0 +1,34 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.filter.GazeFilter;
+import camp.visual.android.sdk.sample.domain.filter.GazeFilters;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+
+/**
+ * 필터 단계: 설정에서 고른 GazeFilter(칼만/이중 지수/중앙값)로 좌표를 평활화한다.
+ * 1€ 필터는 자동 조정을 지원하는 OneEuroFilterStage를 사용한다.
+ */
+public class GazeFilterStage implements GazeStage {
+
+    private final GazeFilterType type;
+    private final GazeFilter filter;
+    private final double[] values = new double[2]; // x, y
+
+    public GazeFilterStage(GazeFilterType type) {
+        this.type = type;
+        this.filter = GazeFilters.create(type, 2);
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        values[0] = sample.getX();
+        values[1] = sample.getY();
+        filter.filter(sample.getTimestamp(), values);
+        sample.setPosition((float) values[0], (float) values[1]);
+        return true;
+    }
+
+    public GazeFilterType getType() {
+        return type;
+    }
+}
@@ -0,0 +1,196 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+/**
+ * 시선 샘플 처리 파이프라인.
+ * source → filter → prediction → correction → clamp → interaction → sink 순서로 단계를 실행하며
+ * 단계별 처리 시간(나노초)을 누적한다.
+ */
+public class GazePipeline {
+
+    public enum StageType {
+        SOURCE, FILTER, PREDICTION, CORRECTION, CLAMP, INTERACTION, SINK
+    }
+
+    private final GazeStage[] stages;
+    private final StageType[] types;
+    private final int[] typeOrdinals;
+    private final String[] names;
+    private final GazeSample sample = new GazeSample();
+
+    // 단계별 타이밍 카운터
+    private final long[] callCounts;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+
+    private GazePipeline(Builder builder) {
+        List<GazeStage> ordered = new ArrayList<>();
+        List<StageType> orderedTypes = new ArrayList<>();
+        for (StageType type : StageType.values()) {
+            for (GazeStage stage : builder.stages.get(type.ordinal())) {
+                ordered.add(stage);
+                orderedTypes.add(type);
+            }
+        }
+
+        int count = ordered.size();
+        stages = ordered.toArray(new GazeStage[0]);
+        types = orderedTypes.toArray(new StageType[0]);
+        names = new String[count];
+        typeOrdinals = new int[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = stages[i].getClass().getSimpleName();
+            typeOrdinals[i] = types[i].ordinal();
+        }
+        callCounts = new long[count];
+        totalNanos = new long[count];
+        maxNanos = new long[count];
+    }
+
+    /**
+     * 샘플 하나를 전체 단계에 통과시킨다 (파이프라인 스레드)
+     */
+    public void process(long timestamp, float x, float y, TrackingState state, boolean eyesClosed) {
+        long start = System.nanoTime();
+        sample.begin(timestamp, x, y, state, eyesClosed, start, System.currentTimeMillis());
+
+        for (int i = 0; i < stages.length; i++) {
+            boolean proceed = stages[i].process(sample);
+            long end = System.nanoTime();
+            long elapsed = end - start;
+            start = end;
+            sample.setStageEndNanos(typeOrdinals[i], end);
+
+            callCounts[i]++;
+            totalNanos[i] += elapsed;
+            if (elapsed > maxNanos[i]) {
+                maxNanos[i] = elapsed;
+            }
+
+            if (!proceed) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 모든 단계의 진행 상태와 커서 표시 상태를 초기화한다 (파이프라인 스레드)
+     */
+    public void reset() {
+        for (GazeStage stage : stages) {
+            stage.reset();
+        }
+        sample.resetCursorState();
+    }
+
+    /**
+     * 모든 단계에 새 설정값을 반영한다 (파이프라인 스레드, 단계 구성이 같을 때만)
+     */
+    public void updateSettings(UserSettings settings) {
+        for (GazeStage stage : stages) {
+            stage.updateSettings(settings);
+        }
+    }
+
+    public int getStageCount() {
+        return stages.length;
+    }
+
+    public String getStageName(int index) {
+        return names[index];
+    }
+
+    public StageType getStageType(int index) {
+        return types[index];
+    }
+
+    public long getCallCount(int index) {
+        return callCounts[index];
+    }
+
+    public long getTotalNanos(int index) {
+        return totalNanos[index];
+    }
+
+    public long getMaxNanos(int index) {
+        return maxNanos[index];
+    }
+
+    public void resetTimings() {
+        for (int i = 0; i < stages.length; i++) {
+            callCounts[i] = 0;
+            totalNanos[i] = 0;
+            maxNanos[i] = 0;
+        }
+    }
+
+    /**
+     * 단계별 평균/최대 처리 시간을 사람이 읽을 수 있는 형태로 반환 (덤프용)
+     */
+    public String formatTimings() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < stages.length; i++) {
+            long calls = callCounts[i];
+            double avgMicros = calls == 0 ? 0 : totalNanos[i] / (double) calls / 1000.0;
+            sb.append(String.format(Locale.US, "%-11s %-24s calls=%d avg=%.1fus max=%.1fus%n",
+                    types[i], names[i], calls, avgMicros, maxNanos[i] / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    public static class Builder {
+        private final List<List<GazeStage>> stages = new ArrayList<>();
+
+        public Builder() {
+            for (int i = 0; i < StageType.values().length; i++) {
+                stages.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * 단계를 추가한다. 같은 타입 안에서는 추가한 순서대로 실행된다.
+         */
+        public Builder add(StageType type, GazeStage stage) {
+            stages.get(type.ordinal()).add(stage);
+            return this;
+        }
+
+        public Builder source(GazeStage stage) {
+            return add(StageType.SOURCE, stage);
+        }
+
+        public Builder filter(GazeStage stage) {
+            return add(StageType.FILTER, stage);
+        }
+
+        public Builder prediction(GazeStage stage) {
+            return add(StageType.PREDICTION, stage);
+        }
+
+        public Builder correction(GazeStage stage) {
+            return add(StageType.CORRECTION, stage);
+        }
+
+        public Builder clamp(GazeStage stage) {
+            return add(StageType.CLAMP, stage);
+        }
+
+        public Builder interaction(GazeStage stage) {
+            return add(StageType.INTERACTION, stage);
+        }
+
+        public Builder sink(GazeStage stage) {
+            return add(StageType.SINK, stage);
+        }
+
+        public GazePipeline build() {
+            return new GazePipeline(this);
+        }
+    }
+}
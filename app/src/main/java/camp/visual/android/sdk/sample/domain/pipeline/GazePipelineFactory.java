@@ -0,0 +1,184 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import android.content.Context;
+import android.hardware.display.DisplayManager;
+import android.os.Build;
+import android.util.DisplayMetrics;
+import android.view.Display;
+
+import java.util.function.Supplier;
+
+import camp.visual.android.sdk.sample.domain.interaction.BlinkClickDetector;
+import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.domain.interaction.HapticScheduler;
+import camp.visual.android.sdk.sample.domain.interaction.ProportionalEdgeScroller;
+import camp.visual.android.sdk.sample.domain.interaction.SampleClock;
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 사용자 설정에 따라 파이프라인의 예측/보정/인터랙션 단계를 구성한다.
+ * 소스·필터·클램프·싱크처럼 재구성 후에도 상태를 유지해야 하는 단계는 호출 측이 같은 빌더에 추가한다.
+ */
+public final class GazePipelineFactory {
+
+    private GazePipelineFactory() {}
+
+    // 시선 정확도(약 1cm)에 맞춘 대상 끌어당김 반경 (cm)
+    private static final float TARGET_SNAP_RADIUS_CM = 1.0f;
+
+    /**
+     * 재구성 사이에 유지하는 설정 기반 단계. 재구성 후에도 계속 쓰이는 단계는 같은 인스턴스를
+     * 새 설정값으로 갱신해 다시 넣으므로 진행 중인 응시/필터 상태가 끊기지 않는다.
+     * 구성에서 빠진 단계는 버리고, 다시 켜지면 새로 만든다. 파이프라인 스레드에서만 사용한다.
+     */
+    public static final class StageCache {
+        private CursorPredictionStage prediction;
+        private CursorOffsetStage offset;
+        private TargetSnapStage targetSnap;
+        private ClickDetector clickDetector;
+        private BlinkClickStage blinkClick;
+        private EdgeScrollStage edgeScroll;
+        private ProportionalEdgeScrollStage proportionalEdgeScroll;
+        private DwellClickStage dwellClick;
+    }
+
+    /**
+     * @param clock        응시/엣지 타이머가 공유하는 샘플 시계. 재구성 후에도 같은 시계를 넘긴다
+     * @param clickTargets 최신 클릭 대상 색인
+     * @param haptics      진동 알림 스케줄러 (파이프라인 스레드에서 막히지 않고 요청)
+     * @param cache        이전 구성의 단계 (재사용 가능한 단계는 새 설정으로 갱신해 다시 사용)
+     */
+    public static GazePipeline.Builder addSettingsStages(GazePipeline.Builder builder, UserSettings settings,
+                                                         SampleClock clock,
+                                                         Supplier<ClickTargetIndex> clickTargets,
+                                                         HapticScheduler haptics,
+                                                         Context context,
+                                                         StageCache cache) {
+        if (settings.isCursorPredictionEnabled()) {
+            if (cache.prediction == null) {
+                cache.prediction = new CursorPredictionStage(frameIntervalMs(context));
+            }
+            builder.prediction(cache.prediction);
+        } else {
+            cache.prediction = null;
+        }
+
+        if (cache.offset == null) {
+            cache.offset = new CursorOffsetStage(settings);
+        } else {
+            cache.offset.updateSettings(settings);
+        }
+        builder.correction(cache.offset);
+
+        if (settings.isTargetSnapEnabled()) {
+            if (cache.targetSnap == null) {
+                cache.targetSnap = new TargetSnapStage(clickTargets, targetSnapRadiusPx(context),
+                        statusBarHeightPx(context));
+            }
+            builder.correction(cache.targetSnap);
+        } else {
+            cache.targetSnap = null;
+        }
+
+        // 눈 깜빡임 클릭 → 엣지 스크롤 → 고정 클릭 순서로 판단한다
+        if (settings.isBlinkDetectionEnabled() || settings.isClickEnabled()) {
+            if (cache.clickDetector == null) {
+                cache.clickDetector = new ClickDetector(settings, clock);
+            } else {
+                cache.clickDetector.updateSettings(settings);
+            }
+        } else {
+            cache.clickDetector = null;
+        }
+        ClickDetector clickDetector = cache.clickDetector;
+
+        if (settings.isBlinkDetectionEnabled()) {
+            if (cache.blinkClick == null) {
+                cache.blinkClick = new BlinkClickStage(new BlinkClickDetector(settings), clickDetector::reset);
+            } else {
+                cache.blinkClick.updateSettings(settings);
+            }
+            builder.interaction(cache.blinkClick);
+        } else {
+            cache.blinkClick = null;
+        }
+
+        boolean edgeScroll = settings.isScrollEnabled() && settings.isEdgeScrollEnabled();
+        boolean proportional = settings.getEdgeScrollMode() == EdgeScrollMode.PROPORTIONAL;
+        if (edgeScroll && proportional) {
+            if (cache.proportionalEdgeScroll == null) {
+                cache.proportionalEdgeScroll = new ProportionalEdgeScrollStage(new ProportionalEdgeScroller(clock));
+            }
+            builder.interaction(cache.proportionalEdgeScroll);
+        } else {
+            cache.proportionalEdgeScroll = null;
+        }
+        if (edgeScroll && !proportional) {
+            if (cache.edgeScroll == null) {
+                cache.edgeScroll = new EdgeScrollStage(new EdgeScrollDetector(settings, haptics, clock));
+            } else {
+                cache.edgeScroll.updateSettings(settings);
+            }
+            builder.interaction(cache.edgeScroll);
+        } else {
+            cache.edgeScroll = null;
+        }
+
+        if (settings.isClickEnabled()) {
+            if (cache.dwellClick == null) {
+                cache.dwellClick = new DwellClickStage(clickDetector);
+            }
+            builder.interaction(cache.dwellClick);
+        } else {
+            cache.dwellClick = null;
+        }
+        return builder;
+    }
+
+    /**
+     * TARGET_SNAP_RADIUS_CM를 화면 px로 환산
+     */
+    private static float targetSnapRadiusPx(Context context) {
+        DisplayMetrics dm = context.getResources().getDisplayMetrics();
+        float dpi = (dm.xdpi + dm.ydpi) / 2f;
+        if (dpi <= 0f) {
+            dpi = dm.densityDpi;
+        }
+        return dpi / 2.54f * TARGET_SNAP_RADIUS_CM;
+    }
+
+    /**
+     * 오버레이(앱 영역) 좌표와 화면 좌표의 y 차이. 클릭/스크롤 실행 시 더하는 값과 같다.
+     */
+    private static float statusBarHeightPx(Context context) {
+        int resourceId = context.getResources().getIdentifier("status_bar_height", "dimen", "android");
+        return resourceId > 0 ? context.getResources().getDimensionPixelSize(resourceId) : 0f;
+    }
+
+    /**
+     * 기본 디스플레이의 프레임 간격 (ms). 알 수 없으면 60Hz로 가정한다.
+     */
+    private static float frameIntervalMs(Context context) {
+        Display display = display(context);
+        float refreshRate = display != null ? display.getRefreshRate() : 0f;
+        return 1000f / (refreshRate > 1f ? refreshRate : 60f);
+    }
+
+    /**
+     * 컨텍스트가 보이는 디스플레이. 서비스처럼 화면에 묶이지 않은 컨텍스트이거나 API 29이면 기본 디스플레이.
+     */
+    private static Display display(Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            try {
+                return context.getDisplay();
+            } catch (UnsupportedOperationException e) {
+                // 아래 기본 디스플레이로 대체
+            }
+        }
+        DisplayManager displayManager = (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+        return displayManager != null ? displayManager.getDisplay(Display.DEFAULT_DISPLAY) : null;
+    }
+}
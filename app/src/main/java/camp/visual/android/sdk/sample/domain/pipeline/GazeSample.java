@@ -0,0 +1,204 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+/**
+ * 파이프라인 단계들이 함께 읽고 쓰는 샘플 작업 레코드.
+ * GazePipeline이 하나를 재사용하므로 샘플마다 할당되지 않는다.
+ * 커서 표시 상태(progress, glyph, textAbove)는 샘플 사이에 유지된다.
+ */
+public final class GazeSample {
+
+    public enum Action {
+        NONE, CLICK, SCROLL_UP, SCROLL_DOWN
+    }
+
+    // 입력 (매 샘플 갱신)
+    private long timestamp;
+    private float rawX;
+    private float rawY;
+    private TrackingState state;
+    private boolean eyesClosed;
+
+    // 단계를 거치며 보정되는 좌표
+    private float x;
+    private float y;
+
+    // 클램프 단계가 적용한 화면 크기
+    private float screenWidth;
+    private float screenHeight;
+
+    // 지연 시간 추적용 시각 (System.nanoTime 기준, 해당 없으면 0)
+    private long entryNanos;
+    private long entryWallMillis;
+    private final long[] stageEndNanos = new long[GazePipeline.StageType.values().length];
+    private long publishNanos;
+
+    // 인터랙션 결과 (매 샘플 초기화)
+    private boolean interactionHandled;
+    private Action action = Action.NONE;
+    // 연속 스크롤 속도 (초당 화면 높이, 0이면 멈춤)
+    private float scrollRate;
+
+    // 커서 표시 상태 (샘플 사이에 유지)
+    private float progress = 0f;
+    private CursorGlyph glyph = CursorGlyph.NONE;
+    private boolean textAbove = false;
+
+    void begin(long timestamp, float x, float y, TrackingState state, boolean eyesClosed,
+               long entryNanos, long entryWallMillis) {
+        this.timestamp = timestamp;
+        this.entryNanos = entryNanos;
+        this.entryWallMillis = entryWallMillis;
+        for (int i = 0; i < stageEndNanos.length; i++) {
+            stageEndNanos[i] = 0;
+        }
+        this.publishNanos = 0;
+        this.rawX = x;
+        this.rawY = y;
+        this.state = state;
+        this.eyesClosed = eyesClosed;
+        this.x = x;
+        this.y = y;
+        this.interactionHandled = false;
+        this.action = Action.NONE;
+        this.scrollRate = 0f;
+    }
+
+    void resetCursorState() {
+        progress = 0f;
+        glyph = CursorGlyph.NONE;
+        textAbove = false;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public float getRawX() {
+        return rawX;
+    }
+
+    public float getRawY() {
+        return rawY;
+    }
+
+    public TrackingState getState() {
+        return state;
+    }
+
+    /**
+     * SDK가 두 눈을 감은 것으로 보고한 샘플인지 (이때 좌표는 소스 단계가 직전 값으로 고정한다)
+     */
+    public boolean isEyesClosed() {
+        return eyesClosed;
+    }
+
+    public long getEntryNanos() {
+        return entryNanos;
+    }
+
+    public long getEntryWallMillis() {
+        return entryWallMillis;
+    }
+
+    /**
+     * 해당 타입의 마지막 단계가 끝난 시각 (그 타입의 단계가 실행되지 않았으면 0)
+     */
+    public long getStageEndNanos(GazePipeline.StageType type) {
+        return stageEndNanos[type.ordinal()];
+    }
+
+    void setStageEndNanos(int typeOrdinal, long nanos) {
+        stageEndNanos[typeOrdinal] = nanos;
+    }
+
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+
+    public void setPublishNanos(long publishNanos) {
+        this.publishNanos = publishNanos;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public float getScreenWidth() {
+        return screenWidth;
+    }
+
+    public float getScreenHeight() {
+        return screenHeight;
+    }
+
+    public void setScreenSize(float width, float height) {
+        this.screenWidth = width;
+        this.screenHeight = height;
+    }
+
+    /**
+     * 앞선 인터랙션 단계가 이미 이 샘플을 처리했는지 여부
+     */
+    public boolean isInteractionHandled() {
+        return interactionHandled;
+    }
+
+    public void markInteractionHandled() {
+        interactionHandled = true;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    /**
+     * 연속 스크롤 속도 (초당 화면 높이). 양수는 SCROLL_UP과 같은 방향(손가락을 위로)이다.
+     */
+    public float getScrollRate() {
+        return scrollRate;
+    }
+
+    public void setScrollRate(float scrollRate) {
+        this.scrollRate = scrollRate;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    public void setProgress(float progress) {
+        this.progress = progress;
+    }
+
+    public CursorGlyph getGlyph() {
+        return glyph;
+    }
+
+    public void setGlyph(CursorGlyph glyph) {
+        this.glyph = glyph;
+    }
+
+    public boolean isTextAbove() {
+        return textAbove;
+    }
+
+    public void setTextAbove(boolean textAbove) {
+        this.textAbove = textAbove;
+    }
+}
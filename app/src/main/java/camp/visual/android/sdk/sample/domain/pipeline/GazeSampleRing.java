@@ -0,0 +1,88 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+/**
+ * SDK 콜백 스레드(단일 생산자)에서 파이프라인 스레드(단일 소비자)로 시선 샘플을 넘기는
+ * lock-free 링 버퍼. 샘플은 원시 배열에 저장되므로 정상 상태에서 힙 할당이 없다.
+ */
+public class GazeSampleRing {
+
+    public interface SampleHandler {
+        void onSample(long timestamp, float x, float y, TrackingState state, boolean eyesClosed);
+    }
+
+    private final int mask;
+    private final long[] timestamps;
+    private final float[] xs;
+    private final float[] ys;
+    private final TrackingState[] states;
+    private final boolean[] eyesClosed;
+
+    private final AtomicLong head = new AtomicLong(); // 다음에 읽을 위치 (소비자)
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자)
+    private long droppedCount = 0;
+
+    /**
+     * @param capacity 2의 거듭제곱이어야 함
+     */
+    public GazeSampleRing(int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        timestamps = new long[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        states = new TrackingState[capacity];
+        eyesClosed = new boolean[capacity];
+    }
+
+    /**
+     * 샘플을 추가한다 (생산자 스레드). 버퍼가 가득 차면 새 샘플을 버린다.
+     * @param closed 두 눈이 감겨 있는지 (SDK BlinkInfo)
+     * @return 추가되었으면 true
+     */
+    public boolean offer(long timestamp, float x, float y, TrackingState state, boolean closed) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            droppedCount++;
+            return false;
+        }
+        int i = (int) (t & mask);
+        timestamps[i] = timestamp;
+        xs[i] = x;
+        ys[i] = y;
+        states[i] = state;
+        eyesClosed[i] = closed;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * 쌓인 샘플을 순서대로 모두 처리한다 (소비자 스레드)
+     * @return 처리한 샘플 수
+     */
+    public int drain(SampleHandler handler) {
+        long h = head.get();
+        long t = tail.get();
+        int count = 0;
+        while (h < t) {
+            int i = (int) (h & mask);
+            handler.onSample(timestamps[i], xs[i], ys[i], states[i], eyesClosed[i]);
+            h++;
+            count++;
+            head.lazySet(h);
+        }
+        return count;
+    }
+
+    /**
+     * 버퍼가 가득 차서 버려진 샘플 수 (생산자 스레드에서만 갱신)
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,56 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import java.util.function.BooleanSupplier;
+
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+/**
+ * 소스 단계: 추적에 성공한 샘플만 통과시키고, 일시 정지(캘리브레이션 등) 중에는 샘플을 버린다.
+ * 눈 깜빡임 감지가 켜져 있으면 눈 감은 샘플도 통과시키되, 좌표는 마지막으로 눈을 뜨고 있던 샘플 값으로 고정한다.
+ */
+public class GazeSourceStage implements GazeStage {
+
+    private final BooleanSupplier paused;
+
+    private volatile boolean passEyesClosed = false;
+    private boolean hasOpenPosition = false;
+    private float lastOpenX;
+    private float lastOpenY;
+
+    public GazeSourceStage(BooleanSupplier paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * 눈 감은 샘플을 뒤 단계(눈 깜빡임 클릭)로 넘길지 여부
+     */
+    public void setPassEyesClosed(boolean passEyesClosed) {
+        this.passEyesClosed = passEyesClosed;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (paused.getAsBoolean()) {
+            return false;
+        }
+        if (!passEyesClosed) {
+            return sample.getState() == TrackingState.SUCCESS;
+        }
+
+        if (sample.isEyesClosed()) {
+            // 눈을 감는 동안의 좌표는 믿을 수 없으므로 필터에 직전 위치를 그대로 넣는다
+            if (!hasOpenPosition) {
+                return false;
+            }
+            sample.setPosition(lastOpenX, lastOpenY);
+            return true;
+        }
+        if (sample.getState() != TrackingState.SUCCESS) {
+            return false;
+        }
+        hasOpenPosition = true;
+        lastOpenX = sample.getX();
+        lastOpenY = sample.getY();
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 시선 파이프라인의 한 단계.
+ * 모든 단계는 파이프라인 스레드에서만 호출된다.
+ */
+public interface GazeStage {
+
+    /**
+     * 샘플을 처리한다.
+     * @return 다음 단계로 계속 진행하려면 true, 이 샘플을 여기서 버리려면 false
+     */
+    boolean process(GazeSample sample);
+
+    /**
+     * 진행 중인 상태(응시 타이머 등)를 초기화한다.
+     */
+    default void reset() {}
+
+    /**
+     * 단계 구성은 그대로이고 설정값만 바뀌었을 때, 진행 중인 상태를 유지한 채 새 값을 반영한다.
+     */
+    default void updateSettings(UserSettings settings) {}
+}
@@ -0,0 +1,28 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.metrics.LatencyTracer;
+
+/**
+ * 싱크 단계: 샘플이 파이프라인을 지나며 남긴 시각으로 구간별 지연 시간을 기록한다.
+ * CursorFrameSink 뒤에 두어야 게시 시각이 포함된다.
+ */
+public class LatencyTraceSink implements GazeStage {
+
+    private final LatencyTracer tracer;
+
+    public LatencyTraceSink(LatencyTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        long sdkNanos = LatencyTracer.sdkTimestampToNanos(
+                sample.getTimestamp(), sample.getEntryWallMillis(), sample.getEntryNanos());
+        tracer.recordPipeline(sdkNanos,
+                sample.getEntryNanos(),
+                sample.getStageEndNanos(GazePipeline.StageType.FILTER),
+                sample.getStageEndNanos(GazePipeline.StageType.INTERACTION),
+                sample.getPublishNanos());
+        return true;
+    }
+}
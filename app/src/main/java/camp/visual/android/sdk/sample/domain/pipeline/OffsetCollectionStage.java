@@ -0,0 +1,64 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+/**
+ * 소스 단계: 통합 오프셋 계산 중에는 필터링 전 원시 좌표를 모아 평균을 내고,
+ * 수집하는 동안 샘플이 뒤 단계로 가지 않도록 소비한다.
+ */
+public class OffsetCollectionStage implements GazeStage {
+
+    public interface Listener {
+        /**
+         * 필요한 샘플 수가 모였을 때 호출 (파이프라인 스레드)
+         */
+        void onOffsetSamplesCollected(float avgGazeX, float avgGazeY);
+    }
+
+    private final int requiredSamples;
+    private final Listener listener;
+
+    private volatile boolean collecting = false;
+    private int count = 0;
+    private float sumX = 0f;
+    private float sumY = 0f;
+
+    public OffsetCollectionStage(int requiredSamples, Listener listener) {
+        this.requiredSamples = requiredSamples;
+        this.listener = listener;
+    }
+
+    /**
+     * 수집 시작/중단 (어느 스레드에서든 호출 가능)
+     */
+    public void setCollecting(boolean collecting) {
+        this.collecting = collecting;
+    }
+
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (!collecting) {
+            count = 0;
+            sumX = 0f;
+            sumY = 0f;
+            return true;
+        }
+
+        if (sample.isEyesClosed()) {
+            return false; // 눈 감은 샘플은 좌표가 의미 없으므로 평균에서 제외
+        }
+
+        // 필터링 없이 원시 데이터 수집 (평균 계산용)
+        sumX += sample.getRawX();
+        sumY += sample.getRawY();
+        count++;
+
+        if (count >= requiredSamples) {
+            collecting = false;
+            listener.onOffsetSamplesCollected(sumX / count, sumY / count);
+        }
+        return false; // 오프셋 계산 중에는 다른 처리 안함
+    }
+}
@@ -0,0 +1,111 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.filter.OneEuroAutoTuner;
+import camp.visual.android.sdk.sample.domain.filter.OneEuroFilter;
+import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 필터 단계: 1€ 필터로 좌표를 평활화한다.
+ * 샘플 간격은 SDK 타임스탬프 기준이며, 설정이 바뀌어도 필터 상태는 유지된다.
+ * 자동 조정 프리셋에서는 원시 샘플로 minCutoff/beta를 계속 갱신한다.
+ */
+public class OneEuroFilterStage implements GazeStage {
+
+    /**
+     * 자동 조정 값이 의미 있게 바뀌었을 때 호출된다 (파이프라인 스레드)
+     */
+    public interface TuningListener {
+        void onParametersTuned(double minCutoff, double beta);
+    }
+
+    // 직전 알림 대비 이 비율 이상 바뀌었을 때만 알림 (저장 빈도 제한)
+    private static final double NOTIFY_CHANGE_RATIO = 0.05;
+
+    private final OneEuroFilter filter;
+    private final OneEuroAutoTuner tuner;
+    private final double[] values = new double[2]; // x, y
+
+    private boolean adaptive;
+    private double freq;
+    private double dCutoff;
+    private TuningListener tuningListener;
+    private double notifiedMinCutoff;
+    private double notifiedBeta;
+
+    public OneEuroFilterStage(UserSettings settings) {
+        filter = new OneEuroFilter(2,
+                settings.getOneEuroFreq(),
+                settings.getOneEuroMinCutoff(),
+                settings.getOneEuroBeta(),
+                settings.getOneEuroDCutoff());
+        tuner = new OneEuroAutoTuner(settings.getOneEuroMinCutoff(), settings.getOneEuroBeta(),
+                settings.getOneEuroFreq());
+        notifiedMinCutoff = settings.getOneEuroMinCutoff();
+        notifiedBeta = settings.getOneEuroBeta();
+        updateSettings(settings);
+    }
+
+    public void setTuningListener(TuningListener listener) {
+        this.tuningListener = listener;
+    }
+
+    /**
+     * 새 설정의 파라미터를 필터 상태를 유지한 채 반영한다 (파이프라인 스레드)
+     * 자동 조정 중이면 저장된 값 대신 조정기가 추정한 현재 값을 유지한다.
+     */
+    @Override
+    public void updateSettings(UserSettings settings) {
+        adaptive = settings.getOneEuroFilterPreset() == OneEuroFilterPreset.ADAPTIVE;
+        freq = settings.getOneEuroFreq();
+        dCutoff = settings.getOneEuroDCutoff();
+        if (adaptive) {
+            filter.setParameters(freq, tuner.getMinCutoff(), tuner.getBeta(), dCutoff);
+        } else {
+            filter.setParameters(freq, settings.getOneEuroMinCutoff(), settings.getOneEuroBeta(), dCutoff);
+        }
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        values[0] = sample.getX();
+        values[1] = sample.getY();
+
+        if (adaptive && tuner.update(sample.getTimestamp(), values[0], values[1])) {
+            applyTunedParameters();
+        }
+
+        filter.filter(sample.getTimestamp(), values);
+        sample.setPosition((float) values[0], (float) values[1]);
+        return true;
+    }
+
+    private void applyTunedParameters() {
+        double minCutoff = tuner.getMinCutoff();
+        double beta = tuner.getBeta();
+        filter.setParameters(freq, minCutoff, beta, dCutoff);
+
+        if (tuningListener != null
+                && (changedSignificantly(minCutoff, notifiedMinCutoff) || changedSignificantly(beta, notifiedBeta))) {
+            notifiedMinCutoff = minCutoff;
+            notifiedBeta = beta;
+            tuningListener.onParametersTuned(minCutoff, beta);
+        }
+    }
+
+    private static boolean changedSignificantly(double value, double reference) {
+        return Math.abs(value - reference) > Math.abs(reference) * NOTIFY_CHANGE_RATIO;
+    }
+
+    public double getEstimatedRate() {
+        return filter.getEstimatedRate();
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public OneEuroAutoTuner getTuner() {
+        return tuner;
+    }
+}
@@ -0,0 +1,41 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import camp.visual.android.sdk.sample.domain.interaction.ProportionalEdgeScroller;
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+
+/**
+ * 인터랙션 단계: 상/하단 띠 응시로 연속 스크롤 속도를 정한다 (비례 모드).
+ * 띠 안에 있는 동안은 뒤따르는 인터랙션 단계(고정 클릭)가 실행되지 않는다.
+ */
+public class ProportionalEdgeScrollStage implements GazeStage {
+
+    private final ProportionalEdgeScroller scroller;
+
+    public ProportionalEdgeScrollStage(ProportionalEdgeScroller scroller) {
+        this.scroller = scroller;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        if (sample.isInteractionHandled()) {
+            scroller.reset();
+            return true;
+        }
+
+        float rate = scroller.update(sample.getTimestamp(), sample.getY(), sample.getScreenHeight());
+        if (scroller.isInBand()) {
+            sample.setTextAbove(sample.getY() > sample.getScreenHeight() / 2f); // 하단 띠는 텍스트를 위쪽에
+            sample.setGlyph(scroller.getGlyph());
+            sample.setScrollRate(rate);
+            sample.markInteractionHandled();
+        } else {
+            sample.setGlyph(CursorGlyph.NONE); // 띠를 벗어나면 기본 커서로 복귀
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        scroller.reset();
+    }
+}
@@ -0,0 +1,29 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+/**
+ * 클램프 단계: 좌표를 화면 안으로 제한한다.
+ */
+public class ScreenClampStage implements GazeStage {
+
+    private volatile float screenWidth;
+    private volatile float screenHeight;
+
+    /**
+     * 화면 크기 갱신 (회전 등, 어느 스레드에서든 호출 가능)
+     */
+    public void setScreenSize(float width, float height) {
+        this.screenWidth = width;
+        this.screenHeight = height;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        float width = screenWidth;
+        float height = screenHeight;
+        float safeX = Math.max(0, Math.min(sample.getX(), width - 1));
+        float safeY = Math.max(0, Math.min(sample.getY(), height - 1));
+        sample.setPosition(safeX, safeY);
+        sample.setScreenSize(width, height);
+        return true;
+    }
+}
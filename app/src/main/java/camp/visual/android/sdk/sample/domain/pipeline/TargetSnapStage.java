@@ -0,0 +1,86 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import java.util.function.Supplier;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+
+/**
+ * 보정 단계: 커서를 반경 안의 가장 가까운 클릭 대상으로 끌어당긴다.
+ * 작은 대상은 중심으로, 한 축이 큰 대상(목록 행 등)은 그 축에서 대상 안쪽으로만 옮긴다.
+ * 같은 대상을 보는 동안 좌표가 한 점에 모이므로 고정 클릭의 AOI도 대상에 맞춰진다.
+ * 인접한 대상 사이에서 떨리지 않도록, 다른 대상 안을 직접 보지 않는 한 현재 대상을 조금 더 넓게 유지한다.
+ * 색인은 화면 좌표(getBoundsInScreen), 커서는 오버레이(앱 영역) 좌표이므로 screenOffsetY로 옮겨 비교한다.
+ */
+public class TargetSnapStage implements GazeStage {
+
+    // 현재 대상을 유지하는 추가 반경 비율
+    private static final float HYSTERESIS_RATIO = 0.5f;
+
+    private final Supplier<ClickTargetIndex> targets;
+    private final float radius;
+    private final float maxCenterSnapSize;
+    private final float screenOffsetY;
+
+    // 현재 붙어 있는 대상, 커서 좌표 (색인이 바뀌어도 유지되도록 번호 대신 사각형을 기억)
+    private boolean snapped = false;
+    private float snapLeft;
+    private float snapTop;
+    private float snapRight;
+    private float snapBottom;
+
+    /**
+     * @param targets       최신 클릭 대상 색인 (접근성 서비스가 갱신, 화면 좌표)
+     * @param radius        끌어당기는 반경 (px)
+     * @param screenOffsetY 커서 y에 더하면 화면 y가 되는 값 (상태바 높이)
+     */
+    public TargetSnapStage(Supplier<ClickTargetIndex> targets, float radius, float screenOffsetY) {
+        this.targets = targets;
+        this.radius = radius;
+        this.maxCenterSnapSize = radius * 2f;
+        this.screenOffsetY = screenOffsetY;
+    }
+
+    @Override
+    public boolean process(GazeSample sample) {
+        float x = sample.getX();
+        float y = sample.getY();
+        float screenY = y + screenOffsetY;
+        ClickTargetIndex index = targets.get();
+
+        int candidate = index.nearest(x, screenY, radius);
+        boolean keepCurrent = snapped
+                && ClickTargetIndex.rectDistance(snapLeft, snapTop, snapRight, snapBottom, x, y)
+                        <= radius * (1f + HYSTERESIS_RATIO)
+                && (candidate < 0 || index.distance(candidate, x, screenY) > 0f);
+
+        if (!keepCurrent) {
+            if (candidate < 0) {
+                snapped = false;
+                return true;
+            }
+            snapped = true;
+            snapLeft = index.getLeft(candidate);
+            snapTop = index.getTop(candidate) - screenOffsetY;
+            snapRight = index.getRight(candidate);
+            snapBottom = index.getBottom(candidate) - screenOffsetY;
+        }
+
+        sample.setPosition(snapAxis(x, snapLeft, snapRight), snapAxis(y, snapTop, snapBottom));
+        return true;
+    }
+
+    // 작은 축은 중심, 큰 축은 가장자리 여백 안쪽으로
+    private float snapAxis(float value, float min, float max) {
+        float size = max - min;
+        if (size <= maxCenterSnapSize) {
+            return (min + max) / 2f;
+        }
+        float inset = radius / 2f;
+        return Math.max(min + inset, Math.min(max - inset, value));
+    }
+
+    @Override
+    public void reset() {
+        snapped = false;
+    }
+}
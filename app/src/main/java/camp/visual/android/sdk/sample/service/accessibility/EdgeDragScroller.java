@@ -0,0 +1,148 @@
+package camp.visual.android.sdk.sample.service.accessibility;
+
+import android.accessibilityservice.AccessibilityService;
+import android.accessibilityservice.GestureDescription;
+import android.graphics.Path;
+import android.os.SystemClock;
+import android.util.DisplayMetrics;
+import android.util.Log;
+
+/**
+ * 비례 엣지 스크롤용 끌기. 손가락을 누른 채 SEGMENT_MS 구간씩 이어 그리며,
+ * 구간마다 최신 속도만큼 움직인다.
+ * - 속도가 0이 되거나 (시선이 띠를 벗어남) STALE_MS 동안 갱신되지 않으면 제자리에 멈춘 뒤 떼서 관성 없이 멈춤
+ * - 손가락이 이동 범위 끝에 닿거나 방향이 바뀌면 같은 방식으로 떼고 반대편에서 다시 누름
+ * 속도는 어느 스레드에서든 갱신할 수 있고, 제스처 진행은 메인 스레드에서만 한다.
+ */
+final class EdgeDragScroller {
+    private static final String TAG = "EdgeDragScroller";
+
+    static final long SEGMENT_MS = 50;
+    // 속도 갱신이 이보다 오래 끊기면 (시선 추적 중단 등) 멈춤
+    static final long STALE_MS = 300;
+    // 손가락 이동 범위 (화면 높이 비율)
+    private static final float TRAVEL_MIN = 0.15f;
+    private static final float TRAVEL_MAX = 0.85f;
+
+    interface Listener {
+        void onStopped();
+    }
+
+    private final AccessibilityService service;
+
+    // 파이프라인 스레드가 갱신 (초당 화면 높이, 양수는 손가락을 위로)
+    private volatile float rate = 0f;
+    private volatile long rateUpdatedAt = 0;
+    private volatile boolean running = false;
+
+    // 메인 스레드 전용
+    private int direction;         // -1 손가락 위로, 1 아래로
+    private float pointerY;
+    private boolean releasing;     // 마지막으로 보낸 구간이 떼는 구간인지
+    private GestureDescription.StrokeDescription currentStroke;
+    private Listener listener;
+
+    private final AccessibilityService.GestureResultCallback callback = new AccessibilityService.GestureResultCallback() {
+        @Override
+        public void onCompleted(GestureDescription gestureDescription) {
+            if (!running) return;
+            if (!releasing) {
+                dispatchNext();
+            } else if (currentRate() != 0f) {
+                beginStroke(); // 범위 끝에 닿았거나 방향이 바뀜 - 다시 누름
+            } else {
+                finish();
+            }
+        }
+
+        @Override
+        public void onCancelled(GestureDescription gestureDescription) {
+            Log.d(TAG, "엣지 스크롤 끌기 취소됨");
+            finish();
+        }
+    };
+
+    EdgeDragScroller(AccessibilityService service) {
+        this.service = service;
+    }
+
+    /**
+     * 최신 스크롤 속도 (어느 스레드에서든 호출 가능)
+     */
+    void setRate(float screensPerSecond) {
+        rate = screensPerSecond;
+        rateUpdatedAt = SystemClock.uptimeMillis();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void start(Listener listener) {
+        if (running || currentRate() == 0f) return;
+        this.listener = listener;
+        running = true;
+        Log.d(TAG, "엣지 스크롤 끌기 시작");
+        beginStroke();
+    }
+
+    private float currentRate() {
+        if (SystemClock.uptimeMillis() - rateUpdatedAt > STALE_MS) {
+            return 0f;
+        }
+        return rate;
+    }
+
+    private void beginStroke() {
+        float screenHeight = service.getResources().getDisplayMetrics().heightPixels;
+        direction = currentRate() > 0f ? -1 : 1;
+        pointerY = screenHeight * (direction < 0 ? TRAVEL_MAX : TRAVEL_MIN);
+        currentStroke = null;
+        dispatchNext();
+    }
+
+    private void dispatchNext() {
+        DisplayMetrics dm = service.getResources().getDisplayMetrics();
+        float x = dm.widthPixels / 2f;
+        float r = currentRate();
+        int wanted = r > 0f ? -1 : (r < 0f ? 1 : 0);
+
+        Path path = new Path();
+        path.moveTo(x, pointerY);
+        releasing = true;
+        if (wanted == direction) {
+            float next = pointerY + direction * Math.abs(r) * dm.heightPixels * SEGMENT_MS / 1000f;
+            if (next >= dm.heightPixels * TRAVEL_MIN && next <= dm.heightPixels * TRAVEL_MAX) {
+                path.lineTo(x, next);
+                pointerY = next;
+                releasing = false;
+            }
+        }
+        if (releasing && currentStroke == null) {
+            // 아직 누르지도 않았는데 멈춰야 함
+            finish();
+            return;
+        }
+
+        // 떼는 구간은 움직이지 않으므로 관성이 생기지 않는다
+        currentStroke = currentStroke == null
+                ? new GestureDescription.StrokeDescription(path, 0, SEGMENT_MS, !releasing)
+                : currentStroke.continueStroke(path, 0, SEGMENT_MS, !releasing);
+        GestureDescription gesture = new GestureDescription.Builder().addStroke(currentStroke).build();
+        if (!service.dispatchGesture(gesture, callback, null)) {
+            Log.e(TAG, "엣지 스크롤 구간 실행 실패");
+            finish();
+        }
+    }
+
+    private void finish() {
+        running = false;
+        currentStroke = null;
+        Log.d(TAG, "엣지 스크롤 끌기 종료");
+        Listener stopped = listener;
+        listener = null;
+        if (stopped != null) {
+            stopped.onStopped();
+        }
+    }
+}
@@ -3,7 +3,6 @@ package camp.visual.android.sdk.sample.service.accessibility;
 import android.accessibilityservice.AccessibilityService;
 import android.accessibilityservice.GestureDescription;
 import android.graphics.Path;
-import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
@@ -11,8 +10,12 @@ import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
 import android.util.DisplayMetrics;
 
-import androidx.annotation.Nullable;
-import androidx.annotation.RequiresApi;
+import java.io.PrintWriter;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+import camp.visual.android.sdk.sample.domain.interaction.GestureQueue;
+import camp.visual.android.sdk.sample.domain.interaction.ScrollStrokePlan;
+import camp.visual.android.sdk.sample.domain.metrics.ActionLatencyTracer;
 
 public class MyAccessibilityService extends AccessibilityService {
 
@@ -24,8 +27,18 @@ public class MyAccessibilityService extends AccessibilityService {
     private static final float SCROLL_AMOUNT_MEDIUM = 0.2f; // 화면 높이의 20%
     private static final float SCROLL_AMOUNT_LARGE = 0.3f; // 화면 높이의 30%
 
-    // 현재 진행 중인 제스처 여부
+    // 현재 진행 중인 제스처 여부 (끝나면 대기열의 다음 제스처를 실행)
     private boolean isGestureInProgress = false;
+    private final GestureQueue gestureQueue = new GestureQueue(GestureQueue.DEFAULT_CAPACITY);
+
+    // 이어 그리는 스크롤 스트로크, 손을 뗄 때 속도 (dp/s)
+    private StreamingScroller streamingScroller;
+    private static volatile float scrollFlingVelocityDp = 600f;
+
+    // 비례 엣지 스크롤 끌기
+    private EdgeDragScroller edgeDragScroller;
+    private final Runnable edgeDragStarter = this::startEdgeDrag;
+    private volatile boolean edgeDragStartPosted = false;
 
     // 제스처 완료 핸들러
     private Handler gestureHandler = new Handler(Looper.getMainLooper());
@@ -33,23 +46,118 @@ public class MyAccessibilityService extends AccessibilityService {
         @Override
         public void run() {
             isGestureInProgress = false;
+            dispatchNextGesture();
         }
     };
 
+    // 창/노드 트리 캐시: 전용 스레드에서 이벤트로 갱신하고 클릭 대상 색인을 게시함
+    private NodeTreeCache nodeTreeCache;
+
+    // 클릭/스크롤 경로별(노드 동작/제스처) 지연 시간
+    private final ActionLatencyTracer actionLatency = new ActionLatencyTracer();
+
     public static MyAccessibilityService getInstance() {
         return instance;
     }
 
+    /**
+     * 현재 활성 창들의 클릭 가능한 대상 색인 (어느 스레드에서든 호출 가능)
+     */
+    public static ClickTargetIndex getClickTargets() {
+        MyAccessibilityService service = instance;
+        return service != null && service.nodeTreeCache != null
+                ? service.nodeTreeCache.getClickTargets() : ClickTargetIndex.EMPTY;
+    }
+
+    /**
+     * 경로별 클릭/스크롤 지연 시간과 제스처 대기열 상태 출력 (진단용)
+     */
+    public static void dumpActionLatency(PrintWriter writer) {
+        MyAccessibilityService service = instance;
+        if (service != null) {
+            service.actionLatency.dump(writer);
+            GestureQueue queue = service.gestureQueue;
+            writer.println("Gesture queue: depth=" + queue.size() + " maxDepth=" + queue.getMaxDepth()
+                    + " merged=" + queue.getMergedCount() + " dropped=" + queue.getDroppedCount());
+        } else {
+            writer.println("accessibility service not connected");
+        }
+    }
+
+    /**
+     * 제스처 스크롤을 끝낼 때의 관성 속도 (dp/s, 0이면 관성 없이 멈춤)
+     */
+    public static void setScrollFlingVelocity(float dpPerSecond) {
+        scrollFlingVelocityDp = Math.max(0f, dpPerSecond);
+    }
+
+    /**
+     * 비례 엣지 스크롤 속도 갱신 (파이프라인 스레드에서 매 샘플 호출)
+     * @param rate 초당 화면 높이, 양수는 손가락을 위로 (아래 내용이 보임), 0이면 멈춤
+     */
+    public static void setEdgeScrollRate(float rate) {
+        MyAccessibilityService service = instance;
+        if (service == null || service.edgeDragScroller == null) return;
+        service.edgeDragScroller.setRate(rate);
+        if (rate != 0f && !service.edgeDragScroller.isRunning() && !service.edgeDragStartPosted) {
+            service.edgeDragStartPosted = true;
+            service.gestureHandler.post(service.edgeDragStarter);
+        }
+    }
+
+    public static void resetActionLatency() {
+        MyAccessibilityService service = instance;
+        if (service != null) {
+            service.actionLatency.reset();
+            service.gestureHandler.post(service.gestureQueue::resetStats);
+        }
+    }
+
     @Override
     protected void onServiceConnected() {
         super.onServiceConnected();
+        streamingScroller = new StreamingScroller(this);
+        edgeDragScroller = new EdgeDragScroller(this);
         instance = this;
+        nodeTreeCache = new NodeTreeCache(this, actionLatency);
+        nodeTreeCache.start();
         Log.d(TAG, "접근성 서비스가 연결되었습니다.");
     }
 
     @Override
     public void onAccessibilityEvent(AccessibilityEvent event) {
-        // 필요한 경우 특정 이벤트 처리
+        if (nodeTreeCache == null) return;
+        switch (event.getEventType()) {
+            case AccessibilityEvent.TYPE_WINDOWS_CHANGED:
+                nodeTreeCache.onWindowsChanged();
+                break;
+            case AccessibilityEvent.TYPE_WINDOW_STATE_CHANGED:
+                nodeTreeCache.onWindowStateChanged(event.getWindowId());
+                break;
+            case AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED:
+            case AccessibilityEvent.TYPE_VIEW_SCROLLED:
+                AccessibilityNodeInfo source = event.getSource();
+                if (source != null) {
+                    nodeTreeCache.onSubtreeChanged(source);
+                } else {
+                    nodeTreeCache.onWindowsChanged();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onDestroy() {
+        if (nodeTreeCache != null) {
+            nodeTreeCache.stop();
+            nodeTreeCache = null;
+        }
+        if (instance == this) {
+            instance = null;
+        }
+        super.onDestroy();
     }
 
     @Override
@@ -57,43 +165,21 @@ public class MyAccessibilityService extends AccessibilityService {
         Log.d(TAG, "접근성 서비스 중단됨");
     }
 
+    /**
+     * 좌표 아래 노드에 클릭 동작을 먼저 시도하고, 알맞은 노드가 없으면 탭 제스처로 클릭한다.
+     */
     public static void performClickAt(float x, float y) {
-        if (instance != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (instance.isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 클릭 무시됨");
-                return;
-            }
-
-            instance.isGestureInProgress = true;
-
-            Path clickPath = new Path();
-            clickPath.moveTo(x, y);
-            GestureDescription.StrokeDescription clickStroke =
-                    new GestureDescription.StrokeDescription(clickPath, 0, 50);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(clickStroke);
-
-            Log.d(TAG, "클릭 실행 (접근성 서비스): x=" + x + ", y=" + y);
-
-            // 화면 크기 정보도 로그에 출력
-            DisplayMetrics dm = instance.getResources().getDisplayMetrics();
-            Log.d(TAG, "화면 크기: " + dm.widthPixels + "x" + dm.heightPixels);
-
-            instance.dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "클릭 제스처 완료됨");
-                    instance.gestureHandler.postDelayed(instance.gestureCompletionRunnable, 100);
-                }
-
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "클릭 제스처 취소됨");
-                    instance.gestureHandler.postDelayed(instance.gestureCompletionRunnable, 50);
-                }
-            }, null);
+        MyAccessibilityService service = instance;
+        if (service == null) {
+            Log.e(TAG, "접근성 서비스가 초기화되지 않음");
+            return;
+        }
+        long requestedNanos = System.nanoTime();
+        if (service.nodeTreeCache != null) {
+            service.nodeTreeCache.performClick(x, y, requestedNanos,
+                    () -> service.gestureHandler.post(() -> service.enqueueClick(x, y, requestedNanos)));
         } else {
-            Log.e(TAG, "접근성 서비스가 초기화되지 않았거나 API 레벨이 낮음");
+            service.enqueueClick(x, y, requestedNanos);
         }
     }
 
@@ -110,114 +196,176 @@ public class MyAccessibilityService extends AccessibilityService {
     }
 
     public void performScroll(Direction direction, ScrollAmount amount) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 스크롤 무시됨");
-                return;
-            }
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        performScroll(direction, amount, dm.widthPixels / 2f, dm.heightPixels / 2f);
+    }
 
-            isGestureInProgress = true;
-
-            int screenHeight = getResources().getDisplayMetrics().heightPixels;
-            int screenWidth = getResources().getDisplayMetrics().widthPixels;
-            float startX = screenWidth / 2f;
-            float startY, endY;
-            float scrollAmount;
-
-            // 스크롤 거리 설정
-            switch (amount) {
-                case SMALL:
-                    scrollAmount = SCROLL_AMOUNT_SMALL;
-                    break;
-                case LARGE:
-                    scrollAmount = SCROLL_AMOUNT_LARGE;
-                    break;
-                case MEDIUM:
-                default:
-                    scrollAmount = SCROLL_AMOUNT_MEDIUM;
-                    break;
-            }
+    /**
+     * 좌표 아래 가장 가까운 스크롤 가능한 노드에 스크롤 동작을 먼저 시도하고,
+     * 알맞은 노드가 없으면 화면 중앙에서 스와이프 제스처로 스크롤한다.
+     * 노드 동작의 이동 거리는 앱이 정한다 (보통 한 화면).
+     */
+    public void performScroll(Direction direction, ScrollAmount amount, float x, float y) {
+        long requestedNanos = System.nanoTime();
+        if (nodeTreeCache != null) {
+            // UP은 손가락을 위로 올리는 스와이프와 같으므로 아래 내용이 보이는 forward
+            nodeTreeCache.performScroll(direction == Direction.UP, 1, x, y, requestedNanos,
+                    () -> gestureHandler.post(() -> enqueueScroll(direction, scrollAmountOf(amount), requestedNanos)));
+        } else {
+            enqueueScroll(direction, scrollAmountOf(amount), requestedNanos);
+        }
+    }
 
-            if (direction == Direction.UP) {
-                // 위로 스크롤 (화면은 아래로 이동)
-                startY = screenHeight * 0.6f;
-                endY = screenHeight * (0.6f - scrollAmount);
-            } else {
-                // 아래로 스크롤 (화면은 위로 이동)
-                startY = screenHeight * 0.4f;
-                endY = screenHeight * (0.4f + scrollAmount);
-            }
+    /**
+     * 화면 중앙의 스크롤 대상을 연속 스크롤
+     */
+    public void performContinuousScroll(Direction direction, int count) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        performContinuousScroll(direction, count, dm.widthPixels / 2f, dm.heightPixels / 2f);
+    }
 
-            Path path = new Path();
-            path.moveTo(startX, startY);
-            path.lineTo(startX, endY);
+    /**
+     * 연속 스크롤을 수행하는 메서드.
+     * 노드 동작은 count번 연달아 보내고, 제스처는 count만큼의 길이를 한 스트로크 최대 길이
+     * (GestureQueue.MAX_SCROLL_AMOUNT) 단위로 나눈 연이은 스트로크로 실행한다.
+     * @param direction 스크롤 방향
+     * @param count 연속 스크롤 횟수
+     * @param x 스크롤할 대상을 찾을 화면 좌표
+     * @param y 스크롤할 대상을 찾을 화면 좌표
+     */
+    public void performContinuousScroll(Direction direction, int count, float x, float y) {
+        if (count <= 0) return;
 
-            // 스크롤 기간 설정 - 스크롤 거리에 따라 조정
-            long duration = 200 + (long)(scrollAmount * 300); // 200~300ms
+        long requestedNanos = System.nanoTime();
+        float totalAmount = SCROLL_AMOUNT_MEDIUM * count;
+        if (nodeTreeCache != null) {
+            nodeTreeCache.performScroll(direction == Direction.UP, count, x, y, requestedNanos,
+                    () -> gestureHandler.post(() -> enqueueScroll(direction, totalAmount, requestedNanos)));
+        } else {
+            enqueueScroll(direction, totalAmount, requestedNanos);
+        }
+    }
 
-            GestureDescription.StrokeDescription stroke =
-                    new GestureDescription.StrokeDescription(path, 0, duration);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(stroke);
+    // ===== 제스처 대기열 (메인 스레드) =====
 
-            Log.d(TAG, direction + " 스크롤 수행 중... 거리: " + (scrollAmount * 100) + "% 화면");
+    // 진행 중인 제스처가 있으면 시작하지 않음 (다음 속도 갱신 때 다시 시도)
+    private void startEdgeDrag() {
+        edgeDragStartPosted = false;
+        if (isGestureInProgress || edgeDragScroller.isRunning()) {
+            return;
+        }
+        isGestureInProgress = true;
+        edgeDragScroller.start(() -> gestureHandler.postDelayed(gestureCompletionRunnable, 100));
+        if (!edgeDragScroller.isRunning()) {
+            // 그 사이 속도가 0이 됨
+            isGestureInProgress = false;
+        }
+    }
 
-            dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스크롤 제스처 완료됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 300);
-                }
+    private void enqueueClick(float x, float y, long requestedNanos) {
+        gestureQueue.offerClick(x, y, requestedNanos);
+        dispatchNextGesture();
+    }
 
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스크롤 제스처 취소됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 150);
-                }
-            }, null);
-        } else {
-            Log.e(TAG, "API 레벨이 낮아 제스처를 지원하지 않음");
+    // 스크롤 거리 설정 (화면 높이 비율)
+    private static float scrollAmountOf(ScrollAmount amount) {
+        switch (amount) {
+            case SMALL:
+                return SCROLL_AMOUNT_SMALL;
+            case LARGE:
+                return SCROLL_AMOUNT_LARGE;
+            case MEDIUM:
+            default:
+                return SCROLL_AMOUNT_MEDIUM;
         }
     }
 
-    /**
-     * 연속 스크롤을 수행하는 메서드
-     * @param direction 스크롤 방향
-     * @param count 연속 스크롤 횟수
-     */
-    public void performContinuousScroll(Direction direction, int count) {
-        if (count <= 0) return;
+    private void enqueueScroll(Direction direction, float scrollAmount, long requestedNanos) {
+        gestureQueue.offerScroll(direction == Direction.UP ? GestureQueue.Type.SCROLL_UP : GestureQueue.Type.SCROLL_DOWN,
+                scrollAmount, requestedNanos);
+        dispatchNextGesture();
+    }
 
+    // 진행 중인 제스처가 없으면 대기열의 다음 제스처를 실행
+    private void dispatchNextGesture() {
         if (isGestureInProgress) {
-            // 이미 제스처가 진행 중이면 잠시 후 다시 시도
-            gestureHandler.postDelayed(() -> performContinuousScroll(direction, count), 500);
+            return;
+        }
+        GestureQueue.Request request = gestureQueue.poll();
+        if (request == null) {
             return;
         }
 
-        // 첫 스크롤 실행
-        performScroll(direction, ScrollAmount.MEDIUM);
+        isGestureInProgress = true;
+        long dispatchNanos = System.nanoTime();
+        actionLatency.record(ActionLatencyTracer.Path.QUEUE_WAIT, request.getRequestedNanos(), dispatchNanos);
 
-        // 남은 스크롤 예약 (각 스크롤 간 500ms 간격)
-        if (count > 1) {
-            gestureHandler.postDelayed(() -> performContinuousScroll(direction, count - 1), 500);
+        if (request.getType() == GestureQueue.Type.CLICK) {
+            dispatchClickGesture(request, dispatchNanos);
+        } else {
+            dispatchScrollGesture(request, dispatchNanos);
         }
     }
 
-    // Optional: fallback for clicking views if needed later
-    @Nullable
-    private AccessibilityNodeInfo findClickableNode() {
-        AccessibilityNodeInfo root = getRootInActiveWindow();
-        if (root == null) return null;
-        return findFirstClickableNode(root);
-    }
+    private void dispatchClickGesture(GestureQueue.Request request, long dispatchNanos) {
+        float x = request.getX();
+        float y = request.getY();
+
+        Path clickPath = new Path();
+        clickPath.moveTo(x, y);
+        GestureDescription.StrokeDescription clickStroke =
+                new GestureDescription.StrokeDescription(clickPath, 0, 50);
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        gestureBuilder.addStroke(clickStroke);
+
+        Log.d(TAG, "클릭 실행 (접근성 서비스): x=" + x + ", y=" + y + " (대기 " + gestureQueue.size() + ")");
+
+        boolean dispatched = dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
+            @Override
+            public void onCompleted(GestureDescription gestureDescription) {
+                Log.d(TAG, "클릭 제스처 완료됨");
+                long now = System.nanoTime();
+                actionLatency.record(ActionLatencyTracer.Path.GESTURE_DISPATCH, dispatchNanos, now);
+                actionLatency.record(ActionLatencyTracer.Path.GESTURE_CLICK, request.getRequestedNanos(), now);
+                gestureHandler.postDelayed(gestureCompletionRunnable, 100);
+            }
 
-    @Nullable
-    private AccessibilityNodeInfo findFirstClickableNode(AccessibilityNodeInfo node) {
-        if (node.isClickable()) return node;
-        for (int i = 0; i < node.getChildCount(); i++) {
-            AccessibilityNodeInfo result = findFirstClickableNode(node.getChild(i));
-            if (result != null) return result;
+            @Override
+            public void onCancelled(GestureDescription gestureDescription) {
+                Log.d(TAG, "클릭 제스처 취소됨");
+                gestureHandler.postDelayed(gestureCompletionRunnable, 50);
+            }
+        }, null);
+        if (!dispatched) {
+            // 콜백이 오지 않으므로 바로 다음 제스처로 (대기열이 멈추지 않게)
+            Log.e(TAG, "제스처 실행 실패");
+            gestureHandler.post(gestureCompletionRunnable);
         }
-        return null;
     }
-}
\ No newline at end of file
+
+    // 손가락을 떼지 않고 구간을 이어 그린 뒤 설정된 관성 속도로 놓는다
+    // 같은 방향 스트로크가 바로 뒤에 이어지면 관성 없이 멈춰, 나뉜 긴 스크롤이 정확히 요청한 거리만큼 움직이게 한다
+    private void dispatchScrollGesture(GestureQueue.Request request, long dispatchNanos) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        boolean up = request.getType() == GestureQueue.Type.SCROLL_UP;
+        GestureQueue.Request next = gestureQueue.peek();
+        boolean continued = next != null && next.getType() == request.getType();
+        ScrollStrokePlan plan = ScrollStrokePlan.create(dm.heightPixels, request.getAmount(), up,
+                continued ? 0f : scrollFlingVelocityDp * dm.density);
+
+        Log.d(TAG, request.getType() + " 스크롤 스트로크: 거리 " + (request.getAmount() * 100) + "% 화면, 구간 "
+                + plan.getSegmentCount() + "개, 관성 " + scrollFlingVelocityDp + "dp/s");
+
+        streamingScroller.start(plan, dm.widthPixels / 2f, completed -> {
+            if (completed) {
+                Log.d(TAG, "스크롤 스트로크 완료됨");
+                long now = System.nanoTime();
+                actionLatency.record(ActionLatencyTracer.Path.GESTURE_DISPATCH, dispatchNanos, now);
+                actionLatency.record(ActionLatencyTracer.Path.GESTURE_SCROLL, request.getRequestedNanos(), now);
+                gestureHandler.postDelayed(gestureCompletionRunnable, 300);
+            } else {
+                gestureHandler.postDelayed(gestureCompletionRunnable, 150);
+            }
+        });
+    }
+}
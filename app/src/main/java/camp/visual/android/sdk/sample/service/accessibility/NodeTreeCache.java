@@ -0,0 +1,600 @@
+package camp.visual.android.sdk.sample.service.accessibility;
+
+import android.accessibilityservice.AccessibilityService;
+import android.graphics.Rect;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.DisplayMetrics;
+import android.util.Log;
+import android.util.SparseArray;
+import android.view.accessibility.AccessibilityNodeInfo;
+import android.view.accessibility.AccessibilityWindowInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+import camp.visual.android.sdk.sample.domain.metrics.ActionLatencyTracer;
+
+/**
+ * 접근성 창/노드 트리 캐시. 전용 백그라운드 스레드에서 관리한다.
+ * - 노드는 (창 id, 노드 id)로 식별된다 (AccessibilityNodeInfo의 equals/hashCode가 이 둘을 비교)
+ * - 창 구성 변경은 창 단위로, 내용 변경/스크롤은 바뀐 하위 트리만 다시 훑는다
+ * - 한 번에 REFRESH_BUDGET_MS까지만 훑고 나머지는 다음 메시지로 넘겨 이벤트 처리가 밀리지 않게 한다
+ * - 캐시가 가진 AccessibilityNodeInfo는 캐시가 소유하며, 트리에서 빠지는 즉시 recycle한다
+ * 클릭 대상 색인은 창별로 바뀐 영역(새로 생기거나 빠지거나 옮겨진 노드 영역의 합)만 Builder에서 지우고 다시 채우며,
+ * 대기 중인 훑기가 모두 끝났을 때 한 번만 build()해서 게시한다.
+ * 클릭/스크롤 요청은 좌표 아래 노드를 찾아 노드 동작으로 먼저 실행하고,
+ * 알맞은 노드가 없거나 동작이 실패하면 fallback(제스처)을 부른다.
+ * 클릭 노드는 게시된 클릭 대상 색인에서 좌표가 걸친 격자 칸만 보고 태그(노드 핸들)로 찾으며,
+ * 스크롤 노드는 따로 모아 둔 스크롤 가능한 노드 목록에서만 찾는다 (전체 노드를 훑지 않음).
+ * 색인은 대기 중인 훑기가 끝날 때 게시되므로, 그 사이 새로 생긴 노드는 찾지 못하고 제스처로 처리된다.
+ */
+final class NodeTreeCache {
+    private static final String TAG = "NodeTreeCache";
+
+    // 한 번의 갱신에서 트리를 훑는 최대 시간
+    static final long REFRESH_BUDGET_MS = 8;
+    // 화면 면적 대비 이보다 큰 클릭 대상(전체 화면 컨테이너 등)은 색인하지 않음
+    private static final float MAX_TARGET_AREA_RATIO = 0.25f;
+    // 캐시에 없는 이벤트 노드에서 캐시된 조상을 찾을 때 올라가는 최대 단계
+    private static final int MAX_ANCESTOR_LOOKUP = 32;
+    // 한 점을 포함하는 클릭 대상 후보 최대 수 (중첩된 행/버튼 정도)
+    private static final int MAX_HITS = 16;
+
+    /**
+     * 캐시된 노드 하나. 캐시 스레드에서만 읽고 쓴다.
+     */
+    static final class CachedNode {
+        final AccessibilityNodeInfo info;
+        final int windowId;
+        // 클릭 대상 색인의 태그로 쓰는 캐시 안 고유 번호
+        final int handle;
+        final Rect bounds = new Rect();
+        final ArrayList<CachedNode> children = new ArrayList<>();
+        CachedNode parent;
+        boolean clickable;
+        boolean scrollable;
+        boolean enabled;
+        boolean visible;
+        // 창의 z 순서 (루트 노드에만 의미 있음)
+        int layer;
+
+        CachedNode(AccessibilityNodeInfo info, CachedNode parent, int handle) {
+            this.info = info;
+            this.parent = parent;
+            this.handle = handle;
+            this.windowId = info.getWindowId();
+            readState();
+        }
+
+        void readState() {
+            info.getBoundsInScreen(bounds);
+            clickable = info.isClickable();
+            scrollable = info.isScrollable();
+            enabled = info.isEnabled();
+            visible = info.isVisibleToUser();
+        }
+    }
+
+    private final AccessibilityService service;
+    private final ActionLatencyTracer actionLatency;
+    private final HandlerThread thread = new HandlerThread("NodeTreeCache");
+    private Handler handler;
+
+    // 캐시 스레드 전용 상태
+    private final HashMap<AccessibilityNodeInfo, CachedNode> nodes = new HashMap<>();
+    private final SparseArray<CachedNode> handles = new SparseArray<>();
+    private final ArrayList<CachedNode> scrollables = new ArrayList<>();
+    private final int[] hits = new int[MAX_HITS];
+    private int nextHandle = 0;
+    private final SparseArray<CachedNode> windowRoots = new SparseArray<>();
+    private final ArrayDeque<CachedNode> pending = new ArrayDeque<>();
+    private final ClickTargetIndex.Builder targetBuilder = new ClickTargetIndex.Builder();
+    // 창별로 색인을 다시 맞춰야 하는 화면 영역 (비어 있으면 바뀐 것 없음)
+    private final SparseArray<Rect> dirtyAreas = new SparseArray<>();
+    private final ArrayDeque<CachedNode> reindexStack = new ArrayDeque<>();
+    private final Rect clipped = new Rect();
+    private boolean walkScheduled = false;
+
+    private volatile ClickTargetIndex clickTargets = ClickTargetIndex.EMPTY;
+
+    private final Runnable walkRunnable = this::walk;
+
+    NodeTreeCache(AccessibilityService service, ActionLatencyTracer actionLatency) {
+        this.service = service;
+        this.actionLatency = actionLatency;
+    }
+
+    void start() {
+        thread.start();
+        handler = new Handler(thread.getLooper());
+        handler.post(this::syncWindows);
+    }
+
+    void stop() {
+        if (handler == null) return;
+        handler.post(() -> {
+            for (int i = 0; i < windowRoots.size(); i++) {
+                removeSubtree(windowRoots.valueAt(i));
+            }
+            windowRoots.clear();
+            pending.clear();
+            dirtyAreas.clear();
+            targetBuilder.clear();
+            clickTargets = ClickTargetIndex.EMPTY;
+        });
+        thread.quitSafely();
+    }
+
+    /**
+     * 최신 클릭 대상 색인 (어느 스레드에서든 호출 가능)
+     */
+    ClickTargetIndex getClickTargets() {
+        return clickTargets;
+    }
+
+    /**
+     * 창이 생기거나 사라졌을 때 (TYPE_WINDOWS_CHANGED)
+     */
+    void onWindowsChanged() {
+        if (handler != null) handler.post(this::syncWindows);
+    }
+
+    /**
+     * 창 내용 전체가 바뀌었을 때 (TYPE_WINDOW_STATE_CHANGED)
+     */
+    void onWindowStateChanged(int windowId) {
+        if (handler == null) return;
+        handler.post(() -> {
+            CachedNode root = windowRoots.get(windowId);
+            if (root != null) {
+                removeSubtree(root);
+                windowRoots.remove(windowId);
+            }
+            syncWindows();
+        });
+    }
+
+    /**
+     * 하위 트리 내용이 바뀌었을 때 (TYPE_WINDOW_CONTENT_CHANGED, TYPE_VIEW_SCROLLED).
+     * source의 소유권은 캐시로 넘어온다.
+     */
+    void onSubtreeChanged(AccessibilityNodeInfo source) {
+        if (handler == null) {
+            recycle(source);
+            return;
+        }
+        handler.post(() -> patchSubtree(source));
+    }
+
+    /**
+     * 좌표 아래 클릭 가능한 노드에 ACTION_CLICK을 보낸다.
+     * @param fallback 노드 동작을 쓸 수 없을 때 캐시 스레드에서 호출됨
+     */
+    void performClick(float x, float y, long requestedNanos, Runnable fallback) {
+        if (handler == null) {
+            fallback.run();
+            return;
+        }
+        handler.post(() -> {
+            CachedNode node = findAt(x, y, false);
+            if (node != null && isActionable(node, x, y, false)
+                    && node.info.performAction(AccessibilityNodeInfo.ACTION_CLICK)) {
+                actionLatency.record(ActionLatencyTracer.Path.NODE_CLICK, requestedNanos, System.nanoTime());
+                Log.d(TAG, "노드 클릭: " + node.bounds.toShortString());
+                return;
+            }
+            fallback.run();
+        });
+    }
+
+    /**
+     * 좌표 아래(없으면 화면 중앙) 가장 가까운 스크롤 가능한 노드에 ACTION_SCROLL_FORWARD/BACKWARD를
+     * count번 연달아 보낸다 (끝에 닿아 실패하면 그만둠).
+     * @param fallback 첫 동작부터 쓸 수 없을 때 캐시 스레드에서 호출됨
+     */
+    void performScroll(boolean forward, int count, float x, float y, long requestedNanos, Runnable fallback) {
+        if (handler == null) {
+            fallback.run();
+            return;
+        }
+        handler.post(() -> {
+            DisplayMetrics dm = service.getResources().getDisplayMetrics();
+            float centerX = dm.widthPixels / 2f;
+            float centerY = dm.heightPixels / 2f;
+            CachedNode node = findAt(x, y, true);
+            if (node == null || !isActionable(node, x, y, true)) {
+                // 가장자리의 툴바 등을 보고 있으면 제스처가 지나갈 화면 중앙의 목록을 대상으로
+                node = findAt(centerX, centerY, true);
+                if (node != null && !isActionable(node, centerX, centerY, true)) {
+                    node = null;
+                }
+            }
+            int action = forward
+                    ? AccessibilityNodeInfo.ACTION_SCROLL_FORWARD
+                    : AccessibilityNodeInfo.ACTION_SCROLL_BACKWARD;
+            if (node != null && node.info.performAction(action)) {
+                actionLatency.record(ActionLatencyTracer.Path.NODE_SCROLL, requestedNanos, System.nanoTime());
+                int done = 1;
+                while (done < count && node.info.performAction(action)) {
+                    done++;
+                }
+                Log.d(TAG, "노드 스크롤 (" + (forward ? "forward" : "backward") + " " + done + "회): "
+                        + node.bounds.toShortString());
+                return;
+            }
+            fallback.run();
+        });
+    }
+
+    // 좌표를 포함하는 대상 중 가장 위 창의 가장 작은 노드.
+    // 그 위에 좌표를 덮는 다른 창이 있으면 (색인에서 빠진 큰 컨테이너 등) 가려진 노드이므로 null
+    private CachedNode findAt(float x, float y, boolean scrollable) {
+        CachedNode best = findCandidate(x, y, scrollable);
+        if (best == null) {
+            return null;
+        }
+        int layer = layerOf(best);
+        for (int i = 0; i < windowRoots.size(); i++) {
+            CachedNode root = windowRoots.valueAt(i);
+            if (root.layer > layer && root.bounds.contains((int) x, (int) y)) {
+                return null;
+            }
+        }
+        return best;
+    }
+
+    private CachedNode findCandidate(float x, float y, boolean scrollable) {
+        CachedNode best = null;
+        int bestLayer = Integer.MIN_VALUE;
+        long bestArea = Long.MAX_VALUE;
+        if (scrollable) {
+            for (int i = 0; i < scrollables.size(); i++) {
+                CachedNode node = scrollables.get(i);
+                if (isBetter(node, x, y, bestLayer, bestArea)) {
+                    best = node;
+                    bestLayer = layerOf(node);
+                    bestArea = areaOf(node);
+                }
+            }
+            return best;
+        }
+        ClickTargetIndex index = clickTargets;
+        int count = index.containing(x, y, hits);
+        for (int i = 0; i < count; i++) {
+            CachedNode node = handles.get(index.getTag(hits[i]));
+            if (node != null && node.clickable && isBetter(node, x, y, bestLayer, bestArea)) {
+                best = node;
+                bestLayer = layerOf(node);
+                bestArea = areaOf(node);
+            }
+        }
+        return best;
+    }
+
+    private boolean isBetter(CachedNode node, float x, float y, int bestLayer, long bestArea) {
+        if (!node.visible || !node.enabled || !node.bounds.contains((int) x, (int) y)) {
+            return false;
+        }
+        int layer = layerOf(node);
+        return layer > bestLayer || (layer == bestLayer && areaOf(node) < bestArea);
+    }
+
+    private int layerOf(CachedNode node) {
+        CachedNode root = windowRoots.get(node.windowId);
+        return root != null ? root.layer : 0;
+    }
+
+    private static long areaOf(CachedNode node) {
+        return (long) node.bounds.width() * node.bounds.height();
+    }
+
+    // 캐시가 오래됐을 수 있으므로 실행 직전에 노드를 새로 읽어 확인
+    private boolean isActionable(CachedNode node, float x, float y, boolean scrollable) {
+        if (!node.info.refresh()) {
+            detach(node);
+            scheduleWalk(); // 빠진 영역의 클릭 대상을 정리해 게시
+            return false;
+        }
+        refreshState(node);
+        if (!node.visible || !node.enabled || !node.bounds.contains((int) x, (int) y)) {
+            return false;
+        }
+        if (scrollable) {
+            return node.scrollable;
+        }
+        // 화면 대부분을 덮는 컨테이너는 누른 위치가 의미 있으므로 제스처로
+        DisplayMetrics dm = service.getResources().getDisplayMetrics();
+        float maxArea = dm.widthPixels * (float) dm.heightPixels * MAX_TARGET_AREA_RATIO;
+        return node.clickable && (float) node.bounds.width() * node.bounds.height() <= maxArea;
+    }
+
+    private void patchSubtree(AccessibilityNodeInfo source) {
+        CachedNode cached = nodes.get(source);
+        if (cached == null) {
+            if (windowRoots.get(source.getWindowId()) == null) {
+                // 모르는 창 - 창 목록부터 다시 맞춘다 (새 창이면 루트부터 훑게 됨)
+                recycle(source);
+                syncWindows();
+                return;
+            }
+            // 아는 창에 새로 끼워진 노드 - 캐시된 가장 가까운 조상부터 다시 훑는다
+            cached = findCachedAncestor(source);
+            if (cached == null) {
+                rescanWindow(source.getWindowId());
+                return;
+            }
+        } else {
+            recycle(source);
+        }
+        // 노드 정보를 최신으로 갱신하고 자식만 다시 훑는다
+        if (!cached.info.refresh()) {
+            detach(cached);
+            scheduleWalk();
+            return;
+        }
+        refreshState(cached);
+        clearChildren(cached);
+        pending.add(cached);
+        scheduleWalk();
+    }
+
+    /**
+     * source에서 부모 쪽으로 올라가며 캐시에 있는 첫 노드를 찾는다. source와 거쳐 간 노드는 recycle한다.
+     * @return 없으면 null
+     */
+    private CachedNode findCachedAncestor(AccessibilityNodeInfo source) {
+        AccessibilityNodeInfo current = source;
+        for (int depth = 0; current != null && depth < MAX_ANCESTOR_LOOKUP; depth++) {
+            AccessibilityNodeInfo parent = current.getParent();
+            recycle(current);
+            current = parent;
+            if (current != null) {
+                CachedNode cached = nodes.get(current);
+                if (cached != null) {
+                    recycle(current);
+                    return cached;
+                }
+            }
+        }
+        if (current != null) {
+            recycle(current);
+        }
+        return null;
+    }
+
+    // 창 하나를 루트부터 다시 훑는다
+    private void rescanWindow(int windowId) {
+        CachedNode root = windowRoots.get(windowId);
+        if (root != null) {
+            removeSubtree(root);
+            windowRoots.remove(windowId);
+        }
+        syncWindows();
+    }
+
+    // 노드 상태를 다시 읽고, 위치가 바뀌었으면 이전/새 영역을 색인 갱신 대상으로 표시
+    private void refreshState(CachedNode node) {
+        int left = node.bounds.left, top = node.bounds.top, right = node.bounds.right, bottom = node.bounds.bottom;
+        boolean wasTarget = isTarget(node);
+        boolean wasScrollable = node.scrollable;
+        node.readState();
+        if (wasScrollable != node.scrollable) {
+            if (node.scrollable) {
+                scrollables.add(node);
+            } else {
+                scrollables.remove(node);
+            }
+        }
+        Rect bounds = node.bounds;
+        boolean moved = bounds.left != left || bounds.top != top || bounds.right != right || bounds.bottom != bottom;
+        if (moved || wasTarget != isTarget(node)) {
+            Rect dirty = dirtyArea(node.windowId);
+            dirty.union(left, top, right, bottom);
+            dirty.union(bounds);
+        }
+    }
+
+    private void syncWindows() {
+        List<AccessibilityWindowInfo> windows = service.getWindows();
+        SparseArray<Boolean> alive = new SparseArray<>();
+        if (windows != null) {
+            for (AccessibilityWindowInfo window : windows) {
+                int id = window.getId();
+                alive.put(id, Boolean.TRUE);
+                CachedNode existing = windowRoots.get(id);
+                if (existing != null) {
+                    existing.layer = window.getLayer();
+                } else {
+                    AccessibilityNodeInfo root = window.getRoot();
+                    if (root != null) {
+                        CachedNode node = new CachedNode(root, null, nextHandle++);
+                        node.layer = window.getLayer();
+                        track(node);
+                        dirtyArea(id).union(node.bounds);
+                        windowRoots.put(id, node);
+                        pending.add(node);
+                    }
+                }
+                recycle(window);
+            }
+        }
+        for (int i = windowRoots.size() - 1; i >= 0; i--) {
+            if (alive.get(windowRoots.keyAt(i)) == null) {
+                removeSubtree(windowRoots.valueAt(i));
+                windowRoots.removeAt(i);
+            }
+        }
+        scheduleWalk();
+    }
+
+    private void scheduleWalk() {
+        if (!walkScheduled) {
+            walkScheduled = true;
+            handler.post(walkRunnable);
+        }
+    }
+
+    // 대기 중인 노드의 자식을 시간 예산 안에서 훑는다
+    private void walk() {
+        walkScheduled = false;
+        long deadline = SystemClock.uptimeMillis() + REFRESH_BUDGET_MS;
+        while (!pending.isEmpty() && SystemClock.uptimeMillis() < deadline) {
+            CachedNode node = pending.poll();
+            if (nodes.get(node.info) != node) {
+                continue; // 그 사이 트리에서 빠진 노드
+            }
+            int childCount = node.info.getChildCount();
+            for (int i = 0; i < childCount; i++) {
+                AccessibilityNodeInfo child = node.info.getChild(i);
+                if (child == null) continue;
+                CachedNode previous = nodes.get(child);
+                if (previous != null) {
+                    // 다른 부모 아래에서 옮겨 온 노드 - 이전 위치를 정리
+                    detach(previous);
+                    if (nodes.get(node.info) != node) {
+                        // 옮겨 온 노드가 조상이었다면 지금 노드도 함께 빠졌음
+                        recycle(child);
+                        break;
+                    }
+                }
+                CachedNode cachedChild = new CachedNode(child, node, nextHandle++);
+                node.children.add(cachedChild);
+                track(cachedChild);
+                dirtyArea(cachedChild.windowId).union(cachedChild.bounds);
+                pending.add(cachedChild);
+            }
+        }
+        if (!pending.isEmpty()) {
+            scheduleWalk();
+        } else {
+            publishTargets();
+        }
+    }
+
+    /**
+     * 바뀐 창/영역만 색인 Builder에 반영하고 새 색인을 게시한다 (대기 중인 훑기가 모두 끝났을 때)
+     */
+    private void publishTargets() {
+        DisplayMetrics dm = service.getResources().getDisplayMetrics();
+        float maxArea = dm.widthPixels * (float) dm.heightPixels * MAX_TARGET_AREA_RATIO;
+        boolean changed = false;
+
+        for (int i = dirtyAreas.size() - 1; i >= 0; i--) {
+            int windowId = dirtyAreas.keyAt(i);
+            Rect dirty = dirtyAreas.valueAt(i);
+            CachedNode root = windowRoots.get(windowId);
+            if (root == null) {
+                // 사라진 창
+                targetBuilder.removeWindow(windowId);
+                dirtyAreas.removeAt(i);
+                changed = true;
+                continue;
+            }
+            if (dirty.isEmpty()) {
+                continue;
+            }
+            // 영역 안에 완전히 들어가는 대상을 지우고, 영역 안의 현재 노드로 다시 채운다
+            // (겹쳐 있던 다른 하위 트리의 대상도 함께 지워지므로 트리 기준으로 다시 채움)
+            targetBuilder.removeWithin(windowId, dirty.left, dirty.top, dirty.right, dirty.bottom);
+            reindexStack.push(root);
+            while (!reindexStack.isEmpty()) {
+                CachedNode node = reindexStack.pop();
+                if (!Rect.intersects(node.bounds, dirty)) {
+                    continue;
+                }
+                if (isTarget(node) && clipTarget(node, dm) && dirty.contains(clipped)
+                        && (float) clipped.width() * clipped.height() <= maxArea) {
+                    targetBuilder.add(windowId, node.handle,
+                            clipped.left, clipped.top, clipped.right, clipped.bottom);
+                }
+                for (int c = 0; c < node.children.size(); c++) {
+                    reindexStack.push(node.children.get(c));
+                }
+            }
+            dirty.setEmpty();
+            changed = true;
+        }
+
+        if (changed) {
+            clickTargets = targetBuilder.build();
+            Log.d(TAG, "트리 갱신 완료: 노드 " + nodes.size() + "개, 클릭 대상 " + targetBuilder.size() + "개");
+        }
+    }
+
+    private static boolean isTarget(CachedNode node) {
+        return node.clickable && node.enabled && node.visible;
+    }
+
+    // 화면 밖 부분을 잘라낸 대상 영역을 clipped에 둔다
+    private boolean clipTarget(CachedNode node, DisplayMetrics dm) {
+        clipped.set(node.bounds);
+        return clipped.intersect(0, 0, dm.widthPixels, dm.heightPixels);
+    }
+
+    private Rect dirtyArea(int windowId) {
+        Rect dirty = dirtyAreas.get(windowId);
+        if (dirty == null) {
+            dirty = new Rect();
+            dirtyAreas.put(windowId, dirty);
+        }
+        return dirty;
+    }
+
+    private void track(CachedNode node) {
+        nodes.put(node.info, node);
+        handles.put(node.handle, node);
+        if (node.scrollable) {
+            scrollables.add(node);
+        }
+    }
+
+    private void detach(CachedNode node) {
+        if (node.parent != null) {
+            node.parent.children.remove(node);
+        } else if (windowRoots.get(node.windowId) == node) {
+            windowRoots.remove(node.windowId);
+        }
+        removeSubtree(node);
+    }
+
+    private void clearChildren(CachedNode node) {
+        for (int i = 0; i < node.children.size(); i++) {
+            removeSubtree(node.children.get(i));
+        }
+        node.children.clear();
+    }
+
+    // 하위 트리 전체를 캐시에서 빼고 노드를 recycle (빠진 영역은 색인 갱신 대상)
+    private void removeSubtree(CachedNode node) {
+        clearChildren(node);
+        if (nodes.get(node.info) == node) {
+            nodes.remove(node.info);
+            handles.remove(node.handle);
+            if (node.scrollable) {
+                scrollables.remove(node);
+            }
+            dirtyArea(node.windowId).union(node.bounds);
+        }
+        node.parent = null;
+        recycle(node.info);
+    }
+
+    private static void recycle(AccessibilityNodeInfo node) {
+        // API 33부터는 recycle이 필요 없음 (no-op)
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.TIRAMISU) {
+            node.recycle();
+        }
+    }
+
+    private static void recycle(AccessibilityWindowInfo window) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.TIRAMISU) {
+            window.recycle();
+        }
+    }
+}
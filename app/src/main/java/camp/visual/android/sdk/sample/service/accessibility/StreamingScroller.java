@@ -0,0 +1,100 @@
+package camp.visual.android.sdk.sample.service.accessibility;
+
+import android.accessibilityservice.AccessibilityService;
+import android.accessibilityservice.GestureDescription;
+import android.graphics.Path;
+import android.util.Log;
+
+import camp.visual.android.sdk.sample.domain.interaction.ScrollStrokePlan;
+
+/**
+ * 한 번 누른 손가락을 떼지 않고 ScrollStrokePlan의 구간을 차례로 이어 그리는 스크롤.
+ * 각 구간은 앞 구간의 continueStroke로 만들고, 앞 구간이 완료된 뒤에 보낸다.
+ * 메인 스레드에서만 사용한다 (제스처 콜백도 메인 스레드).
+ */
+final class StreamingScroller {
+    private static final String TAG = "StreamingScroller";
+
+    interface Listener {
+        /**
+         * @param completed 마지막 구간까지 끝났으면 true, 취소/실패면 false
+         */
+        void onFinished(boolean completed);
+    }
+
+    private final AccessibilityService service;
+
+    private ScrollStrokePlan plan;
+    private float x;
+    private int segment;
+    private GestureDescription.StrokeDescription currentStroke;
+    private Listener listener;
+
+    private final AccessibilityService.GestureResultCallback callback = new AccessibilityService.GestureResultCallback() {
+        @Override
+        public void onCompleted(GestureDescription gestureDescription) {
+            if (plan == null) return;
+            if (plan.isLastSegment(segment)) {
+                finish(true);
+            } else {
+                segment++;
+                dispatchSegment();
+            }
+        }
+
+        @Override
+        public void onCancelled(GestureDescription gestureDescription) {
+            Log.d(TAG, "스크롤 스트로크 취소됨 (구간 " + segment + ")");
+            finish(false);
+        }
+    };
+
+    StreamingScroller(AccessibilityService service) {
+        this.service = service;
+    }
+
+    boolean isRunning() {
+        return plan != null;
+    }
+
+    void start(ScrollStrokePlan plan, float x, Listener listener) {
+        this.plan = plan;
+        this.x = x;
+        this.listener = listener;
+        this.segment = 0;
+        this.currentStroke = null;
+        dispatchSegment();
+    }
+
+    private void dispatchSegment() {
+        float fromY = plan.getSegmentStartY(segment);
+        float toY = plan.getSegmentEndY(segment);
+        Path path = new Path();
+        path.moveTo(x, fromY);
+        if (toY != fromY) {
+            path.lineTo(x, toY);
+        }
+        boolean willContinue = !plan.isLastSegment(segment);
+        long duration = plan.getSegmentDuration(segment);
+
+        currentStroke = currentStroke == null
+                ? new GestureDescription.StrokeDescription(path, 0, duration, willContinue)
+                : currentStroke.continueStroke(path, 0, duration, willContinue);
+
+        GestureDescription gesture = new GestureDescription.Builder().addStroke(currentStroke).build();
+        if (!service.dispatchGesture(gesture, callback, null)) {
+            Log.e(TAG, "스크롤 스트로크 구간 실행 실패 (구간 " + segment + ")");
+            finish(false);
+        }
+    }
+
+    private void finish(boolean completed) {
+        Listener finished = listener;
+        plan = null;
+        listener = null;
+        currentStroke = null;
+        if (finished != null) {
+            finished.onFinished(completed);
+        }
+    }
+}
@@ -6,82 +6,165 @@ import android.app.NotificationManager;
 import android.app.Service;
 import android.content.Context;
 import android.content.Intent;
+import android.content.res.Configuration;
 import android.graphics.PixelFormat;
+import android.hardware.display.DisplayManager;
 import android.os.Build;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Looper;
-import android.os.Vibrator;
+import android.os.Process;
 import android.util.DisplayMetrics;
 import android.util.Log;
+import android.view.Display;
 import android.view.Gravity;
+import android.view.Surface;
 import android.view.View;
 import android.view.WindowManager;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.app.NotificationCompat;
 
 import camp.visual.android.sdk.sample.R;
 import camp.visual.android.sdk.sample.data.repository.EyeTrackingRepository;
 import camp.visual.android.sdk.sample.data.repository.EyedidTrackingRepository;
+import camp.visual.android.sdk.sample.data.settings.BinarySettingsRepository;
+import camp.visual.android.sdk.sample.data.settings.CalibrationRecord;
+import camp.visual.android.sdk.sample.data.settings.CalibrationStore;
 import camp.visual.android.sdk.sample.data.settings.SettingsRepository;
-import camp.visual.android.sdk.sample.data.settings.SharedPrefsSettingsRepository;
-import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
-import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.data.settings.SettingsSnapshot;
+import camp.visual.android.sdk.sample.data.settings.WriteBehindSettingsRepository;
+import camp.visual.android.sdk.sample.domain.filter.OneEuroAutoTuner;
+import camp.visual.android.sdk.sample.domain.interaction.EyeClosureDetector;
+import camp.visual.android.sdk.sample.domain.interaction.HapticScheduler;
+import camp.visual.android.sdk.sample.domain.interaction.SampleClock;
+import camp.visual.android.sdk.sample.domain.metrics.LatencyTracer;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+import camp.visual.android.sdk.sample.domain.model.SettingsDiff;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.android.sdk.sample.domain.pipeline.CursorFrameSink;
+import camp.visual.android.sdk.sample.domain.pipeline.CursorFrameSlot;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeActionSink;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeFilterStage;
+import camp.visual.android.sdk.sample.domain.pipeline.GazePipeline;
+import camp.visual.android.sdk.sample.domain.pipeline.GazePipelineFactory;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeSample;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeSampleRing;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeSourceStage;
+import camp.visual.android.sdk.sample.domain.pipeline.GazeStage;
+import camp.visual.android.sdk.sample.domain.pipeline.LatencyTraceSink;
+import camp.visual.android.sdk.sample.domain.pipeline.OffsetCollectionStage;
+import camp.visual.android.sdk.sample.domain.pipeline.OneEuroFilterStage;
+import camp.visual.android.sdk.sample.domain.pipeline.ScreenClampStage;
 import camp.visual.android.sdk.sample.service.accessibility.MyAccessibilityService;
 import camp.visual.android.sdk.sample.ui.main.MainActivity;
 import camp.visual.android.sdk.sample.ui.views.CalibrationViewer;
 import camp.visual.android.sdk.sample.ui.views.OverlayCursorView;
+import camp.visual.eyedid.gazetracker.GazeTracker;
 import camp.visual.eyedid.gazetracker.callback.CalibrationCallback;
 import camp.visual.eyedid.gazetracker.callback.TrackingCallback;
 import camp.visual.eyedid.gazetracker.constant.CalibrationModeType;
-import camp.visual.eyedid.gazetracker.filter.OneEuroFilterManager;
 import camp.visual.eyedid.gazetracker.metrics.BlinkInfo;
 import camp.visual.eyedid.gazetracker.metrics.FaceInfo;
 import camp.visual.eyedid.gazetracker.metrics.GazeInfo;
 import camp.visual.eyedid.gazetracker.metrics.UserStatusInfo;
-import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class GazeTrackingService extends Service {
 
     private static final String TAG = "GazeTrackingService";
     private static final String CHANNEL_ID = "GazeTrackingServiceChannel";
 
-    // 컴포넌트
+    // 컴포넌트 (파이프라인은 파이프라인 스레드 소유)
     private EyeTrackingRepository trackingRepository;
     private SettingsRepository settingsRepository;
-    private UserSettings userSettings;
-    private ClickDetector clickDetector;
-    private EdgeScrollDetector edgeScrollDetector;
+    // 최신 설정 스냅샷 (변경 시 파이프라인 스레드에서 필드 차이만 반영)
+    private SettingsSnapshot settingsSnapshot;
+    private volatile GazePipeline gazePipeline;
+    // 회전 방향별 캘리브레이션 결과 (시작 시 복원해 재캘리브레이션을 건너뜀)
+    private CalibrationStore calibrationStore;
 
     // 시스템 서비스 및 UI
     private WindowManager windowManager;
     private OverlayCursorView overlayCursorView;
     private CalibrationViewer calibrationViewer;
-    private Vibrator vibrator;
-    private OneEuroFilterManager oneEuroFilterManager;
+    private HapticScheduler hapticScheduler;
     private Handler handler = new Handler(Looper.getMainLooper());
 
+    // 시선 처리 전용 파이프라인 스레드
+    private HandlerThread pipelineThread;
+    private Handler pipelineHandler;
+    private final CursorFrameSlot cursorFrameSlot = new CursorFrameSlot();
+    private final GazePipelineFactory.StageCache stageCache = new GazePipelineFactory.StageCache();
+
+    // SDK 콜백 → 파이프라인 스레드 샘플 전달 (샘플마다 Runnable을 만들지 않도록 재사용)
+    private static final int SAMPLE_RING_CAPACITY = 16;
+    private final GazeSampleRing sampleRing = new GazeSampleRing(SAMPLE_RING_CAPACITY);
+    // 눈 개폐 정도 → 감은 상태 (SDK 콜백 스레드)
+    private final EyeClosureDetector eyeClosure = new EyeClosureDetector();
+    private final GazeSampleRing.SampleHandler sampleHandler =
+            (timestamp, x, y, state, eyesClosed) -> gazePipeline.process(timestamp, x, y, state, eyesClosed);
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final Runnable drainRunnable = () -> {
+        drainScheduled.set(false);
+        sampleRing.drain(sampleHandler);
+    };
+
+    // 파이프라인 재구성 시에도 유지되는 서비스 측 단계들
+    private static final int OFFSET_SAMPLE_COUNT = 10;
+    private GazeSourceStage gazeSourceStage;
+    private OffsetCollectionStage offsetCollectionStage;
+    private OneEuroFilterStage oneEuroFilterStage; // 설정 변경 시에도 필터 상태 유지
+    private GazeFilterStage gazeFilterStage;       // 1€ 이외의 필터를 고른 경우
+    private ScreenClampStage screenClampStage;
+    private CursorFrameSink cursorFrameSink;
+    private GazeActionSink gazeActionSink;
+    private LatencyTraceSink latencyTraceSink;
+
+    // 응시/엣지 타이머용 샘플 시계 (onDrop은 SDK 스레드에서 보고됨)
+    private final SampleClock interactionClock = new SampleClock();
+
+    // 시선 → 화면 지연 시간 집계 (dumpsys로 확인)
+    private final LatencyTracer latencyTracer = new LatencyTracer();
+
+    // 화면 크기 캐시 (매 샘플마다 DisplayMetrics를 조회하지 않음)
+    private volatile float screenWidth;
+    private volatile float screenHeight;
+
     // 상태 변수
-    private long lastValidTimestamp = 0;
     private long lastScrollTime = 0;
     private static final long SCROLL_COOLDOWN = 1500;
-    private boolean isCalibrating = false;
+    private volatile boolean isCalibrating = false;
     private boolean skipProgress = false;
 
     // 1포인트 캘리브레이션 및 통합 오프셋 관련 변수
     private boolean isOnePointCalibration = false;
-    private boolean offsetApplied = false;
+    // 1포인트 캘리브레이션 결과 - 통합 오프셋이 정해진 뒤 함께 저장
+    private final AtomicReference<double[]> pendingCalibrationData = new AtomicReference<>();
+
+    // 서비스 시작 → 커서 사용 가능까지 걸린 시간 (dumpsys로 확인)
+    private long serviceStartNanos;
+    private volatile long cursorReadyNanos = 0;
+    private volatile boolean calibrationRestored = false;
+    // 트래커에 적용된 캘리브레이션의 회전 방향 (-1이면 없음)
+    private volatile int calibratedRotation = -1;
 
-    // 오프셋 계산 관련 변수들
-    private boolean waitingForOffsetCalculation = false;
-    private float targetX = 0f;
-    private float targetY = 0f;
-    private int validGazeCount = 0;
-    private float sumGazeX = 0f;
-    private float sumGazeY = 0f;
+    // 오프셋 계산 목표 위치
+    private volatile float targetX = 0f;
+    private volatile float targetY = 0f;
 
     // 서비스 인스턴스 (캘리브레이션 트리거용)
     private static GazeTrackingService instance;
@@ -90,11 +173,16 @@ public class GazeTrackingService extends Service {
     public void onCreate() {
         super.onCreate();
         instance = this;
+        serviceStartNanos = System.nanoTime();
 
         // 초기화
         initRepositories();
-        resetCursorOffset(); // 서비스 시작 시 오프셋 초기화
-        initDetectors();
+        updateScreenSize();
+        // 오프셋은 initGazeTracker에서 저장된 캘리브레이션과 함께 복원하거나, 없으면 초기화한다
+        hapticScheduler = HapticScheduler.create(this); // 파이프라인이 사용하므로 먼저 생성
+        initPipeline();
+        initPipelineThread();
+        settingsSnapshot.start(pipelineHandler, this::onSettingsChanged);
         createNotificationChannel();
         initSystemServices();
         initViews();
@@ -108,8 +196,9 @@ public class GazeTrackingService extends Service {
 
     private void initRepositories() {
         trackingRepository = new EyedidTrackingRepository();
-        settingsRepository = new SharedPrefsSettingsRepository(this);
-        userSettings = settingsRepository.getUserSettings();
+        settingsRepository = BinarySettingsRepository.getInstance(this);
+        settingsSnapshot = new SettingsSnapshot(settingsRepository);
+        calibrationStore = CalibrationStore.getInstance(this);
     }
 
     /**
@@ -117,45 +206,116 @@ public class GazeTrackingService extends Service {
      */
     private void resetCursorOffset() {
         Log.d(TAG, "커서 오프셋 초기화 시작");
-        if (settingsRepository instanceof SharedPrefsSettingsRepository) {
-            ((SharedPrefsSettingsRepository) settingsRepository)
-                    .saveIntegratedCursorOffset(0f, 0f);
-            Log.d(TAG, "SharedPreferences에 오프셋 (0, 0) 저장 완료");
-        }
-        // 설정 새로고침
-        userSettings = settingsRepository.getUserSettings();
-        Log.d(TAG, "설정 새로고침 후 오프셋: X=" + userSettings.getCursorOffsetX() +
-                ", Y=" + userSettings.getCursorOffsetY());
-    }
-
-    private void initDetectors() {
-        clickDetector = new ClickDetector(userSettings);
-        edgeScrollDetector = new EdgeScrollDetector(userSettings, this);
-
-        // OneEuroFilterManager를 프리셋 또는 사용자 설정값으로 초기화 (float 캐스팅)
-        oneEuroFilterManager = new OneEuroFilterManager(
-                2,  // count (x, y 좌표)
-                (float) userSettings.getOneEuroFreq(),
-                (float) userSettings.getOneEuroMinCutoff(),
-                (float) userSettings.getOneEuroBeta(),
-                (float) userSettings.getOneEuroDCutoff()
-        );
+        // 이미 (0, 0)이면 기록하지 않는다
+        settingsRepository.saveIntegratedCursorOffset(0f, 0f);
+        Log.d(TAG, "오프셋 (0, 0) 저장 완료");
+        // 스냅샷은 변경 감지로 갱신된다 (서비스 시작 시에는 initPipeline에서 다시 읽음)
+        UserSettings saved = settingsRepository.getUserSettings();
+        Log.d(TAG, "저장된 오프셋: X=" + saved.getCursorOffsetX() +
+                ", Y=" + saved.getCursorOffsetY());
+    }
+
+    private void initPipeline() {
+        UserSettings settings = settingsSnapshot.reloadNow();
+        gazeSourceStage = new GazeSourceStage(() -> isCalibrating);
+        offsetCollectionStage = new OffsetCollectionStage(OFFSET_SAMPLE_COUNT, this::onOffsetSamplesCollected);
+        oneEuroFilterStage = new OneEuroFilterStage(settings);
+        oneEuroFilterStage.setTuningListener(this::onOneEuroParametersTuned);
+        screenClampStage = new ScreenClampStage();
+        screenClampStage.setScreenSize(screenWidth, screenHeight);
+        cursorFrameSink = new CursorFrameSink(cursorFrameSlot, () -> overlayCursorView.onFramePublished());
+        gazeActionSink = new GazeActionSink(new GazeActionSink.Listener() {
+            @Override
+            public void onGazeAction(GazeSample.Action action, float x, float y) {
+                GazeTrackingService.this.onGazeAction(action, x, y);
+            }
+
+            @Override
+            public void onScrollRate(float rate) {
+                MyAccessibilityService.setEdgeScrollRate(rate);
+            }
+        });
+        latencyTraceSink = new LatencyTraceSink(latencyTracer);
+        interactionClock.setPolicy(settings.getGapPolicy());
+        MyAccessibilityService.setScrollFlingVelocity(settings.getScrollFlingVelocity());
+
+        gazePipeline = buildPipeline(settings);
+
+        Log.d(TAG, "OneEuroFilter 초기화 - 프리셋: " + settings.getOneEuroFilterPreset().getDisplayName());
+        Log.d(TAG, "OneEuroFilter 파라미터 - freq: " + settings.getOneEuroFreq() +
+                ", minCutoff: " + settings.getOneEuroMinCutoff() +
+                ", beta: " + settings.getOneEuroBeta() +
+                ", dCutoff: " + settings.getOneEuroDCutoff());
+    }
+
+    /**
+     * 자동 조정된 필터 파라미터를 저장 (파이프라인 스레드, 변화가 클 때만 호출됨)
+     */
+    private void onOneEuroParametersTuned(double minCutoff, double beta) {
+        Log.d(TAG, String.format(Locale.US, "OneEuroFilter 자동 조정 - minCutoff: %.3f, beta: %.4f", minCutoff, beta));
+        settingsRepository.saveTunedOneEuroParameters(minCutoff, beta);
+    }
+
+    /**
+     * 서비스 측 단계(소스/필터/클램프/싱크)와 설정 기반 단계를 묶어 파이프라인을 구성
+     */
+    private GazePipeline buildPipeline(UserSettings settings) {
+        // 눈 깜빡임 클릭 단계가 있을 때만 눈 감은 샘플을 소스에서 통과시킴
+        gazeSourceStage.setPassEyesClosed(settings.isBlinkDetectionEnabled());
+        GazePipeline.Builder builder = new GazePipeline.Builder()
+                .source(gazeSourceStage)
+                .source(offsetCollectionStage)
+                .filter(selectFilterStage(settings))
+                .clamp(screenClampStage)
+                .sink(cursorFrameSink)
+                .sink(latencyTraceSink)
+                .sink(gazeActionSink);
+        return GazePipelineFactory.addSettingsStages(builder, settings, interactionClock,
+                MyAccessibilityService::getClickTargets, hapticScheduler, this, stageCache).build();
+    }
+
+    /**
+     * 설정의 필터 종류에 맞는 필터 단계. 종류가 바뀌지 않으면 같은 단계(필터 상태)를 재사용
+     */
+    private GazeStage selectFilterStage(UserSettings settings) {
+        GazeFilterType type = settings.getGazeFilterType();
+        if (type == GazeFilterType.ONE_EURO) {
+            return oneEuroFilterStage;
+        }
+        if (gazeFilterStage == null || gazeFilterStage.getType() != type) {
+            gazeFilterStage = new GazeFilterStage(type);
+        }
+        return gazeFilterStage;
+    }
 
-        // 기존에 저장된 커서 오프셋이 있으면 바로 적용
-        if (userSettings.getCursorOffsetX() != 0f || userSettings.getCursorOffsetY() != 0f) {
-            offsetApplied = true;
-            Log.d(TAG, "기존 커서 오프셋 적용: X=" + userSettings.getCursorOffsetX() + ", Y=" + userSettings.getCursorOffsetY());
+    private void updateScreenSize() {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        screenWidth = dm.widthPixels;
+        screenHeight = dm.heightPixels;
+        if (screenClampStage != null) {
+            screenClampStage.setScreenSize(screenWidth, screenHeight);
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        // 화면 회전 등으로 크기가 바뀌면 캐시 갱신
+        updateScreenSize();
+        // 회전 방향이 바뀌었으면 그 방향으로 저장된 캘리브레이션이 있을 때 바꿔 끼운다
+        if (calibratedRotation >= 0 && !isCalibrating && currentRotation() != calibratedRotation) {
+            restoreCalibration();
         }
+    }
 
-        Log.d(TAG, "OneEuroFilter 초기화 - 프리셋: " + userSettings.getOneEuroFilterPreset().getDisplayName());
-        Log.d(TAG, "OneEuroFilter 파라미터 - freq: " + userSettings.getOneEuroFreq() +
-                ", minCutoff: " + userSettings.getOneEuroMinCutoff() +
-                ", beta: " + userSettings.getOneEuroBeta() +
-                ", dCutoff: " + userSettings.getOneEuroDCutoff());
+    private void initPipelineThread() {
+        // 메인 스레드가 바빠도 커서와 클릭 판정이 밀리지 않도록 높은 우선순위로 실행
+        pipelineThread = new HandlerThread("GazePipeline", Process.THREAD_PRIORITY_URGENT_DISPLAY);
+        pipelineThread.start();
+        pipelineHandler = new Handler(pipelineThread.getLooper());
     }
 
     private void initSystemServices() {
-        vibrator = (Vibrator) getSystemService(Context.VIBRATOR_SERVICE);
         windowManager = (WindowManager) getSystemService(WINDOW_SERVICE);
 
         Notification notification = new NotificationCompat.Builder(this, CHANNEL_ID)
@@ -170,6 +330,8 @@ public class GazeTrackingService extends Service {
     private void initViews() {
         // 시선 커서 뷰 초기화 및 추가
         overlayCursorView = new OverlayCursorView(this);
+        overlayCursorView.setFrameSlot(cursorFrameSlot);
+        overlayCursorView.setLatencyTracer(latencyTracer);
 
         WindowManager.LayoutParams cursorParams = new WindowManager.LayoutParams(
                 WindowManager.LayoutParams.MATCH_PARENT,
@@ -214,10 +376,16 @@ public class GazeTrackingService extends Service {
                 trackingRepository.startTracking();
                 Log.d(TAG, "GazeTracker 초기화 성공");
 
-                // 초기화 완료 후 자동 1포인트 캘리브레이션 실행
-                if (userSettings.isAutoOnePointCalibrationEnabled() && !isCalibrating) {
+                // 저장된 캘리브레이션이 있으면 바로 사용하고, 없을 때만 오프셋을 초기화하고 새로 맞춘다
+                if (restoreCalibration()) {
+                    return;
+                }
+                resetCursorOffset();
+                if (settingsSnapshot.get().isAutoOnePointCalibrationEnabled() && !isCalibrating) {
                     Log.d(TAG, "자동 1포인트 캘리브레이션 시작");
                     startOnePointCalibrationWithOffset();
+                } else {
+                    markCursorReady();
                 }
             } else {
                 Log.e(TAG, "GazeTracker 초기화 실패: " + error);
@@ -226,6 +394,71 @@ public class GazeTrackingService extends Service {
         });
     }
 
+    /**
+     * 현재 회전 방향으로 저장된 캘리브레이션과 통합 오프셋을 트래커에 적용 (메인 스레드)
+     * @return 적용했으면 true
+     */
+    private boolean restoreCalibration() {
+        GazeTracker tracker = trackingRepository.getTracker();
+        if (tracker == null) {
+            return false;
+        }
+        int rotation = currentRotation();
+        CalibrationRecord record = calibrationStore.load(rotation, (int) screenWidth, (int) screenHeight,
+                GazeTracker.getVersionName());
+        if (record == null) {
+            return false;
+        }
+        if (!tracker.setCalibrationData(record.getCalibrationData())) {
+            Log.w(TAG, "저장된 캘리브레이션 적용 실패 - 새로 캘리브레이션");
+            return false;
+        }
+        settingsRepository.saveIntegratedCursorOffset(record.getOffsetX(), record.getOffsetY());
+        calibratedRotation = rotation;
+        Log.d(TAG, String.format(Locale.US, "저장된 캘리브레이션 복원 (회전 %d, 오프셋 %.1f, %.1f)",
+                rotation, record.getOffsetX(), record.getOffsetY()));
+        if (cursorReadyNanos == 0) {
+            calibrationRestored = true;
+            markCursorReady();
+        }
+        return true;
+    }
+
+    /**
+     * 캘리브레이션 결과를 현재 회전 방향과 저장된 통합 오프셋으로 기록
+     */
+    private void saveCalibration(double[] calibrationData) {
+        UserSettings settings = settingsRepository.getUserSettings();
+        calibrationStore.save(currentRotation(), (int) screenWidth, (int) screenHeight, GazeTracker.getVersionName(),
+                calibrationData, settings.getCursorOffsetX(), settings.getCursorOffsetY());
+        calibratedRotation = currentRotation();
+    }
+
+    /**
+     * 1포인트 캘리브레이션 결과를 오프셋 수집이 끝난 뒤 저장 (메인/파이프라인 스레드, 한 번만)
+     */
+    private void savePendingCalibration() {
+        double[] data = pendingCalibrationData.getAndSet(null);
+        if (data != null) {
+            saveCalibration(data);
+        }
+        markCursorReady();
+    }
+
+    // 서비스 컨텍스트는 화면에 묶여 있지 않아 getDisplay()를 쓸 수 없으므로 기본 디스플레이 기준
+    private int currentRotation() {
+        DisplayManager displayManager = (DisplayManager) getSystemService(Context.DISPLAY_SERVICE);
+        Display display = displayManager != null ? displayManager.getDisplay(Display.DEFAULT_DISPLAY) : null;
+        return display != null ? display.getRotation() : Surface.ROTATION_0;
+    }
+
+    private void markCursorReady() {
+        if (cursorReadyNanos == 0) {
+            cursorReadyNanos = System.nanoTime() - serviceStartNanos;
+            Log.d(TAG, String.format(Locale.US, "서비스 시작 → 커서 사용 가능: %.0f ms", cursorReadyNanos / 1e6));
+        }
+    }
+
     // 1포인트 캘리브레이션 + 오프셋 계산 메서드
     public void startOnePointCalibrationWithOffset() {
         Log.d(TAG, "1포인트 캘리브레이션 + 통합 오프셋 정렬 시작");
@@ -242,7 +475,6 @@ public class GazeTrackingService extends Service {
 
         isCalibrating = true;
         isOnePointCalibration = true;
-        offsetApplied = false;
 
         overlayCursorView.setVisibility(View.INVISIBLE);
         calibrationViewer.setVisibility(View.VISIBLE);
@@ -271,21 +503,18 @@ public class GazeTrackingService extends Service {
 
     // 통합 오프셋 계산 시작 메서드
     private void calculateIntegratedOffset() {
-        waitingForOffsetCalculation = true;
-        validGazeCount = 0;
-        sumGazeX = 0f;
-        sumGazeY = 0f;
+        offsetCollectionStage.setCollecting(true);
 
         Log.d(TAG, "통합 오프셋 계산 시작 - 목표 위치: (" + targetX + ", " + targetY + ")");
         Toast.makeText(this, "시선을 보정 중입니다...", Toast.LENGTH_SHORT).show();
 
         // 5초 후에도 오프셋이 계산되지 않으면 강제 진행
         handler.postDelayed(() -> {
-            if (waitingForOffsetCalculation) {
-                waitingForOffsetCalculation = false;
-                offsetApplied = true;
+            if (offsetCollectionStage.isCollecting()) {
+                offsetCollectionStage.setCollecting(false);
                 overlayCursorView.setVisibility(View.VISIBLE);
                 Log.w(TAG, "오프셋 계산 타임아웃 - 기존 설정 유지");
+                savePendingCalibration();
                 Toast.makeText(GazeTrackingService.this, "시선 보정이 완료되었습니다", Toast.LENGTH_SHORT).show();
             }
         }, 5000);
@@ -295,7 +524,7 @@ public class GazeTrackingService extends Service {
     private void resetCalibrationState() {
         isCalibrating = false;
         isOnePointCalibration = false;
-        waitingForOffsetCalculation = false;
+        offsetCollectionStage.setCollecting(false);
         calibrationViewer.setVisibility(View.INVISIBLE);
         overlayCursorView.setVisibility(View.VISIBLE);
     }
@@ -303,147 +532,94 @@ public class GazeTrackingService extends Service {
     private final TrackingCallback trackingCallback = new TrackingCallback() {
         @Override
         public void onMetrics(long timestamp, GazeInfo gazeInfo, FaceInfo faceInfo, BlinkInfo blinkInfo, UserStatusInfo userStatusInfo) {
-            DisplayMetrics dm = getResources().getDisplayMetrics();
-            float screenWidth = dm.widthPixels;
-            float screenHeight = dm.heightPixels;
-
-            // 시선 추적 성공 시
-            if (gazeInfo.trackingState == TrackingState.SUCCESS) {
-                // 통합 오프셋 계산 대기 중이라면
-                if (waitingForOffsetCalculation) {
-                    // 필터링 없이 원시 데이터 수집 (평균 계산용)
-                    sumGazeX += gazeInfo.x;
-                    sumGazeY += gazeInfo.y;
-                    validGazeCount++;
-
-                    // 10개 샘플 수집 후 평균 계산
-                    if (validGazeCount >= 10) {
-                        float avgGazeX = sumGazeX / validGazeCount;
-                        float avgGazeY = sumGazeY / validGazeCount;
-
-                        // 새로운 오프셋 계산 (목표 위치 - 실제 시선 위치)
-                        float newOffsetX = targetX - avgGazeX;
-                        float newOffsetY = targetY - avgGazeY;
-
-                        // 오프셋 유효성 검증 (화면 크기의 30% 이내)
-                        float maxOffset = Math.min(screenWidth, screenHeight) * 0.3f;
-
-                        if (Math.abs(newOffsetX) <= maxOffset &&
-                                Math.abs(newOffsetY) <= maxOffset) {
-
-                            // 새로운 오프셋을 설정에 저장 (기존 오프셋 덮어쓰기)
-                            if (settingsRepository instanceof SharedPrefsSettingsRepository) {
-                                ((SharedPrefsSettingsRepository) settingsRepository)
-                                        .saveIntegratedCursorOffset(newOffsetX, newOffsetY);
-                            }
-
-                            // 설정 새로고침하여 새 오프셋 적용
-                            refreshSettings();
-                            offsetApplied = true;
-
-                            Log.d(TAG, "새 오프셋 적용 완료: X=" + newOffsetX + ", Y=" + newOffsetY);
-
-                            Toast.makeText(GazeTrackingService.this, "시선 보정이 완료되었습니다", Toast.LENGTH_SHORT).show();
-                        } else {
-                            // 오프셋이 너무 크면 기존 설정 유지
-                            offsetApplied = true;
-                            Log.w(TAG, "계산된 오프셋이 너무 커서 기존 설정 유지");
-                            Toast.makeText(GazeTrackingService.this, "시선 보정이 완료되었습니다", Toast.LENGTH_SHORT).show();
-                        }
-
-                        waitingForOffsetCalculation = false;
-                        overlayCursorView.setVisibility(View.VISIBLE);
-                    }
-                    return; // 오프셋 계산 중에는 다른 처리 안함
-                }
+            // SDK 콜백 스레드에서는 값만 복사하고 처리는 파이프라인 스레드로 넘김
+            // isBlink는 깜빡임이 감지된 프레임에만 켜지므로 감은 시간은 개폐 정도로 판정한다
+            boolean eyesClosed = blinkInfo != null
+                    && eyeClosure.update(blinkInfo.leftOpenness, blinkInfo.rightOpenness);
+            sampleRing.offer(timestamp, gazeInfo.x, gazeInfo.y, gazeInfo.trackingState, eyesClosed);
+            if (drainScheduled.compareAndSet(false, true)) {
+                pipelineHandler.post(drainRunnable);
+            }
+        }
 
-                // 필터링 적용
-                float filteredX;
-                float filteredY;
+        @Override
+        public void onDrop(long timestamp) {
+            // 드롭된 구간이 응시 시간으로 쌓이지 않도록 시계에 알림
+            interactionClock.onDrop(timestamp);
+        }
+    };
 
-                long filterTime = android.os.SystemClock.elapsedRealtime();
-                if (oneEuroFilterManager.filterValues(filterTime, gazeInfo.x, gazeInfo.y)) {
-                    float[] filtered = oneEuroFilterManager.getFilteredValues();
-                    filteredX = filtered[0];
-                    filteredY = filtered[1];
-                } else {
-                    filteredX = gazeInfo.x;
-                    filteredY = gazeInfo.y;
-                }
+    /**
+     * 통합 오프셋용 샘플 수집 완료 (파이프라인 스레드)
+     */
+    private void onOffsetSamplesCollected(float avgGazeX, float avgGazeY) {
+        // 새로운 오프셋 계산 (목표 위치 - 실제 시선 위치)
+        float newOffsetX = targetX - avgGazeX;
+        float newOffsetY = targetY - avgGazeY;
 
-                // 통합 오프셋 적용 (사용자 설정에서 로드)
-                if (offsetApplied) {
-                    filteredX += userSettings.getCursorOffsetX();
-                    filteredY += userSettings.getCursorOffsetY();
-                }
+        // 오프셋 유효성 검증 (화면 크기의 30% 이내)
+        float maxOffset = Math.min(screenWidth, screenHeight) * 0.3f;
 
-                float safeX = Math.max(0, Math.min(filteredX, screenWidth - 1));
-                float safeY = Math.max(0, Math.min(filteredY, screenHeight - 1));
-
-                // 캘리브레이션 중이 아닌 경우에만 커서 업데이트
-                if (!isCalibrating) {
-                    overlayCursorView.updatePosition(safeX, safeY);
-                    lastValidTimestamp = System.currentTimeMillis();
-
-                    // 엣지 스크롤 탐지
-                    EdgeScrollDetector.Edge edge = edgeScrollDetector.update(safeY, screenHeight);
-
-                    if (edge == EdgeScrollDetector.Edge.TOP) {
-                        overlayCursorView.setTextPosition(false); // 상단 응시 텍스트는 아래쪽에 표시
-                        EdgeScrollDetector.ScrollAction action = edgeScrollDetector.processTopEdge();
-                        overlayCursorView.setCursorText(edgeScrollDetector.getEdgeStateText());
-
-                        if (action == EdgeScrollDetector.ScrollAction.SCROLL_DOWN) {
-                            overlayCursorView.setCursorText("③");
-                            scrollDown(userSettings.getContinuousScrollCount());
-                            handler.postDelayed(() -> resetAll(), 500);
-                        }
-                    } else if (edge == EdgeScrollDetector.Edge.BOTTOM) {
-                        overlayCursorView.setTextPosition(true); // 하단 응시 텍스트는 위쪽에 표시
-                        EdgeScrollDetector.ScrollAction action = edgeScrollDetector.processBottomEdge();
-                        overlayCursorView.setCursorText(edgeScrollDetector.getEdgeStateText());
-
-                        if (action == EdgeScrollDetector.ScrollAction.SCROLL_UP) {
-                            overlayCursorView.setCursorText("③");
-                            scrollUp(userSettings.getContinuousScrollCount());
-                            handler.postDelayed(() -> resetAll(), 500);
-                        }
-                    } else if (!edgeScrollDetector.isActive()) {
-                        // 상/하단 영역이 아닌 곳에서만 고정 클릭 로직 실행
-                        boolean clicked = clickDetector.update(safeX, safeY);
-                        overlayCursorView.setProgress(clickDetector.getProgress());
-                        overlayCursorView.setCursorText("●");
-
-                        if (clicked) {
-                            performClick(safeX, safeY);
-                        }
-                    }
-                }
-            }
+        if (Math.abs(newOffsetX) <= maxOffset &&
+                Math.abs(newOffsetY) <= maxOffset) {
+
+            // 새로운 오프셋을 설정에 저장 (기존 오프셋 덮어쓰기)
+            settingsRepository.saveIntegratedCursorOffset(newOffsetX, newOffsetY);
+
+            // 새 오프셋 적용 (변경 감지로도 반영되며, 파이프라인 스레드에서 오프셋 단계만 갱신)
+            refreshSettings();
+
+            Log.d(TAG, "새 오프셋 적용 완료: X=" + newOffsetX + ", Y=" + newOffsetY);
+        } else {
+            // 오프셋이 너무 크면 기존 설정 유지
+            Log.w(TAG, "계산된 오프셋이 너무 커서 기존 설정 유지");
         }
+        savePendingCalibration();
 
-        @Override
-        public void onDrop(long timestamp) {}
-    };
+        handler.post(() -> {
+            Toast.makeText(GazeTrackingService.this, "시선 보정이 완료되었습니다", Toast.LENGTH_SHORT).show();
+            overlayCursorView.setVisibility(View.VISIBLE);
+        });
+    }
 
-    private void resetAll() {
-        edgeScrollDetector.resetAll();
-        clickDetector.reset();
-        overlayCursorView.setCursorText("●"); // 기본 커서로 복귀
-        overlayCursorView.setTextPosition(false); // 기본 위치 복원
-        overlayCursorView.setProgress(0f);
+    /**
+     * 파이프라인이 결정한 클릭/스크롤 실행 (파이프라인 스레드 → 메인 스레드)
+     */
+    private void onGazeAction(GazeSample.Action action, float x, float y) {
+        switch (action) {
+            case CLICK:
+                handler.post(() -> performClick(x, y));
+                break;
+            case SCROLL_UP: {
+                final int count = settingsSnapshot.get().getContinuousScrollCount();
+                handler.post(() -> scrollUp(count, x, y));
+                pipelineHandler.postDelayed(() -> gazePipeline.reset(), 500);
+                break;
+            }
+            case SCROLL_DOWN: {
+                final int count = settingsSnapshot.get().getContinuousScrollCount();
+                handler.post(() -> scrollDown(count, x, y));
+                pipelineHandler.postDelayed(() -> gazePipeline.reset(), 500);
+                break;
+            }
+            default:
+                break;
+        }
     }
 
-    private void scrollUp(int count) {
+    private void scrollUp(int count, float x, float y) {
         if (MyAccessibilityService.getInstance() != null) {
+            // 커서는 앱 영역 기준이므로 접근성 서비스용으로 상태바 높이 추가
+            float screenY = y + getStatusBarHeight();
             Log.d(TAG, "위로 스크롤 실행 (" + count + "회)");
 
             if (count <= 1) {
                 // 단일 스크롤
-                MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.UP);
+                MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.UP,
+                        MyAccessibilityService.ScrollAmount.MEDIUM, x, screenY);
             } else {
                 // 연속 스크롤
-                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.UP, count);
+                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.UP, count, x, screenY);
             }
 
             // 스크롤 쿨다운 설정
@@ -454,16 +630,19 @@ public class GazeTrackingService extends Service {
         }
     }
 
-    private void scrollDown(int count) {
+    private void scrollDown(int count, float x, float y) {
         if (MyAccessibilityService.getInstance() != null) {
+            // 커서는 앱 영역 기준이므로 접근성 서비스용으로 상태바 높이 추가
+            float screenY = y + getStatusBarHeight();
             Log.d(TAG, "아래로 스크롤 실행 (" + count + "회)");
 
             if (count <= 1) {
                 // 단일 스크롤
-                MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.DOWN);
+                MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.DOWN,
+                        MyAccessibilityService.ScrollAmount.MEDIUM, x, screenY);
             } else {
                 // 연속 스크롤
-                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.DOWN, count);
+                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.DOWN, count, x, screenY);
             }
 
             // 스크롤 쿨다운 설정
@@ -497,7 +676,7 @@ public class GazeTrackingService extends Service {
 
         Log.d(TAG, "클릭 실행 (최종 위치): (" + adjustedX + ", " + adjustedY + ")");
 
-        vibrator.vibrate(100);
+        hapticScheduler.post(HapticScheduler.Pulse.CLICK);
         MyAccessibilityService.performClickAt(adjustedX, adjustedY);
     }
 
@@ -543,6 +722,9 @@ public class GazeTrackingService extends Service {
                 isCalibrating = false;
                 isOnePointCalibration = false;
 
+                // 결과는 통합 오프셋이 정해진 뒤 함께 저장
+                pendingCalibrationData.set(calibrationData);
+
                 // 통합 오프셋 계산 시작
                 calculateIntegratedOffset();
                 Log.d(TAG, "1포인트 캘리브레이션 완료 - 통합 오프셋 계산 시작");
@@ -550,12 +732,14 @@ public class GazeTrackingService extends Service {
                 // 기존 풀 캘리브레이션 완료
                 hideCalibrationView();
                 isCalibrating = false;
+                saveCalibration(calibrationData);
                 Toast.makeText(GazeTrackingService.this, "정밀 캘리브레이션 완료", Toast.LENGTH_SHORT).show();
             }
         }
 
         @Override
         public void onCalibrationCanceled(double[] calibrationData) {
+            pendingCalibrationData.set(null);
             resetCalibrationState();
             Toast.makeText(GazeTrackingService.this, "캘리브레이션 취소됨", Toast.LENGTH_SHORT).show();
         }
@@ -589,9 +773,8 @@ public class GazeTrackingService extends Service {
         new Handler(Looper.getMainLooper()).post(() -> {
             calibrationViewer.setVisibility(View.INVISIBLE);
             overlayCursorView.setVisibility(View.VISIBLE);
-            overlayCursorView.setCursorText("●"); // 기본 커서로 복귀
-            overlayCursorView.setTextPosition(false); // 기본 위치 복원
         });
+        pipelineHandler.post(() -> gazePipeline.reset());
     }
 
     /**
@@ -669,29 +852,46 @@ public class GazeTrackingService extends Service {
     }
 
     /**
-     * 사용자 설정을 새로고침하는 메서드
+     * 저장소에서 설정을 다시 읽도록 요청 (변경 감지로도 반영되며, 연달아 호출해도 한 번만 읽는다)
      */
     public void refreshSettings() {
-        userSettings = settingsRepository.getUserSettings();
-        clickDetector = new ClickDetector(userSettings);
-        edgeScrollDetector = new EdgeScrollDetector(userSettings, this);
-
-        // OneEuroFilterManager도 새 설정으로 재초기화 (float 캐스팅)
-        oneEuroFilterManager = new OneEuroFilterManager(
-                2,
-                (float) userSettings.getOneEuroFreq(),
-                (float) userSettings.getOneEuroMinCutoff(),
-                (float) userSettings.getOneEuroBeta(),
-                (float) userSettings.getOneEuroDCutoff()
-        );
+        settingsSnapshot.requestReload();
+    }
+
+    /**
+     * 바뀐 필드만 반영한다 (파이프라인 스레드).
+     * 단계 구성이 바뀌는 경우에만 파이프라인을 다시 묶고, 이때도 계속 쓰이는 단계는 상태를 유지한 채 재사용한다.
+     */
+    private void onSettingsChanged(UserSettings previous, UserSettings current, SettingsDiff diff) {
+        if (diff.contains(SettingsDiff.Field.GAP_POLICY)) {
+            interactionClock.setPolicy(current.getGapPolicy());
+        }
+        if (diff.contains(SettingsDiff.Field.SCROLL_FLING_VELOCITY)) {
+            MyAccessibilityService.setScrollFlingVelocity(current.getScrollFlingVelocity());
+        }
+
+        if (diff.requiresRebuild()) {
+            // 필터 단계는 구성에서 빠져 있어도 유지하므로 직접 갱신
+            oneEuroFilterStage.updateSettings(current);
+            gazePipeline = buildPipeline(current);
+            Log.d(TAG, "설정 변경으로 파이프라인 재구성: " + diff);
+        } else {
+            gazePipeline.updateSettings(current);
+            Log.d(TAG, "설정 변경 반영: " + diff);
+        }
 
-        Log.d(TAG, "사용자 설정이 새로고침되었습니다");
-        Log.d(TAG, "현재 커서 오프셋: X=" + userSettings.getCursorOffsetX() + ", Y=" + userSettings.getCursorOffsetY());
-        Log.d(TAG, "현재 OneEuroFilter 프리셋: " + userSettings.getOneEuroFilterPreset().getDisplayName());
-        Log.d(TAG, "현재 OneEuroFilter 파라미터 - freq: " + userSettings.getOneEuroFreq() +
-                ", minCutoff: " + userSettings.getOneEuroMinCutoff() +
-                ", beta: " + userSettings.getOneEuroBeta() +
-                ", dCutoff: " + userSettings.getOneEuroDCutoff());
+        if (diff.containsAny(SettingsDiff.Field.CURSOR_OFFSET_X, SettingsDiff.Field.CURSOR_OFFSET_Y)) {
+            Log.d(TAG, "현재 커서 오프셋: X=" + current.getCursorOffsetX() + ", Y=" + current.getCursorOffsetY());
+        }
+        if (diff.containsAny(SettingsDiff.Field.ONE_EURO_PRESET, SettingsDiff.Field.ONE_EURO_FREQ,
+                SettingsDiff.Field.ONE_EURO_MIN_CUTOFF, SettingsDiff.Field.ONE_EURO_BETA,
+                SettingsDiff.Field.ONE_EURO_D_CUTOFF)) {
+            Log.d(TAG, "현재 OneEuroFilter 프리셋: " + current.getOneEuroFilterPreset().getDisplayName());
+            Log.d(TAG, "현재 OneEuroFilter 파라미터 - freq: " + current.getOneEuroFreq() +
+                    ", minCutoff: " + current.getOneEuroMinCutoff() +
+                    ", beta: " + current.getOneEuroBeta() +
+                    ", dCutoff: " + current.getOneEuroDCutoff());
+        }
     }
 
     // 추가된 메소드: 접근성 서비스 활성화 여부 확인
@@ -745,10 +945,104 @@ public class GazeTrackingService extends Service {
             trackingRepository.stopTracking();
         }
 
+        // 설정 변경 감지 중지 후 파이프라인 스레드 종료
+        if (settingsSnapshot != null) {
+            settingsSnapshot.stop();
+        }
+        if (settingsRepository != null) {
+            settingsRepository.flush();
+        }
+        if (pipelineThread != null) {
+            pipelineThread.quitSafely();
+        }
+        if (hapticScheduler != null) {
+            hapticScheduler.release();
+        }
+
         // 인스턴스 정리
         instance = null;
     }
 
+    /**
+     * adb shell dumpsys activity service camp.visual.android.sdk.sample/.service.tracking.GazeTrackingService [export|reset]
+     * 통계는 다른 스레드가 기록 중인 값을 읽으므로 진단용 근사치다.
+     */
+    @Override
+    protected void dump(FileDescriptor fd, PrintWriter writer, String[] args) {
+        writeDiagnostics(writer);
+
+        if (args != null && args.length > 0) {
+            if ("export".equals(args[0])) {
+                File file = exportLatencyReport();
+                writer.println(file != null ? "exported: " + file.getAbsolutePath() : "export failed");
+            } else if ("reset".equals(args[0])) {
+                latencyTracer.reset();
+                MyAccessibilityService.resetActionLatency();
+                writer.println("latency histograms reset");
+            }
+        }
+    }
+
+    private void writeDiagnostics(PrintWriter writer) {
+        writer.println("Gaze latency (HDR histogram):");
+        latencyTracer.dump(writer);
+        writer.println();
+        writer.println("Action latency (request→done):");
+        MyAccessibilityService.dumpActionLatency(writer);
+        writer.println();
+        GazeFilterType filterType = settingsSnapshot.get().getGazeFilterType();
+        writer.println("Gaze filter: " + filterType);
+        if (settingsRepository instanceof WriteBehindSettingsRepository) {
+            long loadNanos = ((WriteBehindSettingsRepository) settingsRepository).getLoadNanos();
+            writer.println(String.format(Locale.US, "Settings cold load: %.2f ms", loadNanos / 1e6));
+        }
+        long readyNanos = cursorReadyNanos;
+        writer.println(readyNanos == 0 ? "Start → cursor ready: pending"
+                : String.format(Locale.US, "Start → cursor ready: %.0f ms (%s)", readyNanos / 1e6,
+                        calibrationRestored ? "calibration restored" : "calibrated"));
+        if (filterType == GazeFilterType.ONE_EURO) {
+            writer.println("OneEuroFilter estimated sample rate: "
+                    + String.format(Locale.US, "%.1f Hz", oneEuroFilterStage.getEstimatedRate()));
+        }
+        if (filterType == GazeFilterType.ONE_EURO && oneEuroFilterStage.isAdaptive()) {
+            OneEuroAutoTuner tuner = oneEuroFilterStage.getTuner();
+            writer.println(String.format(Locale.US,
+                    "OneEuroFilter auto-tune: minCutoff=%.3f beta=%.4f noise=%.1fpx saccade=%.0fpx/s",
+                    tuner.getMinCutoff(), tuner.getBeta(), tuner.getNoiseStdDev(), tuner.getSaccadeSpeed()));
+        }
+        writer.println(String.format(Locale.US, "Interaction clock: policy=%s interval=%.1fms gaps=%d",
+                interactionClock.getPolicy(), interactionClock.getIntervalMs(), interactionClock.getGapCount()));
+        writer.println();
+        writer.println("GazePipeline stage timings:");
+        GazePipeline pipeline = gazePipeline;
+        if (pipeline != null) {
+            writer.print(pipeline.formatTimings());
+        }
+    }
+
+    /**
+     * 지연 시간 리포트를 앱 전용 외부 저장소에 파일로 저장
+     * @return 저장된 파일, 실패 시 null
+     */
+    @Nullable
+    public File exportLatencyReport() {
+        File dir = getExternalFilesDir(null);
+        if (dir == null) {
+            dir = getFilesDir();
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date());
+        File file = new File(dir, "gaze-latency-" + stamp + ".txt");
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writeDiagnostics(writer);
+            Log.d(TAG, "지연 시간 리포트 저장: " + file.getAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            Log.e(TAG, "지연 시간 리포트 저장 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
     @Nullable
     @Override
     public IBinder onBind(Intent intent) {
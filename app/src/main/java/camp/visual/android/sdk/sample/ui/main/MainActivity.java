@@ -2,15 +2,20 @@ package camp.visual.android.sdk.sample.ui.main;
 
 import android.Manifest;
 import android.content.ComponentName;
+import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
+import android.hardware.display.DisplayManager;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.provider.Settings;
+import android.util.DisplayMetrics;
 import android.util.Log;
+import android.view.Display;
+import android.view.Surface;
 import android.view.View;
 import android.widget.Button;
 import android.widget.TextView;
@@ -27,6 +32,9 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import camp.visual.android.sdk.sample.R;
+import camp.visual.android.sdk.sample.data.settings.BinarySettingsRepository;
+import camp.visual.android.sdk.sample.data.settings.CalibrationStore;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
 import camp.visual.android.sdk.sample.service.accessibility.MyAccessibilityService;
 import camp.visual.android.sdk.sample.service.tracking.GazeTrackingService;
 import camp.visual.android.sdk.sample.ui.settings.SettingsActivity;
@@ -114,6 +122,7 @@ public class MainActivity extends AppCompatActivity {
         @Override
         public void onCalibrationFinished(double[] calibrationData) {
             hideCalibrationView();
+            saveCalibration(calibrationData);
             showToast("캘리브레이션 완료", true);
         }
 
@@ -124,6 +133,28 @@ public class MainActivity extends AppCompatActivity {
         }
     };
 
+    /**
+     * 서비스가 다음 시작 때 복원할 수 있도록 현재 회전 방향과 통합 오프셋으로 저장
+     */
+    private void saveCalibration(double[] calibrationData) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        UserSettings settings = BinarySettingsRepository.getInstance(this).getUserSettings();
+        CalibrationStore.getInstance(this).save(currentRotation(),
+                dm.widthPixels, dm.heightPixels, GazeTracker.getVersionName(), calibrationData,
+                settings.getCursorOffsetX(), settings.getCursorOffsetY());
+    }
+
+    private int currentRotation() {
+        Display display;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            display = getDisplay();
+        } else {
+            DisplayManager displayManager = (DisplayManager) getSystemService(Context.DISPLAY_SERVICE);
+            display = displayManager != null ? displayManager.getDisplay(Display.DEFAULT_DISPLAY) : null;
+        }
+        return display != null ? display.getRotation() : Surface.ROTATION_0;
+    }
+
     private final StatusCallback statusCallback = new StatusCallback() {
         @Override
         public void onStarted() {
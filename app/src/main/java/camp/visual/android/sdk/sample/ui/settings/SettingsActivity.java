@@ -15,8 +15,11 @@ import androidx.appcompat.app.ActionBar;
 import androidx.appcompat.app.AppCompatActivity;
 
 import camp.visual.android.sdk.sample.R;
+import camp.visual.android.sdk.sample.data.settings.BinarySettingsRepository;
 import camp.visual.android.sdk.sample.data.settings.SettingsRepository;
-import camp.visual.android.sdk.sample.data.settings.SharedPrefsSettingsRepository;
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
 import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 import camp.visual.android.sdk.sample.service.tracking.GazeTrackingService;
@@ -35,6 +38,8 @@ public class SettingsActivity extends AppCompatActivity {
     private TextView edgeTriggerTimeText;
     private SeekBar scrollCountBar;
     private TextView scrollCountText;
+    private SeekBar scrollFlingBar;
+    private TextView scrollFlingText;
 
     // 커서 오프셋 UI 요소
     private SeekBar cursorOffsetXBar;
@@ -43,13 +48,16 @@ public class SettingsActivity extends AppCompatActivity {
     private TextView cursorOffsetYText;
 
     // OneEuroFilter 프리셋 UI 요소
+    private RadioGroup filterTypeRadioGroup;
     private RadioGroup filterPresetRadioGroup;
     private RadioButton radioStability;
     private RadioButton radioBalancedStability;
     private RadioButton radioBalanced;
     private RadioButton radioBalancedResponsive;
     private RadioButton radioResponsive;
+    private RadioButton radioAdaptive;
     private RadioButton radioCustom;
+    private TextView adaptiveFilterValuesText;
     private LinearLayout customFilterLayout;
 
     // OneEuroFilter 커스텀 UI 요소
@@ -65,8 +73,12 @@ public class SettingsActivity extends AppCompatActivity {
     private Switch clickEnabledSwitch;
     private Switch scrollEnabledSwitch;
     private Switch edgeScrollEnabledSwitch;
+    private RadioGroup edgeScrollModeRadioGroup;
     private Switch blinkDetectionSwitch;
+    private Switch cursorPredictionSwitch;
+    private Switch targetSnapSwitch;
     private Switch autoOnePointCalibrationSwitch;
+    private RadioGroup gapPolicyRadioGroup;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -81,7 +93,7 @@ public class SettingsActivity extends AppCompatActivity {
         }
 
         // 설정 저장소 초기화
-        settingsRepository = new SharedPrefsSettingsRepository(this);
+        settingsRepository = BinarySettingsRepository.getInstance(this);
         currentSettings = settingsRepository.getUserSettings();
 
         // UI 초기화
@@ -100,6 +112,8 @@ public class SettingsActivity extends AppCompatActivity {
         edgeTriggerTimeText = findViewById(R.id.text_edge_trigger_time);
         scrollCountBar = findViewById(R.id.seekbar_scroll_count);
         scrollCountText = findViewById(R.id.text_scroll_count);
+        scrollFlingBar = findViewById(R.id.seekbar_scroll_fling);
+        scrollFlingText = findViewById(R.id.text_scroll_fling);
 
         // 커서 오프셋 UI 초기화
         cursorOffsetXBar = findViewById(R.id.seekbar_cursor_offset_x);
@@ -107,6 +121,9 @@ public class SettingsActivity extends AppCompatActivity {
         cursorOffsetYBar = findViewById(R.id.seekbar_cursor_offset_y);
         cursorOffsetYText = findViewById(R.id.text_cursor_offset_y);
 
+        // 필터 종류 UI 초기화
+        filterTypeRadioGroup = findViewById(R.id.radio_group_filter_type);
+
         // OneEuroFilter 프리셋 UI 초기화
         filterPresetRadioGroup = findViewById(R.id.radio_group_filter_preset);
         radioStability = findViewById(R.id.radio_stability);
@@ -114,7 +131,9 @@ public class SettingsActivity extends AppCompatActivity {
         radioBalanced = findViewById(R.id.radio_balanced);
         radioBalancedResponsive = findViewById(R.id.radio_balanced_responsive);
         radioResponsive = findViewById(R.id.radio_responsive);
+        radioAdaptive = findViewById(R.id.radio_adaptive);
         radioCustom = findViewById(R.id.radio_custom);
+        adaptiveFilterValuesText = findViewById(R.id.text_adaptive_filter_values);
         customFilterLayout = findViewById(R.id.layout_custom_filter);
 
         // OneEuroFilter 커스텀 UI 초기화
@@ -131,7 +150,11 @@ public class SettingsActivity extends AppCompatActivity {
         clickEnabledSwitch = findViewById(R.id.switch_click_enabled);
         scrollEnabledSwitch = findViewById(R.id.switch_scroll_enabled);
         edgeScrollEnabledSwitch = findViewById(R.id.switch_edge_scroll_enabled);
+        edgeScrollModeRadioGroup = findViewById(R.id.radio_group_edge_scroll_mode);
         blinkDetectionSwitch = findViewById(R.id.switch_blink_detection);
+        cursorPredictionSwitch = findViewById(R.id.switch_cursor_prediction);
+        targetSnapSwitch = findViewById(R.id.switch_target_snap);
+        gapPolicyRadioGroup = findViewById(R.id.radio_group_gap_policy);
         autoOnePointCalibrationSwitch = findViewById(R.id.switch_auto_one_point_calibration);
 
         // SeekBar 범위 설정
@@ -139,6 +162,7 @@ public class SettingsActivity extends AppCompatActivity {
         aoiRadiusBar.setMax(60); // 10 ~ 70
         edgeTriggerTimeBar.setMax(40); // 1000ms ~ 5000ms
         scrollCountBar.setMax(4); // 1 ~ 5
+        scrollFlingBar.setMax(30); // 0 ~ 3000 dp/s
 
         // 커서 오프셋 범위 설정: -50px ~ +50px (0~100으로 매핑)
         cursorOffsetXBar.setMax(100);
@@ -165,11 +189,31 @@ public class SettingsActivity extends AppCompatActivity {
         scrollCountBar.setProgress(currentSettings.getContinuousScrollCount() - 1);
         updateScrollCountText();
 
+        scrollFlingBar.setProgress((int)(currentSettings.getScrollFlingVelocity() / 100));
+        updateScrollFlingText();
+
         // 커서 오프셋 설정 (-50~+50을 0~100으로 변환)
         cursorOffsetXBar.setProgress((int)(currentSettings.getCursorOffsetX() + 50));
         cursorOffsetYBar.setProgress((int)(currentSettings.getCursorOffsetY() + 50));
         updateCursorOffsetTexts();
 
+        // 필터 종류 설정
+        switch (currentSettings.getGazeFilterType()) {
+            case KALMAN:
+                filterTypeRadioGroup.check(R.id.radio_filter_kalman);
+                break;
+            case DOUBLE_EXPONENTIAL:
+                filterTypeRadioGroup.check(R.id.radio_filter_double_exponential);
+                break;
+            case MEDIAN:
+                filterTypeRadioGroup.check(R.id.radio_filter_median);
+                break;
+            case ONE_EURO:
+            default:
+                filterTypeRadioGroup.check(R.id.radio_filter_one_euro);
+                break;
+        }
+
         // OneEuroFilter 프리셋 설정
         OneEuroFilterPreset preset = currentSettings.getOneEuroFilterPreset();
         switch (preset) {
@@ -188,6 +232,9 @@ public class SettingsActivity extends AppCompatActivity {
             case RESPONSIVE:
                 radioResponsive.setChecked(true);
                 break;
+            case ADAPTIVE:
+                radioAdaptive.setChecked(true);
+                break;
             case CUSTOM:
                 radioCustom.setChecked(true);
                 break;
@@ -207,7 +254,23 @@ public class SettingsActivity extends AppCompatActivity {
         clickEnabledSwitch.setChecked(currentSettings.isClickEnabled());
         scrollEnabledSwitch.setChecked(currentSettings.isScrollEnabled());
         edgeScrollEnabledSwitch.setChecked(currentSettings.isEdgeScrollEnabled());
+        edgeScrollModeRadioGroup.check(currentSettings.getEdgeScrollMode() == EdgeScrollMode.PROPORTIONAL
+                ? R.id.radio_edge_scroll_proportional : R.id.radio_edge_scroll_dwell);
         blinkDetectionSwitch.setChecked(currentSettings.isBlinkDetectionEnabled());
+        cursorPredictionSwitch.setChecked(currentSettings.isCursorPredictionEnabled());
+        targetSnapSwitch.setChecked(currentSettings.isTargetSnapEnabled());
+        switch (currentSettings.getGapPolicy()) {
+            case DECAY:
+                gapPolicyRadioGroup.check(R.id.radio_gap_decay);
+                break;
+            case RESET:
+                gapPolicyRadioGroup.check(R.id.radio_gap_reset);
+                break;
+            case PAUSE:
+            default:
+                gapPolicyRadioGroup.check(R.id.radio_gap_pause);
+                break;
+        }
         autoOnePointCalibrationSwitch.setChecked(currentSettings.isAutoOnePointCalibrationEnabled());
 
         // 스크롤 관련 설정의 활성화 상태 업데이트
@@ -215,6 +278,12 @@ public class SettingsActivity extends AppCompatActivity {
     }
 
     private void setupListeners() {
+        // 필터 종류 라디오 그룹 리스너
+        filterTypeRadioGroup.setOnCheckedChangeListener((group, checkedId) -> {
+            updateCustomFilterVisibility();
+            saveSettings();
+        });
+
         // 프리셋 라디오 그룹 리스너
         filterPresetRadioGroup.setOnCheckedChangeListener((group, checkedId) -> {
             updateCustomFilterVisibility();
@@ -282,6 +351,21 @@ public class SettingsActivity extends AppCompatActivity {
             }
         });
 
+        scrollFlingBar.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                updateScrollFlingText();
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {
+                saveSettings();
+            }
+        });
+
         // 커서 오프셋 SeekBar 리스너
         cursorOffsetXBar.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
@@ -383,9 +467,16 @@ public class SettingsActivity extends AppCompatActivity {
         });
 
         edgeScrollEnabledSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> saveSettings());
+        edgeScrollModeRadioGroup.setOnCheckedChangeListener((group, checkedId) -> saveSettings());
 
         blinkDetectionSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> saveSettings());
 
+        cursorPredictionSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> saveSettings());
+
+        targetSnapSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> saveSettings());
+
+        gapPolicyRadioGroup.setOnCheckedChangeListener((group, checkedId) -> saveSettings());
+
         autoOnePointCalibrationSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> {
             saveSettings();
 
@@ -397,8 +488,36 @@ public class SettingsActivity extends AppCompatActivity {
     }
 
     private void updateCustomFilterVisibility() {
-        boolean isCustom = radioCustom.isChecked();
+        // 프리셋은 1€ 필터에만 적용
+        boolean isOneEuro = getSelectedFilterType() == GazeFilterType.ONE_EURO;
+        filterPresetRadioGroup.setVisibility(isOneEuro ? View.VISIBLE : View.GONE);
+
+        boolean isCustom = isOneEuro && radioCustom.isChecked();
         customFilterLayout.setVisibility(isCustom ? View.VISIBLE : View.GONE);
+
+        // 자동 조정 모드에서는 현재 조정된 값을 표시
+        boolean isAdaptive = isOneEuro && radioAdaptive.isChecked();
+        adaptiveFilterValuesText.setVisibility(isAdaptive ? View.VISIBLE : View.GONE);
+        if (isAdaptive) {
+            UserSettings stored = settingsRepository.getUserSettings();
+            adaptiveFilterValuesText.setText(String.format("   현재 값 - minCutoff: %.2f, beta: %.4f",
+                    stored.getOneEuroMinCutoff(), stored.getOneEuroBeta()));
+        }
+    }
+
+    private GazeFilterType getSelectedFilterType() {
+        int checkedId = filterTypeRadioGroup.getCheckedRadioButtonId();
+        if (checkedId == R.id.radio_filter_kalman) return GazeFilterType.KALMAN;
+        if (checkedId == R.id.radio_filter_double_exponential) return GazeFilterType.DOUBLE_EXPONENTIAL;
+        if (checkedId == R.id.radio_filter_median) return GazeFilterType.MEDIAN;
+        return GazeFilterType.ONE_EURO; // 기본값
+    }
+
+    private GapPolicy getSelectedGapPolicy() {
+        int checkedId = gapPolicyRadioGroup.getCheckedRadioButtonId();
+        if (checkedId == R.id.radio_gap_decay) return GapPolicy.DECAY;
+        if (checkedId == R.id.radio_gap_reset) return GapPolicy.RESET;
+        return GapPolicy.PAUSE; // 기본값
     }
 
     private OneEuroFilterPreset getSelectedPreset() {
@@ -408,6 +527,7 @@ public class SettingsActivity extends AppCompatActivity {
         if (checkedId == R.id.radio_balanced) return OneEuroFilterPreset.BALANCED;
         if (checkedId == R.id.radio_balanced_responsive) return OneEuroFilterPreset.BALANCED_RESPONSIVE;
         if (checkedId == R.id.radio_responsive) return OneEuroFilterPreset.RESPONSIVE;
+        if (checkedId == R.id.radio_adaptive) return OneEuroFilterPreset.ADAPTIVE;
         if (checkedId == R.id.radio_custom) return OneEuroFilterPreset.CUSTOM;
         return OneEuroFilterPreset.BALANCED; // 기본값
     }
@@ -432,6 +552,11 @@ public class SettingsActivity extends AppCompatActivity {
         scrollCountText.setText(String.format("%d회", value));
     }
 
+    private void updateScrollFlingText() {
+        int value = scrollFlingBar.getProgress() * 100;
+        scrollFlingText.setText(value == 0 ? "관성 없음" : String.format("%d dp/s", value));
+    }
+
     private void updateCursorOffsetTexts() {
         // 0~100을 -50~+50으로 변환
         float offsetX = cursorOffsetXBar.getProgress() - 50;
@@ -456,8 +581,12 @@ public class SettingsActivity extends AppCompatActivity {
     private void updateScrollSettingsState() {
         boolean scrollEnabled = scrollEnabledSwitch.isChecked();
         edgeScrollEnabledSwitch.setEnabled(scrollEnabled);
+        for (int i = 0; i < edgeScrollModeRadioGroup.getChildCount(); i++) {
+            edgeScrollModeRadioGroup.getChildAt(i).setEnabled(scrollEnabled);
+        }
         edgeTriggerTimeBar.setEnabled(scrollEnabled);
         scrollCountBar.setEnabled(scrollEnabled);
+        scrollFlingBar.setEnabled(scrollEnabled);
     }
 
     private void saveSettings() {
@@ -468,18 +597,32 @@ public class SettingsActivity extends AppCompatActivity {
                 .edgeMarginRatio(0.01f) // 고정 값 사용
                 .edgeTriggerMs(1000 + (edgeTriggerTimeBar.getProgress() * 100))
                 .continuousScrollCount(scrollCountBar.getProgress() + 1)
+                .scrollFlingVelocity(scrollFlingBar.getProgress() * 100)
                 .clickEnabled(clickEnabledSwitch.isChecked())
                 .edgeScrollEnabled(edgeScrollEnabledSwitch.isChecked())
+                .edgeScrollMode(edgeScrollModeRadioGroup.getCheckedRadioButtonId() == R.id.radio_edge_scroll_proportional
+                        ? EdgeScrollMode.PROPORTIONAL : EdgeScrollMode.DWELL)
                 .blinkDetectionEnabled(blinkDetectionSwitch.isChecked())
+                .cursorPredictionEnabled(cursorPredictionSwitch.isChecked())
+                .targetSnapEnabled(targetSnapSwitch.isChecked())
+                .gapPolicy(getSelectedGapPolicy())
                 .autoOnePointCalibrationEnabled(autoOnePointCalibrationSwitch.isChecked())
                 .cursorOffsetX(cursorOffsetXBar.getProgress() - 50) // 0~100을 -50~+50으로 변환
                 .cursorOffsetY(cursorOffsetYBar.getProgress() - 50) // 0~100을 -50~+50으로 변환
+                .gazeFilterType(getSelectedFilterType())
                 .oneEuroFilterPreset(getSelectedPreset())
                 .oneEuroFreq(10 + oneEuroFreqBar.getProgress())
                 .oneEuroMinCutoff(oneEuroMinCutoffBar.getProgress() / 10.0)
                 .oneEuroBeta(oneEuroBetaBar.getProgress() / 1000.0) // 0.001 단위
                 .oneEuroDCutoff(oneEuroDCutoffBar.getProgress() / 10.0);
 
+        // 자동 조정 모드에서는 서비스가 저장한 조정값을 슬라이더 값으로 덮어쓰지 않음
+        if (getSelectedPreset() == OneEuroFilterPreset.ADAPTIVE) {
+            UserSettings stored = settingsRepository.getUserSettings();
+            builder.oneEuroMinCutoff(stored.getOneEuroMinCutoff())
+                    .oneEuroBeta(stored.getOneEuroBeta());
+        }
+
         UserSettings newSettings = builder.build();
         settingsRepository.saveUserSettings(newSettings);
         currentSettings = newSettings;
@@ -490,6 +633,13 @@ public class SettingsActivity extends AppCompatActivity {
         }
     }
 
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // 화면을 떠날 때는 모아 둔 변경을 바로 기록 (메인 스레드는 기다리지 않음)
+        settingsRepository.flush();
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
@@ -1,29 +1,74 @@
 package camp.visual.android.sdk.sample.ui.views;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
 import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.util.TypedValue;
+import android.view.Choreographer;
 import android.view.View;
 
-public class OverlayCursorView extends View {
+import camp.visual.android.sdk.sample.domain.metrics.LatencyTracer;
+import camp.visual.android.sdk.sample.domain.model.CursorFrame;
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+import camp.visual.android.sdk.sample.domain.pipeline.CursorFrameSlot;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시선 커서 오버레이.
+ * 파이프라인이 게시한 최신 프레임을 vsync(Choreographer 프레임)마다 한 번만 가져오고,
+ * 이전에 그린 상태와 눈에 띄게 다를 때만 무효화한다.
+ * (하드웨어 가속 창에서는 부분 무효화 영역이 무시되므로 invalidate()로 전체를 다시 기록한다)
+ * 상태 기호(▲▼①②③)는 생성 시 한 번 비트맵 아틀라스로 래스터화해 두고 복사만 한다.
+ */
+public class OverlayCursorView extends View implements Choreographer.FrameCallback {
+
+    // 이 값 이하의 이동은 다시 그리지 않음 (서브픽셀)
+    private static final float MIN_MOVE_PX = 0.5f;
+    // 진행률 게이지 각도 변화가 이 값 미만이면 다시 그리지 않음
+    private static final float MIN_PROGRESS_DEGREES = 1f;
 
     private final Paint circlePaint;
     private final Paint progressPaint;
     private final Paint textPaint;
+    private final Paint glyphPaint;
 
     private float x = -100;
     private float y = -100;
     private float progressAngle = 0f;
-    private String cursorText = "●";
+    private CursorGlyph glyph = CursorGlyph.NONE;
     private boolean showTextAbove = false; // 텍스트 위치 제어 변수 추가
 
+    // 파이프라인 스레드가 게시하는 커서 프레임 슬롯
+    private CursorFrameSlot frameSlot;
+
+    // 게시 → 그리기 지연 시간 기록 (선택)
+    private LatencyTracer latencyTracer;
+
+    // 메인 스레드 Choreographer 및 프레임 콜백 예약 여부
+    private final Choreographer choreographer;
+    private final AtomicBoolean frameCallbackPending = new AtomicBoolean(false);
+
     // 커서 반지름 (약 7.5dp)
     private final float radius;
 
+    // 진행률 게이지 영역 (onDraw에서 매 프레임 할당하지 않도록 재사용)
+    private final RectF progressOval = new RectF();
+
+    // 상태 기호 아틀라스: 기호마다 한 칸, ordinal로 원본 영역을 찾는다 (NONE은 비어 있음)
+    private final Bitmap glyphAtlas;
+    private final Rect[] glyphSrc = new Rect[CursorGlyph.values().length];
+    private final int glyphCellWidth;
+    private final int glyphBaseline; // 칸 위쪽에서 기준선까지 거리
+
+    // 기호 그리기 대상 영역 (재사용)
+    private final Rect glyphDst = new Rect();
+
     public OverlayCursorView(Context context) {
         this(context, null);
     }
@@ -46,28 +91,100 @@ public class OverlayCursorView extends View {
         textPaint.setTextAlign(Paint.Align.CENTER);
 
         radius = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 7.5f, getResources().getDisplayMetrics());
+
+        // 상태 기호를 한 번만 래스터화 (매 프레임 drawText 대신 비트맵 복사)
+        Paint.FontMetrics metrics = textPaint.getFontMetrics();
+        float maxWidth = 0f;
+        for (CursorGlyph g : CursorGlyph.values()) {
+            maxWidth = Math.max(maxWidth, textPaint.measureText(g.getSymbol()));
+        }
+        glyphCellWidth = (int) Math.ceil(maxWidth) + 2;
+        glyphBaseline = (int) Math.ceil(-metrics.ascent) + 1;
+        int cellHeight = glyphBaseline + (int) Math.ceil(metrics.descent) + 1;
+
+        CursorGlyph[] glyphs = CursorGlyph.values();
+        glyphAtlas = Bitmap.createBitmap(glyphCellWidth * glyphs.length, cellHeight, Bitmap.Config.ARGB_8888);
+        Canvas atlasCanvas = new Canvas(glyphAtlas);
+        for (CursorGlyph g : glyphs) {
+            int left = g.ordinal() * glyphCellWidth;
+            glyphSrc[g.ordinal()] = new Rect(left, 0, left + glyphCellWidth, cellHeight);
+            if (g != CursorGlyph.NONE) {
+                atlasCanvas.drawText(g.getSymbol(), left + glyphCellWidth / 2f, glyphBaseline, textPaint);
+            }
+        }
+        glyphPaint = new Paint(); // 1:1 복사이므로 필터링 불필요
+
+        // 뷰는 메인 스레드에서 생성되므로 메인 스레드 Choreographer를 얻는다
+        choreographer = Choreographer.getInstance();
     }
 
-    public void updatePosition(float gazeX, float gazeY) {
-        this.x = gazeX;
-        this.y = gazeY;
-        postInvalidate();
+    public void setFrameSlot(CursorFrameSlot slot) {
+        this.frameSlot = slot;
     }
 
-    public void setCursorText(String text) {
-        this.cursorText = text;
-        postInvalidate();
+    public void setLatencyTracer(LatencyTracer tracer) {
+        this.latencyTracer = tracer;
     }
 
-    // 텍스트 위치 설정 메서드 추가 (true=위, false=아래)
-    public void setTextPosition(boolean above) {
-        this.showTextAbove = above;
-        postInvalidate();
+    /**
+     * 새 프레임이 게시되었음을 알린다 (어느 스레드에서든 호출 가능).
+     * 다음 vsync에 한 번만 프레임을 가져오도록 콜백을 예약한다.
+     */
+    public void onFramePublished() {
+        if (frameCallbackPending.compareAndSet(false, true)) {
+            choreographer.postFrameCallback(this);
+        }
     }
 
-    public void setProgress(float progress) {
-        this.progressAngle = 360 * progress;
-        postInvalidate();
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameCallbackPending.set(false);
+        if (frameSlot == null) return;
+
+        CursorFrame frame = frameSlot.poll();
+        if (frame == null) return;
+
+        if (latencyTracer != null) {
+            latencyTracer.recordDraw(frame.getSdkNanos(), frame.getPublishNanos(), System.nanoTime());
+        }
+
+        float newProgressAngle = 360 * frame.getProgress();
+        boolean changed = Math.abs(frame.getX() - x) > MIN_MOVE_PX
+                || Math.abs(frame.getY() - y) > MIN_MOVE_PX
+                || Math.abs(newProgressAngle - progressAngle) >= MIN_PROGRESS_DEGREES
+                || (newProgressAngle == 0f) != (progressAngle == 0f)
+                || frame.getGlyph() != glyph
+                || frame.isTextAbove() != showTextAbove;
+        if (!changed) {
+            return; // 고정 응시 중 미세한 변화는 다시 그리지 않음
+        }
+
+        x = frame.getX();
+        y = frame.getY();
+        progressAngle = newProgressAngle;
+        glyph = frame.getGlyph();
+        showTextAbove = frame.isTextAbove();
+
+        // 애니메이션 콜백 단계이므로 같은 vsync의 traversal에서 그려진다
+        invalidate();
+    }
+
+    /**
+     * 상태 기호를 그릴 위치. 기준선이 커서 위/아래 2.5 반지름에 오도록 한다.
+     */
+    private void computeGlyphDst(Rect out) {
+        float baselineY = showTextAbove ? y - radius * 2.5f : y + radius * 2.5f;
+        Rect src = glyphSrc[glyph.ordinal()];
+        int left = Math.round(x - glyphCellWidth / 2f);
+        int top = Math.round(baselineY) - glyphBaseline;
+        out.set(left, top, left + src.width(), top + src.height());
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        choreographer.removeFrameCallback(this);
+        frameCallbackPending.set(false);
     }
 
     @Override
@@ -79,22 +196,14 @@ public class OverlayCursorView extends View {
 
         // 클릭 진행률 원형 게이지
         if (progressAngle > 0) {
-            RectF oval = new RectF(x - radius, y - radius, x + radius, y + radius);
-            canvas.drawArc(oval, -90, progressAngle, true, progressPaint);
+            progressOval.set(x - radius, y - radius, x + radius, y + radius);
+            canvas.drawArc(progressOval, -90, progressAngle, true, progressPaint);
         }
 
-        // 커서 텍스트가 있으면 표시 (예: 스크롤 방향 등)
-        if (!cursorText.equals("●")) {
-            float textY;
-
-            // 텍스트 위치 결정 (위/아래)
-            if (showTextAbove) {
-                textY = y - radius * 2.5f; // 텍스트를 커서 위에 표시
-            } else {
-                textY = y + radius * 2.5f; // 텍스트를 커서 아래에 표시
-            }
-
-            canvas.drawText(cursorText, x, textY, textPaint);
+        // 상태 기호가 있으면 아틀라스에서 복사 (예: 스크롤 방향 등)
+        if (glyph != CursorGlyph.NONE) {
+            computeGlyphDst(glyphDst);
+            canvas.drawBitmap(glyphAtlas, glyphSrc[glyph.ordinal()], glyphDst, glyphPaint);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
+import camp.visual.android.sdk.sample.domain.model.SettingsDiff;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 설정 이진 형식: 왕복, 손상/버전 검사, 원자적 교체 후 매핑 읽기
+ */
+public class BinarySettingsCodecTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static UserSettings sample() {
+        return new UserSettings.Builder()
+                .fixationDurationMs(1700f)
+                .aoiRadius(55f)
+                .scrollEnabled(true)
+                .clickEnabled(false)
+                .blinkDetectionEnabled(true)
+                .edgeTriggerMs(2400)
+                .continuousScrollCount(3)
+                .scrollFlingVelocity(1200f)
+                .edgeScrollMode(EdgeScrollMode.PROPORTIONAL)
+                .gapPolicy(GapPolicy.DECAY)
+                .cursorOffsetX(-12.5f)
+                .cursorOffsetY(7f)
+                .gazeFilterType(GazeFilterType.ONE_EURO)
+                .oneEuroFilterPreset(OneEuroFilterPreset.CUSTOM)
+                .oneEuroFreq(60)
+                .oneEuroMinCutoff(0.8)
+                .oneEuroBeta(0.0123)
+                .oneEuroDCutoff(1.5)
+                .build();
+    }
+
+    @Test
+    public void roundTrip_preservesEveryField() {
+        UserSettings original = sample();
+        UserSettings decoded = BinarySettingsCodec.decode(ByteBuffer.wrap(BinarySettingsCodec.encode(original)));
+        assertNotNull(decoded);
+        assertTrue(SettingsDiff.between(original, decoded).toString(), SettingsDiff.between(original, decoded).isEmpty());
+    }
+
+    @Test
+    public void defaults_roundTrip() {
+        UserSettings original = new UserSettings.Builder().build();
+        UserSettings decoded = BinarySettingsCodec.decode(ByteBuffer.wrap(BinarySettingsCodec.encode(original)));
+        assertTrue(SettingsDiff.between(original, decoded).isEmpty());
+    }
+
+    @Test
+    public void corruptedPayload_isRejected() {
+        byte[] bytes = BinarySettingsCodec.encode(sample());
+        bytes[BinarySettingsCodec.HEADER_SIZE + 5] ^= 0x10;
+        assertNull(BinarySettingsCodec.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void truncatedOrForeignData_isRejected() {
+        byte[] bytes = BinarySettingsCodec.encode(sample());
+        assertNull(BinarySettingsCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 3))));
+        assertNull(BinarySettingsCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, 6))));
+        assertNull(BinarySettingsCodec.decode(ByteBuffer.wrap("<?xml version='1.0'?><map/>".getBytes())));
+    }
+
+    @Test
+    public void newerVersion_isRejected() {
+        byte[] bytes = BinarySettingsCodec.encode(sample());
+        ByteBuffer.wrap(bytes).putShort(4, (short) (BinarySettingsCodec.VERSION + 1));
+        assertNull(BinarySettingsCodec.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void atomicWrite_thenMappedRead() throws IOException {
+        File target = new File(folder.getRoot(), BinarySettingsRepository.FILE_NAME);
+        assertNull(BinarySettingsRepository.read(target));
+
+        BinarySettingsRepository.writeAtomically(target, BinarySettingsCodec.encode(new UserSettings.Builder().build()));
+        UserSettings updated = sample();
+        BinarySettingsRepository.writeAtomically(target, BinarySettingsCodec.encode(updated));
+
+        assertFalse(new File(target.getPath() + ".tmp").exists());
+        UserSettings read = BinarySettingsRepository.read(target);
+        assertNotNull(read);
+        assertEquals(updated.getCursorOffsetX(), read.getCursorOffsetX(), 0f);
+        assertEquals(EdgeScrollMode.PROPORTIONAL, read.getEdgeScrollMode());
+    }
+
+    @Test
+    public void leftoverTempFromInterruptedWrite_doesNotAffectRead() throws IOException {
+        File target = new File(folder.getRoot(), BinarySettingsRepository.FILE_NAME);
+        BinarySettingsRepository.writeAtomically(target, BinarySettingsCodec.encode(sample()));
+        byte[] full = BinarySettingsCodec.encode(new UserSettings.Builder().build());
+        try (FileOutputStream out = new FileOutputStream(target.getPath() + ".tmp")) {
+            out.write(full, 0, full.length / 2); // 쓰다가 죽은 상태
+        }
+
+        UserSettings read = BinarySettingsRepository.read(target);
+        assertNotNull(read);
+        assertEquals(1700f, read.getFixationDurationMs(), 0f);
+    }
+}
@@ -0,0 +1,89 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 캘리브레이션 저장 형식: 왕복, 손상 검사, 복원 조건 (회전/화면/SDK 버전/경과 시간)
+ */
+public class CalibrationRecordTest {
+
+    private static final long SAVED_AT = 1_700_000_000_000L;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
+    private static CalibrationRecord sample() {
+        return new CalibrationRecord(1, 2400, 1080, SAVED_AT, 12.5f, -30f, "3.1.0",
+                new double[]{0.25, -1.5, 3e-4, 1024.0, Double.MIN_VALUE});
+    }
+
+    @Test
+    public void roundTripKeepsAllFields() {
+        CalibrationRecord decoded = CalibrationRecord.decode(ByteBuffer.wrap(sample().encode()));
+
+        assertNotNull(decoded);
+        assertEquals(1, decoded.getRotation());
+        assertEquals(2400, decoded.getScreenWidth());
+        assertEquals(1080, decoded.getScreenHeight());
+        assertEquals(SAVED_AT, decoded.getSavedAtMillis());
+        assertEquals(12.5f, decoded.getOffsetX(), 0f);
+        assertEquals(-30f, decoded.getOffsetY(), 0f);
+        assertEquals("3.1.0", decoded.getSdkVersion());
+        assertArrayEquals(sample().getCalibrationData(), decoded.getCalibrationData(), 0.0);
+    }
+
+    @Test
+    public void corruptedPayloadIsRejected() {
+        byte[] bytes = sample().encode();
+        bytes[bytes.length - 3] ^= 0x10;
+        assertNull(CalibrationRecord.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void wrongMagicOrNewerVersionIsRejected() {
+        byte[] bytes = sample().encode();
+        bytes[0] = 'X';
+        assertNull(CalibrationRecord.decode(ByteBuffer.wrap(bytes)));
+
+        bytes = sample().encode();
+        bytes[5] = (byte) (CalibrationRecord.VERSION + 1);
+        assertNull(CalibrationRecord.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void truncatedFileIsRejected() {
+        byte[] bytes = sample().encode();
+        ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, bytes.length - 8).slice();
+        assertNull(CalibrationRecord.decode(truncated));
+        assertNull(CalibrationRecord.decode(ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    public void matchesOnlySameEnvironmentWithinMaxAge() {
+        CalibrationRecord record = sample();
+        long now = SAVED_AT + DAY_MS;
+        long maxAge = CalibrationStore.MAX_AGE_MS;
+
+        assertTrue(record.matches(1, 2400, 1080, "3.1.0", now, maxAge));
+        assertFalse("다른 회전", record.matches(3, 2400, 1080, "3.1.0", now, maxAge));
+        assertFalse("다른 화면 크기", record.matches(1, 1080, 2400, "3.1.0", now, maxAge));
+        assertFalse("다른 SDK", record.matches(1, 2400, 1080, "3.2.0", now, maxAge));
+        assertFalse("만료", record.matches(1, 2400, 1080, "3.1.0", SAVED_AT + maxAge + 1, maxAge));
+        assertFalse("미래 시각", record.matches(1, 2400, 1080, "3.1.0", SAVED_AT - 1, maxAge));
+    }
+
+    @Test
+    public void emptyCalibrationNeverMatches() {
+        CalibrationRecord empty = new CalibrationRecord(0, 100, 200, SAVED_AT, 0f, 0f, "3.1.0", new double[0]);
+        CalibrationRecord decoded = CalibrationRecord.decode(ByteBuffer.wrap(empty.encode()));
+        assertNotNull(decoded);
+        assertFalse(decoded.matches(0, 100, 200, "3.1.0", SAVED_AT, CalibrationStore.MAX_AGE_MS));
+    }
+}
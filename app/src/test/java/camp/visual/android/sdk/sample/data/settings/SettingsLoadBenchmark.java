@@ -0,0 +1,130 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+/**
+ * 설정 읽기 JVM 벤치마크 (단위 테스트가 아니므로 수동 실행).
+ * 같은 설정을 SharedPreferences 형식 XML과 이진 파일로 저장한 뒤,
+ * 첫 읽기(콜드)와 반복 읽기 평균을 비교한다. XML은 전체 파싱 후 맵을 만드는 SharedPreferences 방식을 흉내 낸다.
+ *
+ * 실행: 테스트 클래스패스로 main()을 실행 (예: IDE에서 Run 'SettingsLoadBenchmark.main()')
+ */
+public final class SettingsLoadBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2000;
+    private static final int MEASURED_ROUNDS = 20000;
+
+    private SettingsLoadBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        File dir = new File(System.getProperty("java.io.tmpdir"), "settings-bench");
+        dir.mkdirs();
+        File xml = new File(dir, "eye_tracking_settings.xml");
+        File bin = new File(dir, BinarySettingsRepository.FILE_NAME);
+
+        UserSettings settings = new UserSettings.Builder().cursorOffsetX(3f).cursorOffsetY(-4f).build();
+        writeXml(xml, settings);
+        BinarySettingsRepository.writeAtomically(bin, BinarySettingsCodec.encode(settings));
+
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+
+        // 콜드: 각 방식의 첫 호출 (클래스 로딩 포함)
+        long start = System.nanoTime();
+        int xmlEntries = parseXml(factory, xml).size();
+        long xmlCold = System.nanoTime() - start;
+        start = System.nanoTime();
+        UserSettings decoded = BinarySettingsRepository.read(bin);
+        long binCold = System.nanoTime() - start;
+        if (decoded == null) throw new IllegalStateException("binary read failed");
+
+        System.out.println(String.format(Locale.US, "xml    cold %8.1f us  (%d bytes, %d entries)",
+                xmlCold / 1e3, xml.length(), xmlEntries));
+        System.out.println(String.format(Locale.US, "binary cold %8.1f us  (%d bytes)", binCold / 1e3, bin.length()));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            parseXml(factory, xml);
+            BinarySettingsRepository.read(bin);
+        }
+        long sink = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += parseXml(factory, xml).size();
+        }
+        long xmlWarm = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += BinarySettingsRepository.read(bin).getContinuousScrollCount();
+        }
+        long binWarm = System.nanoTime() - start;
+
+        System.out.println(String.format(Locale.US, "xml    warm %8.2f us/load", xmlWarm / 1e3 / MEASURED_ROUNDS));
+        System.out.println(String.format(Locale.US, "binary warm %8.2f us/load  (checksum %d)",
+                binWarm / 1e3 / MEASURED_ROUNDS, sink));
+    }
+
+    private static Map<String, String> parseXml(SAXParserFactory factory, File xml) throws Exception {
+        Map<String, String> values = new HashMap<>();
+        SAXParser parser = factory.newSAXParser();
+        parser.parse(xml, new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                String name = attributes.getValue("name");
+                if (name != null) {
+                    values.put(name, attributes.getValue("value"));
+                }
+            }
+        });
+        return values;
+    }
+
+    private static void writeXml(File file, UserSettings s) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("<?xml version='1.0' encoding='utf-8' standalone='yes' ?>\n<map>\n");
+            entry(out, "float", "fixation_duration", s.getFixationDurationMs());
+            entry(out, "float", "aoi_radius", s.getAoiRadius());
+            entry(out, "boolean", "scroll_enabled", s.isScrollEnabled());
+            entry(out, "float", "edge_margin_ratio", s.getEdgeMarginRatio());
+            entry(out, "long", "edge_trigger_ms", s.getEdgeTriggerMs());
+            entry(out, "int", "continuous_scroll_count", s.getContinuousScrollCount());
+            entry(out, "float", "scroll_fling_velocity", s.getScrollFlingVelocity());
+            entry(out, "string", "edge_scroll_mode", s.getEdgeScrollMode().name());
+            entry(out, "boolean", "click_enabled", s.isClickEnabled());
+            entry(out, "boolean", "edge_scroll_enabled", s.isEdgeScrollEnabled());
+            entry(out, "boolean", "blink_detection_enabled", s.isBlinkDetectionEnabled());
+            entry(out, "boolean", "cursor_prediction_enabled", s.isCursorPredictionEnabled());
+            entry(out, "string", "gap_policy", s.getGapPolicy().name());
+            entry(out, "boolean", "target_snap_enabled", s.isTargetSnapEnabled());
+            entry(out, "boolean", "auto_one_point_calibration", s.isAutoOnePointCalibrationEnabled());
+            entry(out, "float", "cursor_offset_x", s.getCursorOffsetX());
+            entry(out, "float", "cursor_offset_y", s.getCursorOffsetY());
+            entry(out, "string", "gaze_filter_type", s.getGazeFilterType().name());
+            entry(out, "string", "one_euro_preset", s.getOneEuroFilterPreset().name());
+            entry(out, "float", "one_euro_freq", s.getOneEuroFreq());
+            entry(out, "float", "one_euro_min_cutoff", s.getOneEuroMinCutoff());
+            entry(out, "float", "one_euro_beta", s.getOneEuroBeta());
+            entry(out, "float", "one_euro_d_cutoff", s.getOneEuroDCutoff());
+            out.write("</map>\n");
+        }
+    }
+
+    private static void entry(Writer out, String type, String name, Object value) throws IOException {
+        // SharedPreferences는 문자열을 본문에, 나머지는 value 속성에 쓴다 (여기서는 모두 속성으로 단순화)
+        out.write("    <" + type + " name=\"" + name + "\" value=\"" + value + "\" />\n");
+    }
+}
@@ -0,0 +1,34 @@
+package camp.visual.android.sdk.sample.data.settings;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 모아서 기록하는 시점: 잠잠해지면 IDLE_MS 뒤, 계속 바뀌어도 MAX_DELAY_MS를 넘기지 않음
+ */
+public class WriteBehindSchedulerTest {
+
+    @Test
+    public void singleChange_flushesAfterIdle() {
+        assertEquals(1000 + WriteBehindScheduler.IDLE_MS, WriteBehindScheduler.flushAt(1000, 1000));
+    }
+
+    @Test
+    public void burstOfChanges_pushesFlushToLastChange() {
+        // 슬라이더를 몇 번 연달아 놓은 경우 - 마지막 변경 기준
+        long first = 1000;
+        long last = first + 3 * 200;
+        assertEquals(last + WriteBehindScheduler.IDLE_MS, WriteBehindScheduler.flushAt(first, last));
+    }
+
+    @Test
+    public void continuousChanges_flushWithinMaxDelay() {
+        long first = 1000;
+        long flushAt = first;
+        for (long t = first; t < first + 10_000; t += 100) {
+            flushAt = WriteBehindScheduler.flushAt(first, t);
+        }
+        assertEquals(first + WriteBehindScheduler.MAX_DELAY_MS, flushAt);
+    }
+}
@@ -0,0 +1,69 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+
+/**
+ * 필터별 JVM 마이크로 벤치마크 (단위 테스트가 아니므로 수동 실행).
+ * 기록된 시퀀스별 떨림/지연 표(GazeFilterQuality)를 먼저 출력하고,
+ * 시퀀스를 반복 재생하며 샘플당 평균 처리 시간을 출력한다.
+ *
+ * 실행: 테스트 클래스패스로 main()을 실행 (예: IDE에서 Run 'GazeFilterBenchmark.main()')
+ */
+public final class GazeFilterBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 2000;
+
+    private GazeFilterBenchmark() {}
+
+    public static void main(String[] args) throws IOException {
+        printQualityReport();
+
+        GazeTrace trace = GazeTrace.load("/oneeuro/saccade_balanced.csv");
+        long span = trace.timestamps[trace.size() - 1] - trace.timestamps[0] + 33;
+
+        for (GazeFilterType type : GazeFilterType.values()) {
+            GazeFilter filter = GazeFilters.create(type, 2);
+            run(filter, trace, span, WARMUP_ROUNDS);
+
+            long start = System.nanoTime();
+            double sink = run(filter, trace, span, MEASURED_ROUNDS);
+            long elapsed = System.nanoTime() - start;
+
+            long samples = (long) MEASURED_ROUNDS * trace.size();
+            System.out.println(String.format(Locale.US, "%-20s %8.1f ns/sample  (checksum %.3f)",
+                    type.name(), elapsed / (double) samples, sink));
+        }
+    }
+
+    private static void printQualityReport() throws IOException {
+        System.out.println("Gaze filter quality report");
+        for (String resource : GazeFilterQualityTest.TRACES) {
+            GazeTrace trace = GazeTrace.load(resource);
+            System.out.println(resource);
+            System.out.println("  " + GazeFilterQuality.measure("RAW", null, trace));
+            for (GazeFilterType type : GazeFilterType.values()) {
+                System.out.println("  " + GazeFilterQuality.measure(type.name(), GazeFilters.create(type, 2), trace));
+            }
+        }
+        System.out.println();
+    }
+
+    private static double run(GazeFilter filter, GazeTrace trace, long span, int rounds) {
+        double[] values = new double[2];
+        double sink = 0.0;
+        for (int r = 0; r < rounds; r++) {
+            long offset = r * span; // 타임스탬프가 계속 증가하도록 이어 붙임
+            for (int i = 0; i < trace.size(); i++) {
+                values[0] = trace.xs[i];
+                values[1] = trace.ys[i];
+                filter.filter(trace.timestamps[i] + offset, values);
+                sink += values[0];
+            }
+        }
+        return sink;
+    }
+}
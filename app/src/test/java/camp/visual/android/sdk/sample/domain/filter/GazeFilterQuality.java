@@ -0,0 +1,117 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import java.util.Locale;
+
+/**
+ * 기록된 시선 시퀀스에 대한 필터 품질 지표.
+ * - 떨림: 고정 응시 구간(최근 15샘플 분산 범위 60px 이하)에서 출력의 샘플 간 이동 RMS (px)
+ * - 지연: 도약(샘플 간 150px 이상 점프) 후 출력이 목표까지 남은 거리의 10% 안에 들어오기까지 걸린 시간 (ms)
+ * - 오버슈트: 도약 후 목표를 지나친 최대 거리 (px)
+ */
+final class GazeFilterQuality {
+
+    private static final int FIXATION_WINDOW = 15;
+    private static final double FIXATION_DISPERSION_PX = 60.0;
+    private static final double SACCADE_JUMP_PX = 150.0;
+    private static final long MAX_SAMPLE_GAP_MS = 200;
+    private static final int TARGET_SAMPLES = 10;
+    private static final double SETTLE_RATIO = 0.1;
+
+    final String name;
+    final double jitterPx;
+    final double lagMs;
+    final double overshootPx;
+
+    private GazeFilterQuality(String name, double jitterPx, double lagMs, double overshootPx) {
+        this.name = name;
+        this.jitterPx = jitterPx;
+        this.lagMs = lagMs;
+        this.overshootPx = overshootPx;
+    }
+
+    /**
+     * @param filter null이면 원시 입력 자체를 평가한다
+     */
+    static GazeFilterQuality measure(String name, GazeFilter filter, GazeTrace trace) {
+        int n = trace.size();
+        double[] outX = new double[n];
+        double[] outY = new double[n];
+        double[] values = new double[2];
+        for (int i = 0; i < n; i++) {
+            values[0] = trace.xs[i];
+            values[1] = trace.ys[i];
+            if (filter != null) {
+                filter.filter(trace.timestamps[i], values);
+            }
+            outX[i] = values[0];
+            outY[i] = values[1];
+        }
+
+        // 떨림
+        double jitterSum = 0.0;
+        int jitterCount = 0;
+        for (int i = FIXATION_WINDOW; i < n; i++) {
+            if (isSettledFixation(trace, i)) {
+                double dx = outX[i] - outX[i - 1];
+                double dy = outY[i] - outY[i - 1];
+                jitterSum += dx * dx + dy * dy;
+                jitterCount++;
+            }
+        }
+
+        // 지연과 오버슈트
+        double lagSum = 0.0;
+        int lagCount = 0;
+        double overshoot = 0.0;
+        for (int i = 1; i + TARGET_SAMPLES < n; i++) {
+            if (trace.timestamps[i] - trace.timestamps[i - 1] > MAX_SAMPLE_GAP_MS) continue;
+            double jump = Math.hypot(trace.xs[i] - trace.xs[i - 1], trace.ys[i] - trace.ys[i - 1]);
+            if (jump < SACCADE_JUMP_PX) continue;
+
+            double targetX = 0.0, targetY = 0.0;
+            for (int k = i; k < i + TARGET_SAMPLES; k++) {
+                targetX += trace.xs[k];
+                targetY += trace.ys[k];
+            }
+            targetX /= TARGET_SAMPLES;
+            targetY /= TARGET_SAMPLES;
+
+            double startX = outX[i - 1], startY = outY[i - 1];
+            double distance = Math.hypot(targetX - startX, targetY - startY);
+            double dirX = (targetX - startX) / distance, dirY = (targetY - startY) / distance;
+            for (int k = i; k < n; k++) {
+                double progress = (outX[k] - startX) * dirX + (outY[k] - startY) * dirY;
+                overshoot = Math.max(overshoot, progress - distance);
+                if (Math.hypot(targetX - outX[k], targetY - outY[k]) <= distance * SETTLE_RATIO) {
+                    lagSum += trace.timestamps[k] - trace.timestamps[i];
+                    lagCount++;
+                    break;
+                }
+            }
+        }
+
+        return new GazeFilterQuality(name,
+                jitterCount == 0 ? 0.0 : Math.sqrt(jitterSum / jitterCount),
+                lagCount == 0 ? Double.NaN : lagSum / lagCount,
+                overshoot);
+    }
+
+    private static boolean isSettledFixation(GazeTrace trace, int end) {
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int k = end - FIXATION_WINDOW + 1; k <= end; k++) {
+            if (trace.timestamps[k] - trace.timestamps[k - 1] > MAX_SAMPLE_GAP_MS) return false;
+            minX = Math.min(minX, trace.xs[k]);
+            maxX = Math.max(maxX, trace.xs[k]);
+            minY = Math.min(minY, trace.ys[k]);
+            maxY = Math.max(maxY, trace.ys[k]);
+        }
+        return (maxX - minX) + (maxY - minY) <= FIXATION_DISPERSION_PX;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%-20s jitter=%6.2fpx lag=%6.1fms overshoot=%6.1fpx",
+                name, jitterPx, lagMs, overshootPx);
+    }
+}
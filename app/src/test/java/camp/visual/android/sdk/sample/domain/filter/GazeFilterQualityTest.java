@@ -0,0 +1,38 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 기록된 시선 시퀀스에서 모든 필터가 원시 입력보다 떨림을 줄이면서
+ * 도약 지연이 허용 범위 안에 있는지 확인한다 (수치 표는 GazeFilterBenchmark에서 출력).
+ */
+public class GazeFilterQualityTest {
+
+    static final String[] TRACES = {
+            "/oneeuro/saccade_balanced.csv",
+            "/oneeuro/pursuit_responsive.csv",
+    };
+
+    // 도약 후 목표 근처에 도달하기까지 허용하는 평균 지연
+    private static final double MAX_LAG_MS = 400.0;
+
+    @Test
+    public void everyFilter_reducesJitterWithBoundedLag() throws IOException {
+        for (String resource : TRACES) {
+            GazeTrace trace = GazeTrace.load(resource);
+            GazeFilterQuality raw = GazeFilterQuality.measure("RAW", null, trace);
+
+            for (GazeFilterType type : GazeFilterType.values()) {
+                GazeFilterQuality quality = GazeFilterQuality.measure(type.name(), GazeFilters.create(type, 2), trace);
+                assertTrue(resource + " " + quality, quality.jitterPx < raw.jitterPx);
+                assertTrue(resource + " " + quality, quality.lagMs <= MAX_LAG_MS);
+            }
+        }
+    }
+}
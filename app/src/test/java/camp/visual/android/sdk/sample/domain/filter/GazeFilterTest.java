@@ -0,0 +1,85 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 칼만/이중 지수/중앙값 필터의 기본 동작 확인
+ */
+public class GazeFilterTest {
+
+    @Test
+    public void slidingMedian_matchesSortedWindow() {
+        Random random = new Random(7L);
+        for (int window = 1; window <= 9; window++) {
+            SlidingMedianGazeFilter filter = new SlidingMedianGazeFilter(1, window);
+            double[] history = new double[2000];
+            double[] value = new double[1];
+            for (int i = 0; i < history.length; i++) {
+                // 중복 값이 자주 나오도록 정수로 양자화
+                history[i] = random.nextInt(50);
+                value[0] = history[i];
+                filter.filter(i * 33L, value);
+
+                int from = Math.max(0, i - window + 1);
+                double[] sorted = Arrays.copyOfRange(history, from, i + 1);
+                Arrays.sort(sorted);
+                int n = sorted.length;
+                double expected = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+                assertEquals("window " + window + " sample " + i, expected, value[0], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void slidingMedian_restartsAfterGap() {
+        SlidingMedianGazeFilter filter = new SlidingMedianGazeFilter(1, 5);
+        double[] value = new double[1];
+        for (int i = 0; i < 5; i++) {
+            value[0] = 100;
+            filter.filter(i * 33L, value);
+        }
+        value[0] = 500;
+        filter.filter(5 * 33L + 1000, value);
+        assertEquals(500, value[0], 0.0);
+    }
+
+    @Test
+    public void kalman_convergesToStationaryTarget() {
+        KalmanGazeFilter filter = new KalmanGazeFilter(2);
+        double[] values = new double[2];
+        for (int i = 0; i < 200; i++) {
+            values[0] = 300;
+            values[1] = 700;
+            filter.filter(i * 33L, values);
+        }
+        assertEquals(300, values[0], 1e-6);
+        assertEquals(700, values[1], 1e-6);
+    }
+
+    @Test
+    public void kalman_tracksConstantVelocityWithoutLag() {
+        KalmanGazeFilter filter = new KalmanGazeFilter(1);
+        double[] value = new double[1];
+        for (int i = 0; i < 300; i++) {
+            value[0] = i * 10.0;
+            filter.filter(i * 33L, value);
+        }
+        assertEquals(299 * 10.0, value[0], 0.5);
+    }
+
+    @Test
+    public void doubleExponential_tracksRampWithoutSteadyStateLag() {
+        DoubleExponentialGazeFilter filter = new DoubleExponentialGazeFilter(1);
+        double[] value = new double[1];
+        for (int i = 0; i < 500; i++) {
+            value[0] = i * 5.0;
+            filter.filter(i * 33L, value);
+        }
+        assertEquals(499 * 5.0, value[0], 0.5);
+    }
+}
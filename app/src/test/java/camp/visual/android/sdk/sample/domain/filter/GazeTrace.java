@@ -0,0 +1,69 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트 리소스로 기록된 시선 시퀀스 (timestamp,x,y[,기대 출력...]).
+ * '#'으로 시작하는 줄의 key=value 토큰은 파라미터로 읽는다.
+ */
+final class GazeTrace {
+
+    final Map<String, Double> params = new HashMap<>();
+    final long[] timestamps;
+    final float[] xs;
+    final float[] ys;
+    final List<String[]> rows;
+
+    private GazeTrace(Map<String, Double> params, List<String[]> rows) {
+        this.params.putAll(params);
+        this.rows = rows;
+        int n = rows.size();
+        timestamps = new long[n];
+        xs = new float[n];
+        ys = new float[n];
+        for (int i = 0; i < n; i++) {
+            String[] row = rows.get(i);
+            timestamps[i] = Long.parseLong(row[0]);
+            xs[i] = Float.parseFloat(row[1]);
+            ys[i] = Float.parseFloat(row[2]);
+        }
+    }
+
+    int size() {
+        return timestamps.length;
+    }
+
+    static GazeTrace load(String resource) throws IOException {
+        InputStream in = GazeTrace.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("missing trace resource " + resource);
+        }
+
+        Map<String, Double> params = new HashMap<>();
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) {
+                    for (String token : line.substring(1).trim().split(" ")) {
+                        int eq = token.indexOf('=');
+                        if (eq > 0) {
+                            params.put(token.substring(0, eq), Double.parseDouble(token.substring(eq + 1)));
+                        }
+                    }
+                } else if (!line.isEmpty()) {
+                    rows.add(line.split(","));
+                }
+            }
+        }
+        return new GazeTrace(params, rows);
+    }
+}
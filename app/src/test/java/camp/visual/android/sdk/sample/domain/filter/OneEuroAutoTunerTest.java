@@ -0,0 +1,92 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 자동 조정기: 고정 응시 떨림과 도약 속도로부터 범위 안의 minCutoff/beta를 추정하는지 확인
+ */
+public class OneEuroAutoTunerTest {
+
+    private static final long INTERVAL_MS = 33;
+
+    /**
+     * 고정 응시(fixationLength 샘플)와 도약(3 샘플, 600px)을 번갈아 생성해 넣는다.
+     */
+    private static OneEuroAutoTuner run(double noiseStdDev, int cycles, long seed) {
+        OneEuroAutoTuner tuner = new OneEuroAutoTuner(1.0, 0.007, 30.0);
+        Random random = new Random(seed);
+        long t = 0;
+        double cx = 300;
+        for (int c = 0; c < cycles; c++) {
+            for (int i = 0; i < 60; i++) {
+                tuner.update(t, cx + random.nextGaussian() * noiseStdDev, 800 + random.nextGaussian() * noiseStdDev);
+                t += INTERVAL_MS;
+            }
+            double target = cx == 300 ? 900 : 300;
+            for (int i = 1; i <= 3; i++) {
+                tuner.update(t, cx + (target - cx) * i / 3.0, 800);
+                t += INTERVAL_MS;
+            }
+            cx = target;
+        }
+        return tuner;
+    }
+
+    @Test
+    public void noiseAndSaccadeSpeed_areEstimated() {
+        OneEuroAutoTuner tuner = run(8.0, 20, 1L);
+
+        assertEquals(8.0, tuner.getNoiseStdDev(), 1.5);
+        assertEquals(1000.0 / INTERVAL_MS, tuner.getSampleRate(), 0.5);
+        // 3샘플에 600px → 샘플당 200px / 33ms (착지 샘플의 떨림만큼 오차 허용)
+        assertEquals(200.0 * 1000 / INTERVAL_MS, tuner.getSaccadeSpeed(), 200.0 * 1000 / INTERVAL_MS * 0.1);
+    }
+
+    @Test
+    public void noisierGaze_getsLowerMinCutoff() {
+        OneEuroAutoTuner quiet = run(3.0, 20, 2L);
+        OneEuroAutoTuner noisy = run(12.0, 20, 3L);
+
+        assertTrue(noisy.getMinCutoff() < quiet.getMinCutoff());
+        assertTrue(noisy.getMinCutoff() >= OneEuroAutoTuner.MIN_CUTOFF_LOWER);
+        assertTrue(quiet.getMinCutoff() <= OneEuroAutoTuner.MIN_CUTOFF_UPPER);
+    }
+
+    @Test
+    public void beta_reachesTargetCutoffAtSaccadeSpeed() {
+        OneEuroAutoTuner tuner = run(8.0, 20, 4L);
+
+        // 마지막 갱신 이후에도 속도 추정은 계속 움직이므로 약간의 오차 허용
+        double cutoffAtSaccade = tuner.getMinCutoff() + tuner.getBeta() * tuner.getSaccadeSpeed();
+        assertEquals(OneEuroAutoTuner.TARGET_SACCADE_CUTOFF_HZ, cutoffAtSaccade, 0.5);
+        assertTrue(tuner.getBeta() >= OneEuroAutoTuner.BETA_LOWER);
+        assertTrue(tuner.getBeta() <= OneEuroAutoTuner.BETA_UPPER);
+    }
+
+    @Test
+    public void initialValues_areKeptUntilEnoughFixationSamples() {
+        OneEuroAutoTuner tuner = new OneEuroAutoTuner(0.8, 0.005, 30.0);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(tuner.update(i * INTERVAL_MS, 500, 500));
+        }
+        assertEquals(0.8, tuner.getMinCutoff(), 0.0);
+        assertEquals(0.005, tuner.getBeta(), 0.0);
+    }
+
+    @Test
+    public void minCutoffForNoise_matchesLowPassNoiseReduction() {
+        double rate = 30.0;
+        double cutoff = OneEuroAutoTuner.minCutoffForNoise(8.0, rate);
+        double alpha = OneEuroFilter.alpha(rate, cutoff);
+        double outputStdDev = 8.0 * Math.sqrt(alpha / (2 - alpha));
+        assertEquals(OneEuroAutoTuner.TARGET_JITTER_PX, outputStdDev, 1e-9);
+
+        assertEquals(OneEuroAutoTuner.MIN_CUTOFF_UPPER, OneEuroAutoTuner.minCutoffForNoise(1.0, rate), 0.0);
+    }
+}
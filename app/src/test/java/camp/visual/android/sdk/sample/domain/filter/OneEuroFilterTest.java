@@ -0,0 +1,89 @@
+package camp.visual.android.sdk.sample.domain.filter;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * 1€ 필터 골든 테스트.
+ * 기록된 시선 시퀀스(고정 → 도약 → 고정, 불규칙 샘플 간격, 400ms 추적 끊김 포함)에 대해
+ * 참조 구현(Casiez Java 버전, ms 타임스탬프)과 비트 단위로 같은 결과를 내는지 확인한다.
+ */
+public class OneEuroFilterTest {
+
+    @Test
+    public void saccadeSequence_matchesGoldenBitForBit() throws IOException {
+        assertGolden("/oneeuro/saccade_balanced.csv");
+    }
+
+    @Test
+    public void pursuitSequence_matchesGoldenBitForBit() throws IOException {
+        assertGolden("/oneeuro/pursuit_responsive.csv");
+    }
+
+    @Test
+    public void sampleRate_isEstimatedFromTimestamps() {
+        OneEuroFilter filter = new OneEuroFilter(1, 30.0, 1.0, 0.007, 1.0);
+        double[] value = new double[1];
+        long t = 0;
+        for (int i = 0; i < 200; i++) {
+            value[0] = i;
+            filter.filter(t, value);
+            t += 16; // 62.5Hz
+        }
+        assertEquals(62.5, filter.getEstimatedRate(), 0.01);
+    }
+
+    @Test
+    public void setParameters_keepsFilterState() {
+        OneEuroFilter filter = new OneEuroFilter(1, 30.0, 1.0, 0.0, 1.0);
+        double[] value = new double[1];
+        long t = 0;
+        for (int i = 0; i < 30; i++) {
+            value[0] = 100.0;
+            filter.filter(t, value);
+            t += 33;
+        }
+
+        // 파라미터를 바꾼 직후의 샘플도 이전 상태에서 이어서 평활화되어야 한다
+        filter.setParameters(30.0, 0.5, 0.0, 1.0);
+        value[0] = 200.0;
+        filter.filter(t, value);
+        assertNotEquals(200.0, value[0], 1e-9);
+        assertEquals(100.0 + 100.0 * OneEuroFilter.alpha(1000.0 / 33, 0.5), value[0], 1e-9);
+    }
+
+    @Test
+    public void duplicateTimestamp_usesEstimatedRate() {
+        OneEuroFilter filter = new OneEuroFilter(1, 30.0, 1.0, 0.0, 1.0);
+        double[] value = {0.0};
+        filter.filter(1000, value);
+        value[0] = 10.0;
+        filter.filter(1000, value);
+        assertEquals(10.0 * OneEuroFilter.alpha(30.0, 1.0), value[0], 1e-12);
+    }
+
+    private void assertGolden(String resource) throws IOException {
+        GazeTrace trace = GazeTrace.load(resource);
+        Map<String, Double> params = trace.params;
+
+        OneEuroFilter filter = new OneEuroFilter(2, params.get("freq"), params.get("minCutoff"),
+                params.get("beta"), params.get("dCutoff"));
+        double[] values = new double[2];
+        for (int i = 0; i < trace.size(); i++) {
+            String[] row = trace.rows.get(i);
+            values[0] = trace.xs[i];
+            values[1] = trace.ys[i];
+            filter.filter(trace.timestamps[i], values);
+
+            assertEquals(resource + " row " + i + " x",
+                    Double.doubleToLongBits(Double.parseDouble(row[3])), Double.doubleToLongBits(values[0]));
+            assertEquals(resource + " row " + i + " y",
+                    Double.doubleToLongBits(Double.parseDouble(row[4])), Double.doubleToLongBits(values[1]));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 눈 깜빡임 클릭: 긴/두 번 깜빡임은 클릭, 자연스러운 깜빡임과 잡음은 무시, 위치는 감기 직전 값으로 고정
+ */
+public class BlinkClickDetectorTest {
+
+    private static final long INTERVAL_MS = 33;
+
+    private BlinkClickDetector detector;
+    private long t;
+    private int clicks;
+
+    @Before
+    public void setUp() {
+        detector = new BlinkClickDetector(new UserSettings.Builder().blinkDetectionEnabled(true).build());
+        t = 0;
+        clicks = 0;
+    }
+
+    @Test
+    public void longBlink_clicksAtPositionBeforeClosure() {
+        open(10, 300f, 400f);
+        open(1, 310f, 420f); // 감기 직전 눈꺼풀 움직임으로 흔들린 샘플
+        closed(700);
+        open(1, 900f, 900f);
+
+        assertEquals(1, clicks);
+        assertEquals(300f, detector.getFrozenX(), 0f);
+        assertEquals(400f, detector.getFrozenY(), 0f);
+    }
+
+    @Test
+    public void doubleBlink_clicks() {
+        open(10, 300f, 400f);
+        closed(100);
+        open(4, 300f, 400f);
+        closed(100);
+        open(1, 300f, 400f);
+
+        assertEquals(1, clicks);
+    }
+
+    @Test
+    public void singleNaturalBlink_isIgnored() {
+        open(10, 300f, 400f);
+        closed(150);
+        open(30, 300f, 400f);
+
+        assertEquals(0, clicks);
+        assertFalse(detector.isHolding());
+    }
+
+    @Test
+    public void naturalBlinksFarApart_areNotADoubleBlink() {
+        open(10, 300f, 400f);
+        closed(150);
+        open(30, 300f, 400f); // 1초 간격
+        closed(150);
+        open(30, 300f, 400f);
+
+        assertEquals(0, clicks);
+    }
+
+    @Test
+    public void singleFrameClosure_isDebounced() {
+        open(10, 300f, 400f);
+        closed(1);
+        open(3, 300f, 400f);
+        closed(1);
+        open(30, 300f, 400f);
+
+        assertEquals(0, clicks);
+    }
+
+    @Test
+    public void eyesRestingTooLong_doesNotClick() {
+        open(10, 300f, 400f);
+        closed(3000);
+        open(10, 300f, 400f);
+
+        assertEquals(0, clicks);
+    }
+
+    @Test
+    public void cursorIsHeldWhileEyesClosed() {
+        open(10, 300f, 400f);
+        detector.update(t += INTERVAL_MS, true, 50f, 50f);
+        assertTrue(detector.isHolding());
+        assertEquals(300f, detector.getFrozenX(), 0f);
+    }
+
+    @Test
+    public void refractoryPeriod_preventsImmediateSecondClick() {
+        open(10, 300f, 400f);
+        closed(700);
+        open(1, 300f, 400f);
+        closed(700); // 클릭 직후 바로 감은 경우
+        open(1, 300f, 400f);
+
+        assertEquals(1, clicks);
+    }
+
+    @Test
+    public void disabled_neverClicks() {
+        detector = new BlinkClickDetector(new UserSettings.Builder().blinkDetectionEnabled(false).build());
+        open(10, 300f, 400f);
+        closed(700);
+        open(1, 300f, 400f);
+
+        assertEquals(0, clicks);
+    }
+
+    private void open(int samples, float x, float y) {
+        for (int i = 0; i < samples; i++) {
+            feed(false, x, y);
+        }
+    }
+
+    private void closed(long durationMs) {
+        long samples = Math.max(1, durationMs / INTERVAL_MS);
+        for (int i = 0; i < samples; i++) {
+            feed(true, 0f, 0f);
+        }
+    }
+
+    private void feed(boolean eyesClosed, float x, float y) {
+        t += INTERVAL_MS;
+        if (detector.update(t, eyesClosed, x, y)) {
+            clicks++;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 클릭 대상 격자 색인: 전수 탐색과 같은 결과를 내는지, 점 조회와 태그, 창/영역 단위 갱신이 맞는지 확인
+ */
+public class ClickTargetIndexTest {
+
+    @Test
+    public void nearest_prefersContainingSmallestTarget() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder()
+                .add(1, 0, 0, 1000, 200)     // 목록 행
+                .add(1, 900, 50, 980, 150)   // 행 안의 작은 버튼
+                .build();
+
+        assertEquals(1, index.nearest(940, 100, 50));
+        assertEquals(0, index.nearest(500, 100, 50));
+    }
+
+    @Test
+    public void nearest_respectsRadius() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder()
+                .add(1, 100, 100, 150, 150)
+                .build();
+
+        assertEquals(0, index.nearest(180, 125, 40));   // 가장자리에서 30px
+        assertEquals(-1, index.nearest(200, 125, 40));  // 50px
+        assertEquals(-1, ClickTargetIndex.EMPTY.nearest(0, 0, 100));
+    }
+
+    @Test
+    public void nearest_matchesBruteForce() {
+        Random random = new Random(7);
+        ClickTargetIndex.Builder builder = new ClickTargetIndex.Builder();
+        for (int i = 0; i < 300; i++) {
+            float left = random.nextInt(1000);
+            float top = random.nextInt(2200);
+            builder.add(1, left, top, left + 40 + random.nextInt(200), top + 40 + random.nextInt(120));
+        }
+        ClickTargetIndex index = builder.build();
+
+        for (int q = 0; q < 2000; q++) {
+            float x = random.nextInt(1080);
+            float y = random.nextInt(2340);
+            int found = index.nearest(x, y, 120);
+
+            float bestDistance = Float.MAX_VALUE;
+            for (int i = 0; i < index.size(); i++) {
+                bestDistance = Math.min(bestDistance, index.distance(i, x, y));
+            }
+            if (bestDistance > 120) {
+                assertEquals(-1, found);
+            } else {
+                assertEquals(bestDistance, index.distance(found, x, y), 1e-3f);
+            }
+        }
+    }
+
+    @Test
+    public void containing_returnsTaggedTargetsUnderPoint() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder()
+                .add(1, 10, 0, 0, 1000, 200)      // 목록 행
+                .add(1, 11, 900, 50, 980, 150)    // 행 안의 작은 버튼
+                .add(1, 12, 0, 300, 1000, 400)
+                .add(2, 0, 500, 10, 510)          // 태그 없음
+                .build();
+        int[] hits = new int[4];
+
+        int count = index.containing(940, 100, hits);
+        assertEquals(2, count);
+        assertEquals(21, index.getTag(hits[0]) + index.getTag(hits[1]));
+
+        assertEquals(0, index.containing(500, 250, hits));
+        assertEquals(1, index.containing(5, 505, hits));
+        assertEquals(ClickTargetIndex.NO_TAG, index.getTag(hits[0]));
+    }
+
+    @Test
+    public void tagsFollowTargetsAcrossRemoval() {
+        ClickTargetIndex.Builder builder = new ClickTargetIndex.Builder()
+                .add(1, 100, 0, 0, 100, 100)
+                .add(1, 101, 0, 500, 100, 600)
+                .add(1, 102, 0, 900, 100, 1000);
+
+        builder.removeWithin(1, 0, 400, 1080, 800);
+        ClickTargetIndex index = builder.build();
+        int[] hits = new int[2];
+
+        assertEquals(1, index.containing(50, 950, hits));
+        assertEquals(102, index.getTag(hits[0]));
+    }
+
+    @Test
+    public void builder_removesOnlyChangedSubtreeOfWindow() {
+        ClickTargetIndex.Builder builder = new ClickTargetIndex.Builder()
+                .add(1, 0, 0, 100, 100)
+                .add(1, 0, 500, 100, 600)
+                .add(2, 0, 500, 100, 600);
+
+        builder.removeWithin(1, 0, 400, 1080, 800);
+        assertEquals(2, builder.size());
+
+        builder.removeWindow(2);
+        ClickTargetIndex index = builder.build();
+        assertEquals(1, index.size());
+        assertEquals(0f, index.getTop(0), 0f);
+    }
+}
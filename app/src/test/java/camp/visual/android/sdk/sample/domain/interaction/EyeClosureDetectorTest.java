@@ -0,0 +1,56 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 눈 감김 판정: 두 눈 모두 감아야 감음, 두 기준 사이에서는 이전 상태 유지, 긴 깜빡임이 클릭까지 이어지는지
+ */
+public class EyeClosureDetectorTest {
+
+    private static final long INTERVAL_MS = 33;
+
+    @Test
+    public void bothEyesMustClose() {
+        EyeClosureDetector detector = new EyeClosureDetector();
+        assertFalse(detector.update(0.9f, 0.9f));
+        assertFalse("한쪽 눈만 감음", detector.update(0.05f, 0.8f));
+        assertTrue(detector.update(0.05f, 0.1f));
+    }
+
+    @Test
+    public void hysteresisKeepsStateBetweenThresholds() {
+        EyeClosureDetector detector = new EyeClosureDetector();
+        float between = (EyeClosureDetector.CLOSE_THRESHOLD + EyeClosureDetector.OPEN_THRESHOLD) / 2f;
+
+        assertFalse(detector.update(between, between));
+        assertTrue(detector.update(0.1f, 0.1f));
+        assertTrue("반쯤 뜬 상태는 아직 감음", detector.update(between, between));
+        assertFalse(detector.update(0.8f, 0.7f));
+        assertFalse("반쯤 감은 상태는 아직 뜸", detector.update(between, between));
+    }
+
+    @Test
+    public void longBlinkFromOpennessConfirmsClick() {
+        EyeClosureDetector closure = new EyeClosureDetector();
+        BlinkClickDetector blink = new BlinkClickDetector(new UserSettings.Builder().blinkDetectionEnabled(true).build());
+
+        long t = 0;
+        for (; t < 500; t += INTERVAL_MS) {
+            assertFalse(blink.update(t, closure.update(0.9f, 0.9f), 300f, 300f));
+        }
+        // 눈꺼풀이 내려오는 중간값을 거쳐 700ms 동안 감음
+        assertFalse(blink.update(t, closure.update(0.3f, 0.3f), 300f, 300f));
+        t += INTERVAL_MS;
+        for (long end = t + 700; t < end; t += INTERVAL_MS) {
+            assertFalse(blink.update(t, closure.update(0.05f, 0.08f), 300f, 300f));
+        }
+        assertFalse(blink.update(t, closure.update(0.3f, 0.25f), 300f, 300f));
+        t += INTERVAL_MS;
+        assertTrue(blink.update(t, closure.update(0.9f, 0.9f), 300f, 300f));
+    }
+}
@@ -0,0 +1,253 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 고정 응시 분류기: 중심/분산 계산, 튄 샘플 무시, 도약 감지, 응시 클릭 시점 확인
+ */
+public class FixationClassifierTest {
+
+    private static final long INTERVAL_MS = 33;
+
+    private static class RecordingListener implements FixationClassifier.Listener {
+        int starts;
+        int ends;
+        long lastDurationMs;
+        float centerX;
+        float centerY;
+
+        @Override
+        public void onFixationStart(long timestampMs, float cx, float cy) {
+            starts++;
+            centerX = cx;
+            centerY = cy;
+        }
+
+        @Override
+        public void onFixationUpdate(long timestampMs, float cx, float cy, long durationMs) {
+            centerX = cx;
+            centerY = cy;
+            lastDurationMs = durationMs;
+        }
+
+        @Override
+        public void onFixationEnd(long timestampMs, long durationMs) {
+            ends++;
+            lastDurationMs = durationMs;
+        }
+    }
+
+    @Test
+    public void centroidAndDispersion_areComputedOverWindow() {
+        RecordingListener listener = new RecordingListener();
+        FixationClassifier classifier = new FixationClassifier(FixationClassifier.Mode.DISPERSION, 40f, 4, listener);
+
+        // 윈도 4개보다 많이 넣으면 오래된 샘플은 빠진다
+        float[] xs = {120f, 100f, 110f, 90f, 100f, 100f};
+        float[] ys = {200f, 200f, 190f, 210f, 200f, 200f};
+        long t = 0;
+        for (int i = 0; i < xs.length; i++, t += INTERVAL_MS) {
+            classifier.update(t, xs[i], ys[i]);
+        }
+
+        // 마지막 4개: (110,190) (90,210) (100,200) (100,200) → 거리² 평균 100
+        assertEquals(100f, classifier.getCenterX(), 1e-4f);
+        assertEquals(200f, classifier.getCenterY(), 1e-4f);
+        assertEquals(10f, classifier.getDispersion(), 1e-3f);
+        assertEquals(100f, listener.centerX, 1e-4f);
+    }
+
+    @Test
+    public void noisyFirstSample_doesNotBreakFixation() {
+        RecordingListener listener = new RecordingListener();
+        FixationClassifier classifier = new FixationClassifier(FixationClassifier.Mode.DISPERSION, 40f, 30, listener);
+
+        // 첫 샘플만 35px 떨어져 있어도 중심 기준이므로 이후 샘플이 모두 반경 안에 든다
+        classifier.update(0, 535f, 500f);
+        long t = INTERVAL_MS;
+        for (int i = 0; i < 40; i++) {
+            classifier.update(t, 500f + (i % 2 == 0 ? -3f : 3f), 500f);
+            t += INTERVAL_MS;
+        }
+
+        assertEquals(1, listener.starts);
+        assertEquals(0, listener.ends);
+        assertTrue(classifier.isFixating());
+        assertEquals(500f, classifier.getCenterX(), 2f);
+    }
+
+    @Test
+    public void singleOutlier_isIgnored() {
+        for (FixationClassifier.Mode mode : FixationClassifier.Mode.values()) {
+            RecordingListener listener = new RecordingListener();
+            FixationClassifier classifier = new FixationClassifier(mode, threshold(mode), 30, listener);
+
+            long t = 0;
+            for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+                classifier.update(t, 300f, 300f);
+            }
+            classifier.update(t, 600f, 300f); // 한 샘플만 튐
+            t += INTERVAL_MS;
+            for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+                classifier.update(t, 300f, 300f);
+            }
+
+            assertEquals(mode.name(), 1, listener.starts);
+            assertEquals(mode.name(), 0, listener.ends);
+            assertEquals(mode.name(), 300f, classifier.getCenterX(), 1e-4f);
+        }
+    }
+
+    @Test
+    public void saccade_endsFixationAndStartsNewOne() {
+        for (FixationClassifier.Mode mode : FixationClassifier.Mode.values()) {
+            RecordingListener listener = new RecordingListener();
+            FixationClassifier classifier = new FixationClassifier(mode, threshold(mode), 30, listener);
+
+            long t = 0;
+            for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+                classifier.update(t, 300f, 300f);
+            }
+            for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+                classifier.update(t, 800f, 300f);
+            }
+
+            assertEquals(mode.name(), 1, listener.ends);
+            assertEquals(mode.name(), 2, listener.starts);
+            assertEquals(mode.name(), 800f, classifier.getCenterX(), 1e-4f);
+        }
+    }
+
+    @Test
+    public void sampleGap_endsFixation() {
+        RecordingListener listener = new RecordingListener();
+        FixationClassifier classifier = new FixationClassifier(FixationClassifier.Mode.DISPERSION, 40f, 30, listener);
+
+        long t = 0;
+        for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+            classifier.update(t, 300f, 300f);
+        }
+        classifier.update(t + 500, 300f, 300f);
+
+        assertEquals(1, listener.ends);
+        assertFalse(classifier.isFixating());
+    }
+
+    @Test
+    public void dispersionAoi_isSquareLikeLegacyDetector() {
+        RecordingListener listener = new RecordingListener();
+        FixationClassifier classifier = new FixationClassifier(FixationClassifier.Mode.DISPERSION, 40f, 30, listener);
+        long t = 0;
+        for (int i = 0; i < 10; i++, t += INTERVAL_MS) {
+            classifier.update(t, 500f, 500f);
+        }
+
+        // 대각선 (35, 35)는 중심에서 49px이지만 반폭 40px 정사각형 안이다
+        classifier.update(t, 535f, 535f);
+        t += INTERVAL_MS;
+        classifier.update(t, 535f, 535f);
+        assertEquals(0, listener.ends);
+
+        // 한 축으로 반폭 이상 벗어나면 도약
+        t += INTERVAL_MS;
+        classifier.update(t, 580f, 500f);
+        t += INTERVAL_MS;
+        classifier.update(t, 580f, 500f);
+        assertEquals(1, listener.ends);
+    }
+
+    @Test
+    public void dwellClick_firesAfterFixationDuration() {
+        UserSettings settings = new UserSettings.Builder()
+                .fixationDurationMs(1000f)
+                .aoiRadius(40f)
+                .clickEnabled(true)
+                .build();
+        ClickDetector detector = new ClickDetector(settings);
+
+        long start = 10_000;
+        long clickAt = -1;
+        for (long t = start; t < start + 2000; t += 10) {
+            // 첫 샘플은 크게 떨어져 있고 이후는 작은 떨림
+            float x = t == start ? 530f : 500f + ((t / 10) % 3 - 1) * 5f;
+            if (detector.update(t, x, 500f)) {
+                clickAt = t;
+                break;
+            }
+        }
+
+        // 고정 응시는 첫 샘플부터 시작되고, 샘플 타임스탬프 기준 1000ms 뒤에 클릭된다
+        assertEquals(start + 1000, clickAt);
+        assertEquals(0f, detector.getProgress(), 0f);
+    }
+
+    @Test
+    public void dwellClick_disabledNeverFires() {
+        UserSettings settings = new UserSettings.Builder().clickEnabled(false).build();
+        ClickDetector detector = new ClickDetector(settings);
+        for (long t = 0; t < 3000; t += 33) {
+            assertFalse(detector.update(t, 500f, 500f));
+        }
+    }
+
+    @Test
+    public void dwellClick_notConfirmedOnStraySample() {
+        UserSettings settings = new UserSettings.Builder()
+                .fixationDurationMs(1000f)
+                .aoiRadius(40f)
+                .clickEnabled(true)
+                .build();
+        ClickDetector detector = new ClickDetector(settings);
+
+        // 응시 시간이 다 차는 바로 그 샘플이 도약의 첫 샘플(분류기가 한 번 무시하는 튄 샘플)이면 클릭하지 않는다
+        long t = 0;
+        for (; t < 1000; t += 10) {
+            assertFalse(detector.update(t, 500f, 500f));
+        }
+        assertFalse("튄 샘플에서 클릭", detector.update(t, 800f, 500f));
+
+        // 도약이 이어지면 새 고정 응시는 처음부터 다시 잰다
+        long saccadeAt = t;
+        long clickAt = -1;
+        for (t += 10; t < saccadeAt + 2000; t += 10) {
+            if (detector.update(t, 800f, 500f)) {
+                clickAt = t;
+                break;
+            }
+        }
+        assertTrue(clickAt >= saccadeAt + 1000);
+        assertEquals(800f, detector.getClickX(), 1e-3f);
+        assertEquals(500f, detector.getClickY(), 1e-3f);
+    }
+
+    @Test
+    public void dwellClick_firesAtFixationCenter() {
+        UserSettings settings = new UserSettings.Builder()
+                .fixationDurationMs(500f)
+                .aoiRadius(40f)
+                .clickEnabled(true)
+                .build();
+        ClickDetector detector = new ClickDetector(settings);
+
+        boolean clicked = false;
+        for (long t = 0; t < 1000 && !clicked; t += 10) {
+            // 중심 (500, 500) 주위를 ±10px로 번갈아 흔들림
+            float offset = (t / 10) % 2 == 0 ? 10f : -10f;
+            clicked = detector.update(t, 500f + offset, 500f - offset);
+        }
+
+        assertTrue(clicked);
+        assertEquals(500f, detector.getClickX(), 10f / 3);
+        assertEquals(500f, detector.getClickY(), 10f / 3);
+    }
+
+    private static float threshold(FixationClassifier.Mode mode) {
+        return mode == FixationClassifier.Mode.DISPERSION ? 40f : ClickDetector.VELOCITY_THRESHOLD_PX_PER_S;
+    }
+}
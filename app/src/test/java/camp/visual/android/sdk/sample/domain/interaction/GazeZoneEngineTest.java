@@ -0,0 +1,125 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.model.CursorGlyph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 영역 엔진: 경계 떨림에 타이머가 초기화되지 않는지, 단계/실행 시점과 영역 우선순위 확인
+ */
+public class GazeZoneEngineTest {
+
+    private static final float WIDTH = 1080f;
+    private static final float HEIGHT = 2400f;
+    private static final long INTERVAL_MS = 33;
+    private static final long TRIGGER_MS = 3000;
+
+    private GazeZoneEngine engine;
+    private long t;
+
+    @Before
+    public void setUp() {
+        engine = new GazeZoneEngine(EdgeScrollDetector.defaultZones(0.1f), new SampleClock(), TRIGGER_MS);
+        t = 1000;
+    }
+
+    private int feed(float x, float y) {
+        t += INTERVAL_MS;
+        return engine.update(t, x, y, WIDTH, HEIGHT);
+    }
+
+    /**
+     * @return durationMs 동안 나온 실행 사건 수
+     */
+    private int hold(float x, float y, long durationMs) {
+        int triggers = 0;
+        long end = t + durationMs;
+        while (t < end) {
+            if (feed(x, y) == GazeZoneEngine.EVENT_TRIGGERED) triggers++;
+        }
+        return triggers;
+    }
+
+    @Test
+    public void steadyGaze_triggersOnceAfterConfirmAndTriggerTime() {
+        int confirmed = 0;
+        int milestones = 0;
+        long triggeredAt = -1;
+        long start = t;
+        while (t - start < 5000) {
+            int event = feed(WIDTH / 2, 50f);
+            if (event == GazeZoneEngine.EVENT_CONFIRMED) confirmed++;
+            if (event == GazeZoneEngine.EVENT_MILESTONE) milestones++;
+            if (event == GazeZoneEngine.EVENT_TRIGGERED) {
+                assertEquals(-1, triggeredAt);
+                triggeredAt = t - start;
+            }
+        }
+        assertEquals(1, confirmed);
+        assertEquals(2, milestones);
+        long expected = GazeZoneEngine.CONFIRM_MS + TRIGGER_MS;
+        assertTrue("실행 시점 " + triggeredAt, triggeredAt >= expected && triggeredAt <= expected + 2 * INTERVAL_MS);
+        assertEquals(CursorGlyph.ARROW_UP, engine.getZone(engine.getActiveZone()).getGlyph());
+    }
+
+    @Test
+    public void flickerAcrossEnterBoundary_keepsTimer() {
+        float inside = HEIGHT * 0.1f - 10f;
+        float justOutside = HEIGHT * 0.1f + 30f; // 진입 경계 밖, 이탈 여유 폭 안
+        long start = t;
+        long triggeredAt = -1;
+        int i = 0;
+        while (t - start < 5000 && triggeredAt < 0) {
+            int event = feed(WIDTH / 2, (i++ % 2 == 0) ? inside : justOutside);
+            if (event == GazeZoneEngine.EVENT_TRIGGERED) triggeredAt = t - start;
+            assertEquals(0, engine.getActiveZone());
+        }
+        assertTrue(triggeredAt > 0);
+    }
+
+    @Test
+    public void briefExcursionBeyondExitMargin_withinGrace_keepsTimer() {
+        hold(WIDTH / 2, 50f, 1500);
+        feed(WIDTH / 2, HEIGHT / 2);
+        feed(WIDTH / 2, HEIGHT / 2);
+        assertEquals(0, engine.getActiveZone());
+        assertEquals(1, hold(WIDTH / 2, 50f, 1800));
+    }
+
+    @Test
+    public void leavingBeyondGrace_resetsZone() {
+        hold(WIDTH / 2, 50f, 1500);
+        hold(WIDTH / 2, HEIGHT / 2, GazeZoneEngine.EXIT_GRACE_MS + 2 * INTERVAL_MS);
+        assertEquals(-1, engine.getActiveZone());
+
+        // 다시 들어오면 처음부터
+        assertEquals(0, hold(WIDTH / 2, 50f, 2000));
+        assertEquals(1, hold(WIDTH / 2, 50f, 1500));
+    }
+
+    @Test
+    public void bottomZone_mapsToScrollUp() {
+        feed(WIDTH / 2, HEIGHT - 20f);
+        GazeZone zone = engine.getZone(engine.getActiveZone());
+        assertEquals(EdgeScrollDetector.ScrollAction.SCROLL_UP, zone.getAction());
+        assertTrue(zone.isTextAbove());
+    }
+
+    @Test
+    public void earlierZoneInTable_winsOverlap() {
+        GazeZone corner = GazeZone.corner(GazeZone.Side.TOP, GazeZone.Side.RIGHT, 0.15f, 0.03f,
+                EdgeScrollDetector.ScrollAction.NONE, CursorGlyph.NONE);
+        GazeZone[] defaults = EdgeScrollDetector.defaultZones(0.1f);
+        engine = new GazeZoneEngine(new GazeZone[] {corner, defaults[0], defaults[1]}, new SampleClock(), TRIGGER_MS);
+
+        feed(WIDTH - 20f, 20f);
+        assertEquals(0, engine.getActiveZone());
+        engine.reset();
+        feed(WIDTH / 2, 20f);
+        assertEquals(1, engine.getActiveZone());
+    }
+}
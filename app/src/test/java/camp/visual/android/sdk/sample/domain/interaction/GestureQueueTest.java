@@ -0,0 +1,107 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 제스처 대기열: 클릭 우선, 같은 방향 스크롤 합치기 (긴 스크롤은 나누기), 가득 찰 때 스크롤부터 버리기
+ */
+public class GestureQueueTest {
+
+    @Test
+    public void clicksJumpAheadOfPendingScrolls() {
+        GestureQueue queue = new GestureQueue(8);
+        queue.offerScroll(GestureQueue.Type.SCROLL_UP, 0.2f, 1);
+        queue.offerClick(10f, 20f, 2);
+        queue.offerClick(30f, 40f, 3);
+
+        assertEquals(10f, queue.poll().getX(), 0f);
+        assertEquals(30f, queue.poll().getX(), 0f);
+        assertEquals(GestureQueue.Type.SCROLL_UP, queue.poll().getType());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void sameDirectionScrolls_mergeIntoOneLongerStroke() {
+        GestureQueue queue = new GestureQueue(8);
+        queue.offerScroll(GestureQueue.Type.SCROLL_DOWN, 0.2f, 1);
+        queue.offerScroll(GestureQueue.Type.SCROLL_DOWN, 0.2f, 2);
+
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.getMergedCount());
+        GestureQueue.Request request = queue.poll();
+        assertEquals(0.4f, request.getAmount(), 1e-6f);
+        assertEquals(1, request.getRequestedNanos());
+    }
+
+    @Test
+    public void mergedStroke_overflowsIntoNextStroke() {
+        GestureQueue queue = new GestureQueue(8);
+        for (int i = 0; i < 5; i++) {
+            queue.offerScroll(GestureQueue.Type.SCROLL_UP, 0.3f, i);
+        }
+
+        float total = 0f;
+        GestureQueue.Request request;
+        while ((request = queue.poll()) != null) {
+            assertEquals(GestureQueue.Type.SCROLL_UP, request.getType());
+            assertTrue(request.getAmount() <= GestureQueue.MAX_SCROLL_AMOUNT);
+            total += request.getAmount();
+        }
+        assertEquals(1.5f, total, 1e-5f);
+    }
+
+    @Test
+    public void longScroll_isSplitNotTruncated() {
+        GestureQueue queue = new GestureQueue(8);
+        queue.offerScroll(GestureQueue.Type.SCROLL_DOWN, 1.0f, 7);
+
+        assertEquals(3, queue.size());
+        assertEquals(GestureQueue.MAX_SCROLL_AMOUNT, queue.poll().getAmount(), 1e-6f);
+        assertEquals(GestureQueue.MAX_SCROLL_AMOUNT, queue.peek().getAmount(), 1e-6f);
+        assertEquals(7, queue.poll().getRequestedNanos());
+        assertEquals(1.0f - 2 * GestureQueue.MAX_SCROLL_AMOUNT, queue.poll().getAmount(), 1e-6f);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void oppositeScrolls_doNotMerge() {
+        GestureQueue queue = new GestureQueue(8);
+        queue.offerScroll(GestureQueue.Type.SCROLL_UP, 0.2f, 1);
+        queue.offerScroll(GestureQueue.Type.SCROLL_DOWN, 0.2f, 2);
+
+        assertEquals(2, queue.size());
+        assertEquals(GestureQueue.Type.SCROLL_UP, queue.poll().getType());
+        assertEquals(GestureQueue.Type.SCROLL_DOWN, queue.poll().getType());
+    }
+
+    @Test
+    public void full_dropsOldestScrollBeforeAnyClick() {
+        GestureQueue queue = new GestureQueue(3);
+        queue.offerClick(1f, 1f, 1);
+        queue.offerScroll(GestureQueue.Type.SCROLL_UP, 0.2f, 2);
+        queue.offerScroll(GestureQueue.Type.SCROLL_DOWN, 0.2f, 3);
+        queue.offerClick(2f, 2f, 4);
+
+        assertEquals(3, queue.size());
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(1f, queue.poll().getX(), 0f);
+        assertEquals(2f, queue.poll().getX(), 0f);
+        assertEquals(GestureQueue.Type.SCROLL_DOWN, queue.poll().getType());
+    }
+
+    @Test
+    public void fullOfClicks_dropsOldestClick() {
+        GestureQueue queue = new GestureQueue(2);
+        queue.offerClick(1f, 1f, 1);
+        queue.offerClick(2f, 2f, 2);
+        queue.offerClick(3f, 3f, 3);
+
+        assertEquals(2, queue.getMaxDepth());
+        assertEquals(2f, queue.poll().getX(), 0f);
+        assertEquals(3f, queue.poll().getX(), 0f);
+    }
+}
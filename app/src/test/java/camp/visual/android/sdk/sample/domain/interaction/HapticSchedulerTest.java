@@ -0,0 +1,92 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 진동 스케줄러: 한 번에 쌓인 알림 합치기, 합치기 창, 가득 찬 대기열, 여러 생산자
+ */
+public class HapticSchedulerTest {
+
+    private final List<HapticScheduler.Pulse> played = new ArrayList<>();
+    private HapticScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new HapticScheduler(played::add, null, null);
+    }
+
+    @Test
+    public void batchedPulses_playStrongestOnce() {
+        scheduler.post(HapticScheduler.Pulse.START);
+        scheduler.post(HapticScheduler.Pulse.TRIGGER);
+        scheduler.post(HapticScheduler.Pulse.MILESTONE);
+
+        assertTrue(scheduler.drain(1000));
+        assertEquals(1, played.size());
+        assertEquals(HapticScheduler.Pulse.TRIGGER, played.get(0));
+        assertEquals(2, scheduler.getCoalescedCount());
+        assertFalse(scheduler.drain(1001)); // 빈 대기열
+    }
+
+    @Test
+    public void weakerPulseWithinWindow_isDropped() {
+        scheduler.post(HapticScheduler.Pulse.MILESTONE);
+        scheduler.drain(1000);
+        scheduler.post(HapticScheduler.Pulse.MILESTONE);
+        assertFalse(scheduler.drain(1000 + HapticScheduler.COALESCE_MS - 1));
+
+        // 더 강한 알림은 창 안이어도 울린다
+        scheduler.post(HapticScheduler.Pulse.TRIGGER);
+        assertTrue(scheduler.drain(1000 + HapticScheduler.COALESCE_MS - 1));
+
+        // 창이 지나면 다시 울린다
+        scheduler.post(HapticScheduler.Pulse.START);
+        assertTrue(scheduler.drain(1000 + 3 * HapticScheduler.COALESCE_MS));
+        assertEquals(3, played.size());
+    }
+
+    @Test
+    public void fullQueue_dropsNewPulsesWithoutBlocking() {
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (scheduler.post(HapticScheduler.Pulse.START)) accepted++;
+        }
+        assertEquals(16, accepted);
+        assertEquals(100 - accepted, scheduler.getDroppedCount());
+
+        // 꺼낸 뒤에는 다시 들어간다 (링이 여러 바퀴 돌아도)
+        for (int round = 0; round < 5; round++) {
+            scheduler.drain(round * 1000L);
+            assertTrue(scheduler.post(HapticScheduler.Pulse.CLICK));
+        }
+    }
+
+    @Test
+    public void concurrentProducers_loseNothingBelowCapacity() throws InterruptedException {
+        final int perThread = 4;
+        Thread[] producers = new Thread[3];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    scheduler.post(HapticScheduler.Pulse.START);
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        scheduler.drain(1000);
+        assertEquals(0, scheduler.getDroppedCount());
+        assertEquals(1, scheduler.getPlayedCount());
+        assertEquals(producers.length * perThread - 1, scheduler.getCoalescedCount());
+    }
+}
@@ -0,0 +1,81 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 비례 엣지 스크롤: 띠 안쪽 깊이와 머문 시간에 따라 속도가 오르고, 띠를 벗어나면 바로 멈춤
+ */
+public class ProportionalEdgeScrollerTest {
+
+    private static final float HEIGHT = 2000f;
+    private static final long INTERVAL_MS = 33;
+
+    private ProportionalEdgeScroller scroller;
+    private long t;
+
+    @Before
+    public void setUp() {
+        scroller = new ProportionalEdgeScroller(new SampleClock());
+        t = 0;
+    }
+
+    @Test
+    public void briefGlanceIntoBand_doesNotScroll() {
+        float rate = feed(HEIGHT - 10f, 200);
+        assertEquals(0f, rate, 0f);
+        assertTrue(scroller.isInBand());
+    }
+
+    @Test
+    public void rateRampsUpWithTimeInBand() {
+        float early = feed(HEIGHT - 10f, 500);
+        float later = feed(HEIGHT - 10f, 1000);
+
+        assertTrue(early > 0f);
+        assertTrue(later > early);
+        assertTrue(later <= ProportionalEdgeScroller.MAX_RATE);
+    }
+
+    @Test
+    public void deeperGaze_scrollsFaster() {
+        float shallow = feed(HEIGHT * (1f - ProportionalEdgeScroller.BAND_RATIO / 2f), 2000);
+        scroller.reset();
+        float deep = feed(HEIGHT - 1f, 2000);
+
+        assertTrue(shallow > 0f);
+        assertTrue(deep > shallow * 3f);
+    }
+
+    @Test
+    public void topBand_scrollsTheOtherWay() {
+        assertTrue(feed(5f, 2000) < 0f);
+    }
+
+    @Test
+    public void leavingBand_stopsImmediately() {
+        feed(HEIGHT - 10f, 2000);
+        assertEquals(0f, feed(HEIGHT / 2f, INTERVAL_MS), 0f);
+        assertEquals(0f, scroller.getRate(), 0f);
+    }
+
+    @Test
+    public void reenteringBand_restartsOnset() {
+        feed(HEIGHT - 10f, 2000);
+        feed(HEIGHT / 2f, INTERVAL_MS);
+        assertEquals(0f, feed(HEIGHT - 10f, 100), 0f);
+    }
+
+    private float feed(float y, long durationMs) {
+        float rate = 0f;
+        long samples = Math.max(1, durationMs / INTERVAL_MS);
+        for (int i = 0; i < samples; i++) {
+            t += INTERVAL_MS;
+            rate = scroller.update(t, y, HEIGHT);
+        }
+        return rate;
+    }
+}
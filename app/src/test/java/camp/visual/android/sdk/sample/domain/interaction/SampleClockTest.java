@@ -0,0 +1,140 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.model.GapPolicy;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 샘플 시계와 간격 정책: 드롭/지연 구간이 응시 시간으로 쌓이지 않는지,
+ * 정책별로 타이머가 멈춤/감소/초기화되는지 실제 시간보다 빠르게 재생해 확인
+ */
+public class SampleClockTest {
+
+    private static final long INTERVAL_MS = 33;
+
+    @Test
+    public void regularSamples_advanceByTimestampDelta() {
+        SampleClock clock = new SampleClock();
+        for (long t = 5000; t <= 5000 + 33 * 30; t += INTERVAL_MS) {
+            clock.advance(t);
+        }
+        assertEquals(33 * 30, clock.now());
+        assertEquals(0, clock.getGapCount());
+
+        // 같은 타임스탬프는 두 번 진행하지 않는다 (감지기들이 시계를 공유)
+        clock.advance(5000 + 33 * 30);
+        assertEquals(33 * 30, clock.now());
+    }
+
+    @Test
+    public void pause_freezesTimerAcrossGap() {
+        SampleClock clock = new SampleClock(GapPolicy.PAUSE);
+        DwellTimer timer = new DwellTimer(clock);
+        long t = feed(clock, 0, 10);
+        timer.start();
+        t = feed(clock, t, 10);
+        long before = timer.elapsedMs();
+
+        // 파이프라인이 1초 밀림: 한 샘플 간격만 진행
+        t += 1000;
+        clock.advance(t);
+        assertEquals(before + INTERVAL_MS, timer.elapsedMs());
+        assertTrue(timer.isRunning());
+        assertEquals(1, clock.getGapCount());
+    }
+
+    @Test
+    public void decay_removesGapFromProgress() {
+        SampleClock clock = new SampleClock(GapPolicy.DECAY);
+        DwellTimer timer = new DwellTimer(clock);
+        long t = feed(clock, 0, 1);
+        timer.start();
+        t = feed(clock, t, 30); // 990ms 진행
+
+        t += 300 + INTERVAL_MS; // 300ms 끊김
+        clock.advance(t);
+        assertEquals(990 + INTERVAL_MS - 300, timer.elapsedMs());
+
+        // 진행도보다 긴 끊김은 0에서 다시 시작
+        t += 5000;
+        clock.advance(t);
+        assertEquals(0, timer.elapsedMs());
+        feed(clock, t, 3);
+        assertEquals(3 * INTERVAL_MS, timer.elapsedMs());
+    }
+
+    @Test
+    public void reset_stopsTimer() {
+        SampleClock clock = new SampleClock(GapPolicy.RESET);
+        DwellTimer timer = new DwellTimer(clock);
+        long t = feed(clock, 0, 1);
+        timer.start();
+        t = feed(clock, t, 10);
+
+        clock.advance(t + 500);
+        assertFalse(timer.isRunning());
+        assertEquals(0, timer.elapsedMs());
+    }
+
+    @Test
+    public void reportedDrop_isTreatedAsGapEvenWhenShort() {
+        SampleClock clock = new SampleClock(GapPolicy.RESET);
+        DwellTimer timer = new DwellTimer(clock);
+        long t = feed(clock, 0, 5);
+        timer.start();
+
+        clock.onDrop(t + INTERVAL_MS);
+        clock.advance(t + 2 * INTERVAL_MS); // 66ms: 간격 기준보다 짧지만 드롭이 보고됨
+        assertFalse(timer.isRunning());
+    }
+
+    @Test
+    public void dwellClick_ignoresStalledPipelineUnderPause() {
+        UserSettings settings = new UserSettings.Builder().fixationDurationMs(1000f).build();
+        ClickDetector detector = new ClickDetector(settings, new SampleClock(GapPolicy.PAUSE));
+
+        // 0.5초 응시 후 2초 동안 샘플이 끊겼다가 같은 자리에서 이어짐
+        long t = 0;
+        for (; t <= 500; t += INTERVAL_MS) {
+            assertFalse(detector.update(t, 500f, 500f));
+        }
+        t += 2000;
+        assertFalse(detector.update(t, 500f, 500f));
+
+        // 끊긴 2초는 쌓이지 않아 나머지 약 0.5초를 더 봐야 클릭된다
+        int samples = 1;
+        while (!detector.update(t += INTERVAL_MS, 500f, 500f)) {
+            samples++;
+            assertTrue(samples < 100);
+        }
+        assertEquals(15, samples, 1);
+    }
+
+    @Test
+    public void dwellClick_restartsAfterGapUnderReset() {
+        UserSettings settings = new UserSettings.Builder().fixationDurationMs(1000f).build();
+        ClickDetector detector = new ClickDetector(settings, new SampleClock(GapPolicy.RESET));
+
+        long t = 0;
+        for (; t <= 900; t += INTERVAL_MS) {
+            assertFalse(detector.update(t, 500f, 500f));
+        }
+        t += 500;
+        assertFalse(detector.update(t, 500f, 500f));
+        assertTrue(detector.getProgress() < 0.1f);
+    }
+
+    // t 다음부터 일정 간격으로 샘플을 넣고 마지막 타임스탬프를 반환
+    private static long feed(SampleClock clock, long t, int samples) {
+        for (int i = 0; i < samples; i++) {
+            t += INTERVAL_MS;
+            clock.advance(t);
+        }
+        return t;
+    }
+}
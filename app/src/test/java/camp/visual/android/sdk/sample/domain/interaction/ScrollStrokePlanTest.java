@@ -0,0 +1,56 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 이어 그리는 스크롤 스트로크: 구간이 끊김 없이 이어지고, 마지막 구간이 관성 속도를 만든다
+ */
+public class ScrollStrokePlanTest {
+
+    private static final float HEIGHT = 2000f;
+
+    @Test
+    public void segmentsAreContiguousAndCoverTheRequestedDrag() {
+        ScrollStrokePlan plan = ScrollStrokePlan.create(HEIGHT, 0.6f, true, 0f);
+
+        assertEquals(4, plan.getSegmentCount()); // 끌기 3 + 놓기 1
+        for (int i = 1; i < plan.getSegmentCount(); i++) {
+            assertEquals(plan.getSegmentEndY(i - 1), plan.getSegmentStartY(i), 0f);
+        }
+        float dragged = plan.getStartY() - plan.getSegmentEndY(plan.getSegmentCount() - 2);
+        assertEquals(0.6f * HEIGHT, dragged, 1e-3f);
+    }
+
+    @Test
+    public void releaseSegment_movesAtFlingVelocity() {
+        float velocity = 3000f;
+        ScrollStrokePlan plan = ScrollStrokePlan.create(HEIGHT, 0.2f, false, velocity);
+        int last = plan.getSegmentCount() - 1;
+
+        float distance = plan.getSegmentEndY(last) - plan.getSegmentStartY(last);
+        float measured = distance / plan.getSegmentDuration(last) * 1000f;
+        assertEquals(velocity, measured, 1f);
+        assertTrue(plan.isLastSegment(last));
+    }
+
+    @Test
+    public void zeroVelocity_holdsStillBeforeRelease() {
+        ScrollStrokePlan plan = ScrollStrokePlan.create(HEIGHT, 0.2f, true, 0f);
+        int last = plan.getSegmentCount() - 1;
+
+        assertEquals(plan.getSegmentStartY(last), plan.getSegmentEndY(last), 0f);
+    }
+
+    @Test
+    public void strokeStaysOnScreenAndCenteredForLongScrolls() {
+        ScrollStrokePlan plan = ScrollStrokePlan.create(HEIGHT, 2.0f, true, 5000f);
+        float end = plan.getSegmentEndY(plan.getSegmentCount() - 1);
+
+        assertTrue(plan.getStartY() - end <= ScrollStrokePlan.MAX_TRAVEL * HEIGHT + 1e-3f);
+        assertEquals(HEIGHT / 2f, (plan.getStartY() + end) / 2f, 1e-3f);
+        assertTrue(end >= 0f && plan.getStartY() <= HEIGHT);
+    }
+}
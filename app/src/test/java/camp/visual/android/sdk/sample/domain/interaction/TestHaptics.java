@@ -0,0 +1,20 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 다른 패키지의 테스트가 진동기 없이 HapticScheduler를 쓰도록 돕는다
+ */
+public final class TestHaptics {
+
+    private TestHaptics() {}
+
+    /**
+     * 아무것도 울리지 않는 스케줄러 (재생 스레드 없음, drain()으로 직접 비움)
+     */
+    public static HapticScheduler silent() {
+        return new HapticScheduler(pulse -> {}, null, null);
+    }
+
+    public static void drain(HapticScheduler scheduler, long nowMs) {
+        scheduler.drain(nowMs);
+    }
+}
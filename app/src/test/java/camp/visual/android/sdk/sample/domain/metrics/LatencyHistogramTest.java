@@ -0,0 +1,50 @@
+package camp.visual.android.sdk.sample.domain.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsAreContiguousAndMonotonic() {
+        int previous = -1;
+        for (long micros = 0; micros < 5_000_000; micros += (micros < 1000 ? 1 : 997)) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(index >= previous);
+            assertTrue(micros <= LatencyHistogram.bucketUpperBound(index));
+            previous = index;
+        }
+    }
+
+    @Test
+    public void percentilesStayWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordMicros(i * 10L); // 10us ~ 100ms 균등 분포
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertWithin(50_000, histogram.getPercentileMicros(50));
+        assertWithin(95_000, histogram.getPercentileMicros(95));
+        assertWithin(99_000, histogram.getPercentileMicros(99));
+        assertEquals(100_000, histogram.getMaxMicros());
+        assertEquals(100_000, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    public void resetClearsCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(5_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected ~" + expected + " but was " + actual,
+                actual >= expected && actual <= expected * 1.07);
+    }
+}
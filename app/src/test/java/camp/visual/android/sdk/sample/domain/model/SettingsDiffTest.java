@@ -0,0 +1,72 @@
+package camp.visual.android.sdk.sample.domain.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 설정 차이: 바뀐 필드만 잡는지, 값 변경과 단계 구성 변경을 구분하는지
+ */
+public class SettingsDiffTest {
+
+    @Test
+    public void identicalSnapshots_haveNoDiff() {
+        SettingsDiff diff = SettingsDiff.between(new UserSettings.Builder().build(), new UserSettings.Builder().build());
+        assertTrue(diff.isEmpty());
+        assertFalse(diff.requiresRebuild());
+    }
+
+    @Test
+    public void valueChange_updatesInPlace() {
+        UserSettings before = new UserSettings.Builder().build();
+        UserSettings after = new UserSettings.Builder()
+                .fixationDurationMs(before.getFixationDurationMs() + 500f)
+                .cursorOffsetX(12f)
+                .build();
+
+        SettingsDiff diff = SettingsDiff.between(before, after);
+        assertTrue(diff.contains(SettingsDiff.Field.FIXATION_DURATION));
+        assertTrue(diff.contains(SettingsDiff.Field.CURSOR_OFFSET_X));
+        assertFalse(diff.contains(SettingsDiff.Field.CURSOR_OFFSET_Y));
+        assertFalse(diff.requiresRebuild());
+    }
+
+    @Test
+    public void featureToggle_requiresRebuild() {
+        UserSettings before = new UserSettings.Builder().build();
+        UserSettings after = new UserSettings.Builder()
+                .blinkDetectionEnabled(!before.isBlinkDetectionEnabled())
+                .build();
+
+        SettingsDiff diff = SettingsDiff.between(before, after);
+        assertTrue(diff.contains(SettingsDiff.Field.BLINK_DETECTION_ENABLED));
+        assertTrue(diff.requiresRebuild());
+    }
+
+    @Test
+    public void presetChange_reportsDerivedFilterParameters() {
+        UserSettings before = new UserSettings.Builder().oneEuroFilterPreset(OneEuroFilterPreset.BALANCED).build();
+        UserSettings after = new UserSettings.Builder().oneEuroFilterPreset(OneEuroFilterPreset.CUSTOM)
+                .oneEuroMinCutoff(before.getOneEuroMinCutoff() * 2)
+                .oneEuroFreq(before.getOneEuroFreq())
+                .oneEuroBeta(before.getOneEuroBeta())
+                .oneEuroDCutoff(before.getOneEuroDCutoff())
+                .build();
+
+        SettingsDiff diff = SettingsDiff.between(before, after);
+        assertTrue(diff.contains(SettingsDiff.Field.ONE_EURO_PRESET));
+        assertTrue(diff.contains(SettingsDiff.Field.ONE_EURO_MIN_CUTOFF));
+        assertFalse(diff.contains(SettingsDiff.Field.ONE_EURO_BETA));
+        assertFalse(diff.requiresRebuild());
+    }
+
+    @Test
+    public void missingPrevious_treatsEverythingAsChanged() {
+        SettingsDiff diff = SettingsDiff.between(null, new UserSettings.Builder().build());
+        for (SettingsDiff.Field field : SettingsDiff.Field.values()) {
+            assertTrue(diff.contains(field));
+        }
+        assertTrue(diff.requiresRebuild());
+    }
+}
@@ -0,0 +1,85 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import org.junit.Test;
+
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 예측 단계: 이동 중에는 앞선 위치로 외삽하고, 고정 응시 중에는 위치를 바꾸지 않는지 확인
+ */
+public class CursorPredictionStageTest {
+
+    private static final float FRAME_MS = 10f;
+    private static final long SAMPLE_AGE_MS = 20;
+
+    private final GazeSample sample = new GazeSample();
+
+    private void feed(CursorPredictionStage stage, long timestamp, float x, float y) {
+        sample.begin(timestamp, x, y, TrackingState.SUCCESS, false, 0L, timestamp + SAMPLE_AGE_MS);
+        stage.process(sample);
+    }
+
+    @Test
+    public void constantVelocity_isExtrapolatedBySampleAgePlusFrame() {
+        CursorPredictionStage stage = new CursorPredictionStage(FRAME_MS);
+
+        // 33ms 간격, 2px/ms (2000px/s) 로 오른쪽 이동
+        long t = 1000;
+        float x = 100f;
+        for (int i = 0; i < 20; i++) {
+            feed(stage, t, x, 500f);
+            t += 33;
+            x += 66f;
+        }
+
+        float lastX = x - 66f;
+        float expected = lastX + 2f * (SAMPLE_AGE_MS + FRAME_MS);
+        assertEquals(expected, sample.getX(), 1f);
+        assertEquals(500f, sample.getY(), 0.001f);
+    }
+
+    @Test
+    public void fixation_isNotPredicted() {
+        CursorPredictionStage stage = new CursorPredictionStage(FRAME_MS);
+
+        // 고정 응시 중 ±2px 떨림
+        long t = 1000;
+        for (int i = 0; i < 30; i++) {
+            float jitter = (i % 2 == 0) ? 2f : -2f;
+            feed(stage, t, 300f + jitter, 300f - jitter);
+            assertEquals(300f + jitter, sample.getX(), 0f);
+            assertEquals(300f - jitter, sample.getY(), 0f);
+            t += 33;
+        }
+    }
+
+    @Test
+    public void sampleGap_restartsVelocityEstimate() {
+        CursorPredictionStage stage = new CursorPredictionStage(FRAME_MS);
+
+        long t = 1000;
+        float x = 0f;
+        for (int i = 0; i < 10; i++) {
+            feed(stage, t, x, 0f);
+            t += 33;
+            x += 66f;
+        }
+        assertTrue(sample.getX() > x - 66f);
+
+        // 추적이 끊긴 뒤 첫 샘플은 예측 없이 그대로
+        feed(stage, t + 500, 1000f, 0f);
+        assertEquals(1000f, sample.getX(), 0f);
+    }
+
+    @Test
+    public void predictionWeight_rampsBetweenThresholds() {
+        assertEquals(0f, CursorPredictionStage.predictionWeight(0f), 0f);
+        assertEquals(0f, CursorPredictionStage.predictionWeight(CursorPredictionStage.FIXATION_SPEED_PX_PER_S), 0f);
+        assertEquals(0.5f, CursorPredictionStage.predictionWeight(
+                (CursorPredictionStage.FIXATION_SPEED_PX_PER_S + CursorPredictionStage.FULL_PREDICTION_SPEED_PX_PER_S) / 2f), 1e-4f);
+        assertEquals(1f, CursorPredictionStage.predictionWeight(5000f), 0f);
+    }
+}
@@ -0,0 +1,85 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
+import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.domain.interaction.SampleClock;
+import camp.visual.android.sdk.sample.domain.interaction.TestHaptics;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 고정 클릭 단계: 앞선 단계가 샘플을 가져간 동안에는 응시 시간이 쌓이지 않고, 클릭은 응시 중심에서 나간다
+ */
+public class DwellClickStageTest {
+
+    private static final long INTERVAL_MS = 33;
+    private static final float WIDTH = 1080f;
+    private static final float HEIGHT = 2000f;
+
+    private final UserSettings settings = new UserSettings.Builder()
+            .fixationDurationMs(1000f)
+            .aoiRadius(40f)
+            .clickEnabled(true)
+            .scrollEnabled(true)
+            .edgeScrollEnabled(true)
+            .edgeMarginRatio(0.05f)
+            .edgeTriggerMs(3000)
+            .build();
+    private final SampleClock clock = new SampleClock();
+    private final EdgeScrollStage edgeScroll =
+            new EdgeScrollStage(new EdgeScrollDetector(settings, TestHaptics.silent(), clock));
+    private final DwellClickStage dwellClick = new DwellClickStage(new ClickDetector(settings, clock));
+    private final GazeSample sample = new GazeSample();
+
+    private GazeSample.Action feed(long t, float x, float y) {
+        sample.begin(t, x, y, TrackingState.SUCCESS, false, 0L, 0L);
+        sample.setScreenSize(WIDTH, HEIGHT);
+        edgeScroll.process(sample);
+        dwellClick.process(sample);
+        return sample.getAction();
+    }
+
+    @Test
+    public void edgeZoneGlance_restartsDwell() {
+        long t = 0;
+        // 클릭 직전까지 응시
+        for (; t < 800; t += INTERVAL_MS) {
+            assertEquals(GazeSample.Action.NONE, feed(t, 500f, 1000f));
+        }
+        // 스크롤이 되지 않을 만큼만 상단 가장자리를 본다
+        for (long end = t + 1000; t < end; t += INTERVAL_MS) {
+            assertEquals(GazeSample.Action.NONE, feed(t, 500f, 20f));
+        }
+
+        // 돌아온 뒤에는 처음부터 다시 재므로 돌아온 첫 샘플에서 클릭되지 않는다
+        long returnAt = t;
+        long clickAt = -1;
+        for (; t < returnAt + 2000; t += INTERVAL_MS) {
+            if (feed(t, 500f, 1000f) == GazeSample.Action.CLICK) {
+                clickAt = t;
+                break;
+            }
+        }
+        assertTrue("돌아온 뒤 " + (clickAt - returnAt) + "ms에 클릭", clickAt >= returnAt + 1000);
+    }
+
+    @Test
+    public void click_isPlacedAtFixationCenter() {
+        long t = 0;
+        GazeSample.Action action = GazeSample.Action.NONE;
+        for (int i = 0; t < 2000 && action == GazeSample.Action.NONE; t += INTERVAL_MS, i++) {
+            // 중심 (500, 1000) 주위를 ±15px로 번갈아 흔들림
+            float offset = i % 2 == 0 ? 15f : -15f;
+            action = feed(t, 500f + offset, 1000f);
+        }
+
+        assertEquals(GazeSample.Action.CLICK, action);
+        assertEquals(500f, sample.getX(), 15f / 2);
+        assertEquals(1000f, sample.getY(), 0f);
+    }
+}
@@ -0,0 +1,188 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import camp.visual.android.sdk.sample.domain.interaction.BlinkClickDetector;
+import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.domain.interaction.HapticScheduler;
+import camp.visual.android.sdk.sample.domain.interaction.ProportionalEdgeScroller;
+import camp.visual.android.sdk.sample.domain.interaction.SampleClock;
+import camp.visual.android.sdk.sample.domain.interaction.TestHaptics;
+import camp.visual.android.sdk.sample.domain.metrics.LatencyTracer;
+import camp.visual.android.sdk.sample.domain.model.CursorFrame;
+import camp.visual.android.sdk.sample.domain.model.EdgeScrollMode;
+import camp.visual.android.sdk.sample.domain.model.GazeFilterType;
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 샘플당 처리 경로(SDK 콜백 → 파이프라인 단계 → 커서 프레임 게시/소비)가
+ * 정상 상태에서 힙 할당 없이 동작하는지 검사한다.
+ * 기본 설정 경로(1€ 필터, 응시형 엣지 스크롤과 진동 알림, 지연 시간 기록)와
+ * 그 밖의 필터/비례 엣지 스크롤/커서 예측 경로를 모두 지난다.
+ */
+public class HotPathAllocationTest {
+
+    private static final int WARMUP_SAMPLES = 20_000;
+    private static final int MEASURED_SAMPLES = 100_000;
+    private static final int MEASURE_ROUNDS = 3;
+
+    private final GazeSampleRing ring = new GazeSampleRing(16);
+    private final CursorFrameSlot slot = new CursorFrameSlot();
+    private final HapticScheduler haptics = TestHaptics.silent();
+    private final LatencyTracer latencyTracer = new LatencyTracer();
+    private final ClickTargetIndex targets = new ClickTargetIndex.Builder()
+            .add(1, 480, 780, 540, 840)
+            .add(1, 0, 900, 1080, 1000)
+            .build();
+
+    private int publishedCount;
+    private int actionCount;
+    private float lastDrawnX;
+
+    /**
+     * 기본 설정에서 서비스가 만드는 구성 (+ 깜빡임 클릭, 커서 예측)
+     */
+    private GazePipeline defaultPipeline() {
+        UserSettings settings = new UserSettings.Builder()
+                .blinkDetectionEnabled(true)
+                .cursorPredictionEnabled(true)
+                .build();
+        SampleClock clock = new SampleClock();
+        ClickDetector clickDetector = new ClickDetector(settings, clock);
+        return new GazePipeline.Builder()
+                .source(source())
+                .filter(new OneEuroFilterStage(settings))
+                .prediction(new CursorPredictionStage(1000f / 60f))
+                .correction(new CursorOffsetStage(settings))
+                .correction(new TargetSnapStage(() -> targets, 60f, 0f))
+                .clamp(clamp())
+                .interaction(new BlinkClickStage(new BlinkClickDetector(settings), clickDetector::reset))
+                .interaction(new EdgeScrollStage(new EdgeScrollDetector(settings, haptics, clock)))
+                .interaction(new DwellClickStage(clickDetector))
+                .sink(new CursorFrameSink(slot, () -> publishedCount++))
+                .sink(new GazeActionSink((action, x, y) -> actionCount++))
+                .sink(new LatencyTraceSink(latencyTracer))
+                .build();
+    }
+
+    /**
+     * 1€ 이외의 필터 + 비례 엣지 스크롤
+     */
+    private GazePipeline alternativePipeline(GazeFilterType filterType) {
+        UserSettings settings = new UserSettings.Builder()
+                .gazeFilterType(filterType)
+                .edgeScrollMode(EdgeScrollMode.PROPORTIONAL)
+                .build();
+        SampleClock clock = new SampleClock();
+        return new GazePipeline.Builder()
+                .source(source())
+                .filter(new GazeFilterStage(filterType))
+                .correction(new CursorOffsetStage(settings))
+                .correction(new TargetSnapStage(() -> targets, 60f, 0f))
+                .clamp(clamp())
+                .interaction(new ProportionalEdgeScrollStage(new ProportionalEdgeScroller(clock)))
+                .interaction(new DwellClickStage(new ClickDetector(settings, clock)))
+                .sink(new CursorFrameSink(slot, () -> publishedCount++))
+                .sink(new GazeActionSink((action, x, y) -> actionCount++))
+                .sink(new LatencyTraceSink(latencyTracer))
+                .build();
+    }
+
+    private static GazeSourceStage source() {
+        GazeSourceStage source = new GazeSourceStage(() -> false);
+        source.setPassEyesClosed(true);
+        return source;
+    }
+
+    private static ScreenClampStage clamp() {
+        ScreenClampStage clamp = new ScreenClampStage();
+        clamp.setScreenSize(1080, 2340);
+        return clamp;
+    }
+
+    @Test
+    public void defaultSamplePathDoesNotAllocate() {
+        assertNoSteadyStateAllocation(defaultPipeline());
+        assertTrue("edge scroll should have triggered", actionCount > 0);
+        assertTrue("haptic pulses should have been played", haptics.getPlayedCount() > 0);
+    }
+
+    @Test
+    public void alternativeFiltersAndProportionalScrollDoNotAllocate() {
+        for (GazeFilterType type : GazeFilterType.values()) {
+            if (type != GazeFilterType.ONE_EURO) {
+                assertNoSteadyStateAllocation(alternativePipeline(type));
+            }
+        }
+    }
+
+    /**
+     * 예열 뒤 측정 구간은 정확히 0바이트여야 한다 (여유 값 없음).
+     * 예열 직후 첫 구간에서는 C2 재컴파일/역최적화가 스칼라 치환된 객체를 수백 바이트 힙에 되살릴 수 있어
+     * (-Xint에서는 항상 0) 최대 MEASURE_ROUNDS 구간까지 이어서 재고, 그중 한 구간이라도 0이면 통과한다.
+     * 샘플당 1바이트라도 할당하면 모든 구간이 100KB를 넘으므로 이 재시도로는 누수를 가릴 수 없다.
+     */
+    private void assertNoSteadyStateAllocation(GazePipeline pipeline) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        GazeSampleRing.SampleHandler handler = pipeline::process;
+
+        runSamples(handler, 0, WARMUP_SAMPLES);
+
+        // 측정 호출 자체의 할당량을 먼저 보정
+        long calibrationStart = threads.getThreadAllocatedBytes(threadId);
+        long calibrationEnd = threads.getThreadAllocatedBytes(threadId);
+        long overhead = calibrationEnd - calibrationStart;
+
+        long[] allocated = new long[MEASURE_ROUNDS];
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            // 타임스탬프가 뒤로 가지 않도록 앞 구간에 이어서 보낸다
+            int start = WARMUP_SAMPLES + round * MEASURED_SAMPLES;
+            long before = threads.getThreadAllocatedBytes(threadId);
+            runSamples(handler, start, MEASURED_SAMPLES);
+            long after = threads.getThreadAllocatedBytes(threadId);
+            allocated[round] = after - before - overhead;
+            if (allocated[round] == 0) {
+                return;
+            }
+        }
+        fail("bytes allocated per " + MEASURED_SAMPLES + " samples: " + Arrays.toString(allocated));
+    }
+
+    private void runSamples(GazeSampleRing.SampleHandler handler, int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            // 고정 응시와 이동을 번갈아 만들어 클릭/리셋 분기를 모두 통과시킴
+            float x = 500f + ((i / 90) % 2 == 0 ? (i % 3) : (i % 400));
+            // 가끔 하단 띠로 내려가 연속 스크롤 속도도 만들어지게 함
+            float y = (i / 300) % 4 == 3 ? 2300f : 800f + (i % 5);
+            TrackingState state = (i % 50 == 0) ? TrackingState.FACE_MISSING : TrackingState.SUCCESS;
+            // 짧은 깜빡임 두 번(클릭)과 자연스러운 깜빡임을 섞음
+            int phase = i % 120;
+            boolean eyesClosed = phase == 30 || phase == 31 || phase == 36 || phase == 37 || phase == 80 || phase == 81;
+
+            ring.offer(i * 33L, x, y, state, eyesClosed);
+            ring.drain(handler);
+
+            // 재생 스레드 대신 같은 스레드에서 진동 대기열을 비움
+            TestHaptics.drain(haptics, i * 33L);
+
+            CursorFrame frame = slot.poll();
+            if (frame != null) {
+                lastDrawnX = frame.getX();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package camp.visual.android.sdk.sample.domain.pipeline;
+
+import org.junit.Test;
+
+import camp.visual.android.sdk.sample.domain.interaction.ClickTargetIndex;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 대상 끌어당김: 작은 대상은 중심으로, 큰 축은 안쪽으로만, 인접 대상 사이에서는 현재 대상 유지,
+ * 화면 좌표 색인과 앱 영역 커서 좌표 사이의 상태바 차이 보정
+ */
+public class TargetSnapStageTest {
+
+    private static final float RADIUS = 60f;
+
+    private final GazeSample sample = new GazeSample();
+
+    private void feed(TargetSnapStage stage, float x, float y) {
+        sample.begin(0L, x, y, TrackingState.SUCCESS, false, 0L, 0L);
+        stage.process(sample);
+    }
+
+    @Test
+    public void smallTarget_snapsToCenter() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder().add(1, 100, 100, 160, 140).build();
+        TargetSnapStage stage = new TargetSnapStage(() -> index, RADIUS, 0f);
+
+        feed(stage, 180, 150);
+        assertEquals(130f, sample.getX(), 0f);
+        assertEquals(120f, sample.getY(), 0f);
+    }
+
+    @Test
+    public void wideTarget_snapsOnlyAcrossItsShortAxis() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder().add(1, 0, 300, 1080, 400).build();
+        TargetSnapStage stage = new TargetSnapStage(() -> index, RADIUS, 0f);
+
+        feed(stage, 600, 280);
+        assertEquals(600f, sample.getX(), 0f);
+        assertEquals(350f, sample.getY(), 0f);
+    }
+
+    @Test
+    public void noTargetInRange_leavesCursor() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder().add(1, 100, 100, 160, 140).build();
+        TargetSnapStage stage = new TargetSnapStage(() -> index, RADIUS, 0f);
+
+        feed(stage, 500, 500);
+        assertEquals(500f, sample.getX(), 0f);
+        assertEquals(500f, sample.getY(), 0f);
+    }
+
+    @Test
+    public void adjacentTargets_keepCurrentUntilGazeEntersOther() {
+        ClickTargetIndex index = new ClickTargetIndex.Builder()
+                .add(1, 100, 100, 160, 140)
+                .add(1, 200, 100, 260, 140)
+                .build();
+        TargetSnapStage stage = new TargetSnapStage(() -> index, RADIUS, 0f);
+
+        feed(stage, 150, 120);
+        assertEquals(130f, sample.getX(), 0f);
+
+        // 두 대상 사이, 오른쪽이 더 가깝지만 현재 대상 유지
+        feed(stage, 185, 120);
+        assertEquals(130f, sample.getX(), 0f);
+
+        // 오른쪽 대상 안을 직접 보면 전환
+        feed(stage, 210, 120);
+        assertEquals(230f, sample.getX(), 0f);
+    }
+
+    @Test
+    public void screenCoordinateTargets_snapInCursorSpace() {
+        float statusBar = 80f;
+        // 화면 좌표 y 100~140인 버튼 = 커서 좌표 y 20~60
+        ClickTargetIndex index = new ClickTargetIndex.Builder().add(1, 100, 100, 160, 140).build();
+        TargetSnapStage stage = new TargetSnapStage(() -> index, RADIUS, statusBar);
+
+        feed(stage, 130, 45);
+        assertEquals(130f, sample.getX(), 0f);
+        assertEquals(40f, sample.getY(), 0f);
+        // 실행 시 상태바 높이를 더하면 버튼 중심 (화면 y 120)
+        assertEquals(120f, sample.getY() + statusBar, 0f);
+
+        // 커서 y 200 = 화면 y 280 이므로 반경 밖 - 붙지 않음
+        stage.reset();
+        feed(stage, 130, 200);
+        assertEquals(200f, sample.getY(), 0f);
+    }
+}